@@ -19,12 +19,20 @@ package io.spring.github.actions.nexussync;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -42,12 +50,24 @@ public class NexusSyncProperties {
 	@Valid
 	private final Token token = new Token();
 
+	@Valid
+	private final Scan scan = new Scan();
+
 	@Valid
 	private final Checksum checksum = new Checksum();
 
+	@Valid
+	private final Bundle bundle = new Bundle();
+
 	@Valid
 	private final Deployment deployment = new Deployment();
 
+	@Valid
+	private final Retry retry = new Retry();
+
+	@Valid
+	private final Metrics metrics = new Metrics();
+
 	@NotBlank
 	private String directory = "nexus";
 
@@ -75,14 +95,30 @@ public class NexusSyncProperties {
 		this.directory = directory;
 	}
 
+	public Scan getScan() {
+		return this.scan;
+	}
+
 	public Checksum getChecksum() {
 		return this.checksum;
 	}
 
+	public Bundle getBundle() {
+		return this.bundle;
+	}
+
 	public Deployment getDeployment() {
 		return this.deployment;
 	}
 
+	public Retry getRetry() {
+		return this.retry;
+	}
+
+	public Metrics getMetrics() {
+		return this.metrics;
+	}
+
 	@Validated
 	public static class Token {
 
@@ -110,11 +146,49 @@ public class NexusSyncProperties {
 
 	}
 
+	@Validated
+	public static class Scan {
+
+		@NotNull
+		private List<String> include = new ArrayList<>();
+
+		@NotNull
+		private List<String> exclude = new ArrayList<>();
+
+		public List<String> getInclude() {
+			return this.include;
+		}
+
+		public void setInclude(List<String> include) {
+			this.include = include;
+		}
+
+		public List<String> getExclude() {
+			return this.exclude;
+		}
+
+		public void setExclude(List<String> exclude) {
+			this.exclude = exclude;
+		}
+
+	}
+
 	@Validated
 	public static class Checksum {
 
 		private boolean failOnExistingChecksums = true;
 
+		private boolean verifyExistingChecksums;
+
+		@Positive
+		private Integer threads;
+
+		private boolean inMemory;
+
+		private boolean whileBundling;
+
+		private Path cache;
+
 		public boolean isFailOnExistingChecksums() {
 			return this.failOnExistingChecksums;
 		}
@@ -123,6 +197,132 @@ public class NexusSyncProperties {
 			this.failOnExistingChecksums = failOnExistingChecksums;
 		}
 
+		public boolean isVerifyExistingChecksums() {
+			return this.verifyExistingChecksums;
+		}
+
+		public void setVerifyExistingChecksums(boolean verifyExistingChecksums) {
+			this.verifyExistingChecksums = verifyExistingChecksums;
+		}
+
+		public Integer getThreads() {
+			return this.threads;
+		}
+
+		public void setThreads(Integer threads) {
+			this.threads = threads;
+		}
+
+		public boolean isInMemory() {
+			return this.inMemory;
+		}
+
+		public void setInMemory(boolean inMemory) {
+			this.inMemory = inMemory;
+		}
+
+		public boolean isWhileBundling() {
+			return this.whileBundling;
+		}
+
+		public void setWhileBundling(boolean whileBundling) {
+			this.whileBundling = whileBundling;
+		}
+
+		public Path getCache() {
+			return this.cache;
+		}
+
+		public void setCache(Path cache) {
+			this.cache = cache;
+		}
+
+	}
+
+	@Validated
+	public static class Bundle {
+
+		@Min(-1)
+		@Max(9)
+		private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+		/**
+		 * Maximum size of a bundle which is accepted by the Central Portal.
+		 */
+		public static final DataSize MAX_SIZE_LIMIT = DataSize.ofGigabytes(1);
+
+		@Positive
+		private int threads = 1;
+
+		private boolean streaming;
+
+		private boolean pipelined;
+
+		@NotNull
+		private DataSize maxSize = MAX_SIZE_LIMIT;
+
+		private boolean split = true;
+
+		private Path cache;
+
+		public int getCompressionLevel() {
+			return this.compressionLevel;
+		}
+
+		public void setCompressionLevel(int compressionLevel) {
+			this.compressionLevel = compressionLevel;
+		}
+
+		public int getThreads() {
+			return this.threads;
+		}
+
+		public void setThreads(int threads) {
+			this.threads = threads;
+		}
+
+		public boolean isStreaming() {
+			return this.streaming;
+		}
+
+		public void setStreaming(boolean streaming) {
+			this.streaming = streaming;
+		}
+
+		public boolean isPipelined() {
+			return this.pipelined;
+		}
+
+		public void setPipelined(boolean pipelined) {
+			this.pipelined = pipelined;
+		}
+
+		public DataSize getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(DataSize maxSize) {
+			Assert.isTrue(maxSize == null || maxSize.compareTo(MAX_SIZE_LIMIT) <= 0,
+					"'maxSize' must not be larger than the Central Portal's limit of 1GB");
+			this.maxSize = maxSize;
+		}
+
+		public boolean isSplit() {
+			return this.split;
+		}
+
+		public void setSplit(boolean split) {
+			this.split = split;
+		}
+
+		public Path getCache() {
+			return this.cache;
+		}
+
+		public void setCache(Path cache) {
+			this.cache = cache;
+		}
+
 	}
 
 	@Validated
@@ -137,6 +337,18 @@ public class NexusSyncProperties {
 
 		private Duration sleepBetweenRetries = Duration.ofMinutes(1);
 
+		private boolean adaptivePolling = true;
+
+		private Duration pendingPollInterval = Duration.ofSeconds(2);
+
+		private Duration initialPollBackoff = Duration.ofSeconds(5);
+
+		private Duration uploadProgressInterval = Duration.ofSeconds(10);
+
+		private Path historyFile;
+
+		private Path checkpointFile;
+
 		public PublishingType getPublishingType() {
 			return this.publishingType;
 		}
@@ -169,6 +381,54 @@ public class NexusSyncProperties {
 			this.sleepBetweenRetries = sleepBetweenRetries;
 		}
 
+		public boolean isAdaptivePolling() {
+			return this.adaptivePolling;
+		}
+
+		public void setAdaptivePolling(boolean adaptivePolling) {
+			this.adaptivePolling = adaptivePolling;
+		}
+
+		public Duration getPendingPollInterval() {
+			return this.pendingPollInterval;
+		}
+
+		public void setPendingPollInterval(Duration pendingPollInterval) {
+			this.pendingPollInterval = pendingPollInterval;
+		}
+
+		public Duration getInitialPollBackoff() {
+			return this.initialPollBackoff;
+		}
+
+		public void setInitialPollBackoff(Duration initialPollBackoff) {
+			this.initialPollBackoff = initialPollBackoff;
+		}
+
+		public Duration getUploadProgressInterval() {
+			return this.uploadProgressInterval;
+		}
+
+		public void setUploadProgressInterval(Duration uploadProgressInterval) {
+			this.uploadProgressInterval = uploadProgressInterval;
+		}
+
+		public Path getHistoryFile() {
+			return this.historyFile;
+		}
+
+		public void setHistoryFile(Path historyFile) {
+			this.historyFile = historyFile;
+		}
+
+		public Path getCheckpointFile() {
+			return this.checkpointFile;
+		}
+
+		public void setCheckpointFile(Path checkpointFile) {
+			this.checkpointFile = checkpointFile;
+		}
+
 	}
 
 	public enum PublishingType {
@@ -185,4 +445,67 @@ public class NexusSyncProperties {
 
 	}
 
+	@Validated
+	public static class Retry {
+
+		@NotNull
+		private Duration initialBackoff = Duration.ofSeconds(1);
+
+		@NotNull
+		private Duration maxBackoff = Duration.ofSeconds(30);
+
+		@NotNull
+		private Duration budget = Duration.ofMinutes(5);
+
+		public Duration getInitialBackoff() {
+			return this.initialBackoff;
+		}
+
+		public void setInitialBackoff(Duration initialBackoff) {
+			this.initialBackoff = initialBackoff;
+		}
+
+		public Duration getMaxBackoff() {
+			return this.maxBackoff;
+		}
+
+		public void setMaxBackoff(Duration maxBackoff) {
+			this.maxBackoff = maxBackoff;
+		}
+
+		public Duration getBudget() {
+			return this.budget;
+		}
+
+		public void setBudget(Duration budget) {
+			this.budget = budget;
+		}
+
+	}
+
+	@Validated
+	public static class Metrics {
+
+		private boolean enabled = true;
+
+		private Path reportFile;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Path getReportFile() {
+			return this.reportFile;
+		}
+
+		public void setReportFile(Path reportFile) {
+			this.reportFile = reportFile;
+		}
+
+	}
+
 }
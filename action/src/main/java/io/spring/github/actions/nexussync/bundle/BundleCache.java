@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.nio.file.Path;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for bundles. Bundles are looked up by the files they have been created from, so
+ * that a rerun with identical input files can skip creating checksums and the bundle.
+ *
+ * @author Moritz Halbritter
+ */
+public interface BundleCache {
+
+	/**
+	 * Returns the cached bundle for the given files.
+	 * @param root the root directory
+	 * @param files the files the bundle has been created from
+	 * @return the cached bundle or {@code null} if there's none
+	 */
+	@Nullable
+	Bundle get(Path root, FileSet files);
+
+	/**
+	 * Puts the given bundle into the cache. The bundle file may be moved into the cache.
+	 * @param root the root directory
+	 * @param files the files the bundle has been created from
+	 * @param bundle the bundle
+	 * @return the cached bundle or, if it couldn't be cached, the uncached bundle
+	 */
+	Bundle put(Path root, FileSet files, Bundle bundle);
+
+	/**
+	 * Removes least recently used bundles from the cache. Bundles which have been put
+	 * into or returned from this cache are kept.
+	 */
+	void prune();
+
+	/**
+	 * Returns a {@link BundleCache} which doesn't cache anything.
+	 * @return a cache which doesn't cache anything
+	 */
+	static BundleCache none() {
+		return new BundleCache() {
+
+			@Override
+			public Bundle get(Path root, FileSet files) {
+				return null;
+			}
+
+			@Override
+			public Bundle put(Path root, FileSet files, Bundle bundle) {
+				return bundle;
+			}
+
+			@Override
+			public void prune() {
+			}
+
+		};
+	}
+
+}
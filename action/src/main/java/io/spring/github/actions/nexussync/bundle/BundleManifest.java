@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The input manifest of a bundle: the relative path, size and last-modified time of every
+ * input file. Checksum files which have been generated next to an input file are left
+ * out, so a rerun in the same workspace results in the same manifest. The manifest is
+ * built from the file attributes which have been collected while scanning, the files
+ * aren't read.
+ *
+ * @author Moritz Halbritter
+ */
+public final class BundleManifest {
+
+	private static final Set<String> CHECKSUM_EXTENSIONS = Set.of("md5", "sha1");
+
+	private final FileSet files;
+
+	private final SortedMap<String, Path> entries;
+
+	private BundleManifest(FileSet files, SortedMap<String, Path> entries) {
+		this.files = files;
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns a SHA-256 hash of this manifest.
+	 * @param prefixes additional values which are hashed before the manifest, for example
+	 * the settings which influence the bundle contents
+	 * @return the hex encoded hash
+	 */
+	public String hash(String... prefixes) {
+		MessageDigest digest = createDigest();
+		for (String prefix : prefixes) {
+			update(digest, prefix);
+		}
+		this.entries.forEach((name, file) -> {
+			update(digest, name);
+			update(digest, Long.toString(this.files.getSize(file)));
+			update(digest, Long.toString(this.files.getLastModified(file)));
+		});
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		// Separator, so that different splits of the same bytes result in different hashes
+		digest.update((byte) 0);
+	}
+
+	private MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not available", ex);
+		}
+	}
+
+	/**
+	 * Creates the manifest of the given files.
+	 * @param root the root directory the paths in the manifest are relative to
+	 * @param files the input files
+	 * @return the manifest
+	 */
+	public static BundleManifest of(Path root, FileSet files) {
+		SortedMap<String, Path> entries = new TreeMap<>();
+		for (Path file : files) {
+			if (!isGeneratedChecksumFile(file, files)) {
+				entries.put(root.relativize(file).toString(), file);
+			}
+		}
+		return new BundleManifest(files, entries);
+	}
+
+	private static boolean isGeneratedChecksumFile(Path file, FileSet files) {
+		String name = file.toString();
+		String extension = StringUtils.getFilenameExtension(name);
+		if (extension == null || !CHECKSUM_EXTENSIONS.contains(extension)) {
+			return false;
+		}
+		return files.contains(Path.of(StringUtils.stripFilenameExtension(name)));
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+
+/**
+ * Estimates the size of a bundle before it is created, using only the sizes of the files.
+ * The estimate is a conservative upper bound: it assumes the worst case of deflate for
+ * every entry and includes the zip headers and the checksum entries which might be added
+ * for every file. Stored entries are covered by the same bound, as they are either
+ * stored verbatim or, while bundling, deflated with level 0.
+ *
+ * @author Moritz Halbritter
+ */
+final class BundleSizeEstimator {
+
+	// Local header, central directory header and data descriptor, all with Zip64 fields
+	// and extended timestamps, plus some slack
+	private static final long ENTRY_OVERHEAD = 192;
+
+	// MD5 and SHA-1 checksum entries which might be added for every file
+	private static final int CHECKSUM_ENTRIES = 2;
+
+	private static final long CHECKSUM_SIZE = 40;
+
+	/**
+	 * Bytes needed by the end of central directory records, including Zip64.
+	 */
+	static final long ARCHIVE_OVERHEAD = 1024;
+
+	/**
+	 * Estimates an upper bound of the bytes the given file needs in a bundle, including
+	 * the checksum entries which might be created for it.
+	 * @param root the root directory
+	 * @param files the files, providing the size captured while scanning
+	 * @param file the file
+	 * @return the estimated size in bytes
+	 */
+	long estimate(Path root, FileSet files, Path file) {
+		long name = root.relativize(file).toString().getBytes(StandardCharsets.UTF_8).length;
+		long entry = ENTRY_OVERHEAD + 2 * name;
+		long checksums = CHECKSUM_ENTRIES * (ENTRY_OVERHEAD + 2 * (name + 5) + estimateData(CHECKSUM_SIZE));
+		return estimateData(files.getSize(file)) + entry + checksums;
+	}
+
+	private long estimateData(long size) {
+		// Deflate may expand incompressible data by a few bytes per block, which also
+		// covers the block headers of level 0
+		return size + (size / 1000) + 16;
+	}
+
+}
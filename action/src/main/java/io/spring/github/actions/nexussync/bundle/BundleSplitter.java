@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.maven.Component;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Plans the bundles for a set of Maven components, before any file is hashed or
+ * compressed. The size of the bundles is estimated with a {@link BundleSizeEstimator}.
+ * If splitting is enabled, the components are split into multiple bundles which stay
+ * below the maximum size. A component is never split across bundles, so its jar, pom,
+ * signatures and checksums are always deployed together. If splitting is disabled, a
+ * single bundle is planned and planning fails if it might exceed the maximum size.
+ *
+ * @author Moritz Halbritter
+ */
+public final class BundleSplitter {
+
+	private final BundleSizeEstimator estimator;
+
+	private final DataSize maxSize;
+
+	private final boolean enabled;
+
+	/**
+	 * Creates a new instance.
+	 * @param maxSize the maximum size of a bundle
+	 * @param enabled whether splitting is enabled, otherwise all components must fit into
+	 * a single bundle
+	 */
+	public BundleSplitter(DataSize maxSize, boolean enabled) {
+		this(new BundleSizeEstimator(), maxSize, enabled);
+	}
+
+	BundleSplitter(BundleSizeEstimator estimator, DataSize maxSize, boolean enabled) {
+		this.estimator = estimator;
+		this.maxSize = maxSize;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Splits the given components into groups which each fit into a single bundle. The
+	 * components are ordered by their directory, so the same components always result in
+	 * the same bundles.
+	 * @param root the root directory
+	 * @param components the components to split
+	 * @return the files of every bundle
+	 */
+	public List<FileSet> split(Path root, List<Component> components) {
+		long limit = this.maxSize.toBytes() - BundleSizeEstimator.ARCHIVE_OVERHEAD;
+		List<Component> sorted = components.stream().sorted(Comparator.comparing(Component::getDirectory)).toList();
+		if (!this.enabled) {
+			FileSet.Builder files = FileSet.builder();
+			long size = 0;
+			for (Component component : sorted) {
+				files.addAll(component.getFiles());
+				size += estimate(root, component.getFiles());
+			}
+			if (size > limit) {
+				throw new IllegalStateException(
+						"Bundle might need up to %d bytes, but the maximum bundle size is %s and splitting is disabled"
+							.formatted(size, this.maxSize));
+			}
+			return List.of(files.build());
+		}
+		List<FileSet> result = new ArrayList<>();
+		FileSet.Builder current = null;
+		long currentSize = 0;
+		for (Component component : sorted) {
+			long size = estimate(root, component.getFiles());
+			if (size > limit) {
+				throw componentTooLarge(component, size);
+			}
+			if (current != null && currentSize + size > limit) {
+				result.add(current.build());
+				current = null;
+			}
+			if (current == null) {
+				current = FileSet.builder();
+				currentSize = 0;
+			}
+			current.addAll(component.getFiles());
+			currentSize += size;
+		}
+		if (current != null) {
+			result.add(current.build());
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the given components lazily, while they are still being found. Every
+	 * returned bundle yields components until the next component would exceed the
+	 * maximum bundle size. The next bundle must only be requested once all components of
+	 * the previous bundle have been consumed.
+	 * @param root the root directory
+	 * @param components the components
+	 * @return the bundles, each yielding components
+	 */
+	public Iterator<Iterator<Component>> split(Path root, Iterator<Component> components) {
+		return new LazySplit(root, components);
+	}
+
+	private IllegalStateException componentTooLarge(Component component, long size) {
+		return new IllegalStateException("Component '%s' needs up to %d bytes, but the maximum bundle size is %s"
+			.formatted(component, size, this.maxSize));
+	}
+
+	private long estimate(Path root, FileSet files) {
+		long size = 0;
+		for (Path file : files) {
+			size += this.estimator.estimate(root, files, file);
+		}
+		return size;
+	}
+
+	private final class LazySplit implements Iterator<Iterator<Component>> {
+
+		private final Path root;
+
+		private final Iterator<Component> components;
+
+		private final long limit = BundleSplitter.this.maxSize.toBytes() - BundleSizeEstimator.ARCHIVE_OVERHEAD;
+
+		@Nullable
+		private Component next;
+
+		private long nextSize;
+
+		LazySplit(Path root, Iterator<Component> components) {
+			this.root = root;
+			this.components = components;
+		}
+
+		private boolean fetch() {
+			if (this.next == null && this.components.hasNext()) {
+				Component component = this.components.next();
+				this.nextSize = estimate(this.root, component.getFiles());
+				if (BundleSplitter.this.enabled && this.nextSize > this.limit) {
+					throw componentTooLarge(component, this.nextSize);
+				}
+				this.next = component;
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return fetch();
+		}
+
+		@Override
+		public Iterator<Component> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return new Iterator<>() {
+
+				private long size;
+
+				private boolean empty = true;
+
+				@Override
+				public boolean hasNext() {
+					if (!fetch()) {
+						return false;
+					}
+					long newSize = this.size + LazySplit.this.nextSize;
+					if (!BundleSplitter.this.enabled && newSize > LazySplit.this.limit) {
+						throw new IllegalStateException(
+								"Bundle might need up to %d bytes, but the maximum bundle size is %s and splitting is disabled"
+									.formatted(newSize, BundleSplitter.this.maxSize));
+					}
+					return this.empty || newSize <= LazySplit.this.limit;
+				}
+
+				@Override
+				public Component next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					Component result = LazySplit.this.next;
+					this.size += LazySplit.this.nextSize;
+					this.empty = false;
+					LazySplit.this.next = null;
+					return result;
+				}
+
+			};
+		}
+
+	}
+
+}
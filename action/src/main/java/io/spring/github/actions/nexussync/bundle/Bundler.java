@@ -16,8 +16,17 @@
 
 package io.spring.github.actions.nexussync.bundle;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.function.Function;
 
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector;
+import io.spring.github.actions.nexussync.checksum.Checksums;
 import io.spring.github.actions.nexussync.file.FileSet;
 
 /**
@@ -33,6 +42,122 @@ public interface Bundler {
 	 * @param files the file
 	 * @return the created bundle
 	 */
-	Bundle createBundle(Path root, FileSet files);
+	default Bundle createBundle(Path root, FileSet files) {
+		return createBundle(root, files, Checksums.empty());
+	}
+
+	/**
+	 * Creates a bundle from the given files in the given root directory and the given
+	 * in-memory checksums. The checksums are written directly into the bundle. If a
+	 * checksum file exists in the given files, too, the in-memory checksum is used.
+	 * @param root the root directory
+	 * @param files the file
+	 * @param checksums the checksums
+	 * @return the created bundle
+	 */
+	default Bundle createBundle(Path root, FileSet files, Checksums checksums) {
+		return writeToTempFile(createStreamingBundle(root, files, checksums));
+	}
+
+	/**
+	 * Creates a bundle from the given files in the given root directory. The checksums
+	 * of the files are collected with the given collector while the files are written to
+	 * the bundle, and each file is directly followed by its checksum entries.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksumCollector the checksum collector
+	 * @return the created bundle
+	 */
+	default Bundle createBundle(Path root, FileSet files, ChecksumCollector checksumCollector) {
+		return writeToTempFile(createStreamingBundle(root, files, checksumCollector));
+	}
+
+	/**
+	 * Creates a bundle which isn't written to disk, but streamed to its consumer.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksums the checksums
+	 * @return the streaming bundle
+	 */
+	default StreamingBundle createStreamingBundle(Path root, FileSet files, Checksums checksums) {
+		return (outputStream) -> writeBundle(root, files, checksums, outputStream);
+	}
+
+	/**
+	 * Creates a bundle which isn't written to disk, but streamed to its consumer. The
+	 * checksums of the files are collected with the given collector while streaming.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksumCollector the checksum collector
+	 * @return the streaming bundle
+	 */
+	default StreamingBundle createStreamingBundle(Path root, FileSet files, ChecksumCollector checksumCollector) {
+		return (outputStream) -> writeBundle(root, files, checksumCollector, outputStream);
+	}
+
+	/**
+	 * Creates a bundle which isn't written to disk, but streamed to its consumer, while
+	 * its files are still being found. The files arrive in groups, for example one group
+	 * per directory, and the groups are written in the order in which they arrive. The
+	 * checksums of every group are collected with a collector created for that group.
+	 * @param root the root directory
+	 * @param files the groups of files, may block until the next group is available
+	 * @param checksumCollectors creates the checksum collector for a group of files
+	 * @return the streaming bundle
+	 */
+	default StreamingBundle createStreamingBundle(Path root, Iterator<FileSet> files,
+			Function<FileSet, ChecksumCollector> checksumCollectors) {
+		return (outputStream) -> writeBundle(root, files, checksumCollectors, outputStream);
+	}
+
+	/**
+	 * Writes a bundle from the given files in the given root directory and the given
+	 * in-memory checksums to the given output stream. The output stream is not closed.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksums the checksums
+	 * @param outputStream the output stream to write the bundle to
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeBundle(Path root, FileSet files, Checksums checksums, OutputStream outputStream) throws IOException;
+
+	/**
+	 * Writes a bundle from the given files in the given root directory to the given
+	 * output stream, collecting the checksums of the files while they are written. The
+	 * output stream is not closed.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksumCollector the checksum collector
+	 * @param outputStream the output stream to write the bundle to
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeBundle(Path root, FileSet files, ChecksumCollector checksumCollector, OutputStream outputStream)
+			throws IOException;
+
+	/**
+	 * Writes a bundle from the given groups of files in the given root directory to the
+	 * given output stream, collecting the checksums of every group while its files are
+	 * written. The output stream is not closed.
+	 * @param root the root directory
+	 * @param files the groups of files, may block until the next group is available
+	 * @param checksumCollectors creates the checksum collector for a group of files
+	 * @param outputStream the output stream to write the bundle to
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeBundle(Path root, Iterator<FileSet> files, Function<FileSet, ChecksumCollector> checksumCollectors,
+			OutputStream outputStream) throws IOException;
+
+	private static Bundle writeToTempFile(StreamingBundle bundle) {
+		try {
+			Path file = Files.createTempFile("bundle", ".zip");
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+				bundle.writeTo(outputStream);
+			}
+			return Bundle.of(file);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to create bundle", ex);
+		}
+	}
 
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import io.spring.github.actions.nexussync.NexusSyncProperties;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for bundle related beans.
+ *
+ * @author Moritz Halbritter
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(NexusSyncProperties.class)
+class BundlerConfiguration {
+
+	@Bean
+	Bundler bundler(NexusSyncProperties properties) {
+		NexusSyncProperties.Bundle bundle = properties.getBundle();
+		if (bundle.getThreads() > 1) {
+			return new ParallelBundlerImpl(EntryCompression.standard(), bundle.getCompressionLevel(),
+					bundle.getThreads());
+		}
+		return new BundlerImpl(EntryCompression.standard(), bundle.getCompressionLevel());
+	}
+
+	@Bean
+	BundleSplitter bundleSplitter(NexusSyncProperties properties) {
+		NexusSyncProperties.Bundle bundle = properties.getBundle();
+		return new BundleSplitter(bundle.getMaxSize(), bundle.isSplit());
+	}
+
+	@Bean
+	BundleCache bundleCache(NexusSyncProperties properties, Logger logger) {
+		NexusSyncProperties.Bundle bundle = properties.getBundle();
+		if (bundle.getCache() == null) {
+			return BundleCache.none();
+		}
+		return new FileBundleCache(logger, bundle.getCache().toAbsolutePath(), getFingerprint(properties));
+	}
+
+	private String getFingerprint(NexusSyncProperties properties) {
+		NexusSyncProperties.Bundle bundle = properties.getBundle();
+		NexusSyncProperties.Checksum checksum = properties.getChecksum();
+		// Everything which changes the contents of the bundle for the same input files.
+		// The bundler isn't included, as the sequential and the parallel one create
+		// equivalent bundles
+		return "v1 compression-level=%d checksums-while-bundling=%s".formatted(bundle.getCompressionLevel(),
+				checksum.isWhileBundling());
+	}
+
+}
@@ -23,50 +23,169 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector;
+import io.spring.github.actions.nexussync.checksum.Checksums;
 import io.spring.github.actions.nexussync.file.FileSet;
 
-import org.springframework.stereotype.Component;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
- * Default implementation for {@link Bundler}. Creates compressed zip bundles.
+ * Default implementation for {@link Bundler}. Creates zip bundles. Entries are deflated
+ * or, if the {@link EntryCompression} stores them, deflated without compression, so that
+ * every file is read only once. Entries are written in the order of their names and with
+ * a fixed timestamp, so the same files always result in the same bundle. Files which
+ * arrive in groups are sorted within their group.
  *
  * @author Moritz Halbritter
  */
-@Component
 class BundlerImpl implements Bundler {
 
+	/**
+	 * Timestamp of all bundle entries.
+	 */
+	static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final EntryCompression entryCompression;
+
+	private final int compressionLevel;
+
+	BundlerImpl() {
+		this(EntryCompression.standard(), Deflater.DEFAULT_COMPRESSION);
+	}
+
+	BundlerImpl(EntryCompression entryCompression, int compressionLevel) {
+		Assert.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+				|| (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION),
+				"'compressionLevel' must be between -1 and 9");
+		this.entryCompression = entryCompression;
+		this.compressionLevel = compressionLevel;
+	}
+
 	@Override
-	public Bundle createBundle(Path root, FileSet files) {
-		try {
-			Path bundle = Files.createTempFile("bundle", ".zip");
-			try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(bundle), StandardCharsets.UTF_8)) {
-				zip.setMethod(ZipOutputStream.DEFLATED);
-				for (Path file : files) {
-					ZipEntry entry = createZipEntry(root, file);
-					zip.putNextEntry(entry);
-					copyFileContents(file, zip);
-					zip.closeEntry();
-				}
+	public void writeBundle(Path root, FileSet files, Checksums checksums, OutputStream outputStream)
+			throws IOException {
+		ZipOutputStream zip = createZipOutputStream(outputStream);
+		SortedMap<String, Path> entries = new TreeMap<>();
+		for (Path file : files) {
+			entries.put(getEntryName(root, file), file);
+		}
+		checksums.forEach((file, checksum) -> entries.put(getEntryName(root, file), file));
+		for (Path file : entries.values()) {
+			String checksum = checksums.get(file);
+			if (checksum != null) {
+				writeChecksum(root, file, checksum, zip);
+				continue;
 			}
-			return Bundle.of(bundle);
+			writeEntry(root, file, zip, null);
 		}
-		catch (IOException ex) {
-			throw new UncheckedIOException("Failed to create bundle", ex);
+		// Don't close the zip stream, the given output stream is owned by the caller
+		zip.finish();
+	}
+
+	@Override
+	public void writeBundle(Path root, FileSet files, ChecksumCollector checksumCollector, OutputStream outputStream)
+			throws IOException {
+		writeBundle(root, List.of(files).iterator(), (group) -> checksumCollector, outputStream);
+	}
+
+	@Override
+	public void writeBundle(Path root, Iterator<FileSet> files, Function<FileSet, ChecksumCollector> checksumCollectors,
+			OutputStream outputStream) throws IOException {
+		ZipOutputStream zip = createZipOutputStream(outputStream);
+		while (files.hasNext()) {
+			FileSet group = files.next();
+			ChecksumCollector checksumCollector = checksumCollectors.apply(group);
+			writeEntries(root, group, checksumCollector, zip);
+			checksumCollector.finish();
+		}
+		// Don't close the zip stream, the given output stream is owned by the caller
+		zip.finish();
+	}
+
+	private void writeEntries(Path root, FileSet files, ChecksumCollector checksumCollector, ZipOutputStream zip)
+			throws IOException {
+		SortedMap<String, Path> entries = new TreeMap<>();
+		for (Path file : files) {
+			if (!checksumCollector.isReplaced(file)) {
+				entries.put(getEntryName(root, file), file);
+			}
+		}
+		for (Path file : entries.values()) {
+			ChecksumCollector.FileDigest digest = checksumCollector.start(file);
+			writeEntry(root, file, zip, digest);
+			if (digest != null) {
+				digest.finish().forEach((checksumFile, checksum) -> writeChecksum(root, checksumFile, checksum, zip));
+			}
 		}
 	}
 
-	private void copyFileContents(Path file, OutputStream outputStream) throws IOException {
+	private void writeEntry(Path root, Path file, ZipOutputStream zip, @Nullable ChecksumCollector.FileDigest digest)
+			throws IOException {
+		ZipEntry entry = createZipEntry(root, file);
+		// Stored entries need their CRC up front, which would need another pass
+		// over the file. Deflating without compression avoids that.
+		boolean stored = this.entryCompression.isStored(entry.getName());
+		zip.setLevel((stored) ? Deflater.NO_COMPRESSION : this.compressionLevel);
+		zip.putNextEntry(entry);
+		copyFileContents(file, zip, digest);
+		zip.closeEntry();
+	}
+
+	private ZipOutputStream createZipOutputStream(OutputStream outputStream) {
+		ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+		zip.setMethod(ZipOutputStream.DEFLATED);
+		zip.setLevel(this.compressionLevel);
+		return zip;
+	}
+
+	private void copyFileContents(Path file, OutputStream outputStream,
+			@Nullable ChecksumCollector.FileDigest digest) throws IOException {
 		try (InputStream inputStream = Files.newInputStream(file)) {
-			inputStream.transferTo(outputStream);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, read);
+				if (digest != null) {
+					digest.update(buffer, 0, read);
+				}
+			}
+		}
+	}
+
+	private void writeChecksum(Path root, Path file, String checksum, ZipOutputStream zip) {
+		try {
+			zip.setLevel(this.compressionLevel);
+			zip.putNextEntry(createZipEntry(root, file));
+			zip.write(checksum.getBytes(StandardCharsets.UTF_8));
+			zip.closeEntry();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write checksum '%s' to bundle".formatted(file), ex);
 		}
 	}
 
 	private ZipEntry createZipEntry(Path root, Path file) throws IOException {
-		String name = root.relativize(file).toString();
-		return new ZipEntry(name);
+		ZipEntry entry = new ZipEntry(getEntryName(root, file));
+		// A fixed timestamp, independent of the time zone, keeps bundles reproducible
+		entry.setTimeLocal(ENTRY_TIME);
+		return entry;
+	}
+
+	private String getEntryName(Path root, Path file) {
+		return root.relativize(file).toString();
 	}
 
 }
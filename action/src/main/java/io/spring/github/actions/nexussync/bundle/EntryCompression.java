@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Strategy which decides whether a bundle entry is compressed. Entries which are
+ * already compressed, like jars, are stored as-is because deflating them again costs
+ * CPU time but barely reduces their size.
+ *
+ * @author Moritz Halbritter
+ */
+final class EntryCompression {
+
+	private static final Set<String> DEFAULT_STORED_EXTENSIONS = Set.of("jar", "war", "ear", "rar", "aar", "zip",
+			"jmod", "klib", "gz", "tgz", "bz2", "xz", "7z", "png", "jpg", "jpeg", "gif");
+
+	private final Set<String> storedExtensions;
+
+	private EntryCompression(Set<String> storedExtensions) {
+		this.storedExtensions = storedExtensions;
+	}
+
+	/**
+	 * Whether the entry with the given name should be stored without compression.
+	 * @param name the name of the entry
+	 * @return whether the entry should be stored
+	 */
+	boolean isStored(String name) {
+		String extension = StringUtils.getFilenameExtension(name);
+		if (extension == null) {
+			return false;
+		}
+		return this.storedExtensions.contains(extension.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Returns the default strategy, which stores already compressed archives and images
+	 * and deflates everything else.
+	 * @return the default strategy
+	 */
+	static EntryCompression standard() {
+		return new EntryCompression(DEFAULT_STORED_EXTENSIONS);
+	}
+
+	/**
+	 * Returns a strategy which deflates all entries.
+	 * @return the strategy
+	 */
+	static EntryCompression deflateAll() {
+		return new EntryCompression(Set.of());
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.system.Logger;
+
+/**
+ * {@link BundleCache} which stores bundles in a directory. A bundle is keyed by a SHA-256
+ * hash of its {@link BundleManifest input manifest} and a fingerprint of the settings
+ * which influence the bundle contents. Only the most recently used bundles are kept when
+ * the cache is pruned, bundles which are in use by this run are never removed. Failures
+ * are logged, a bundle which can't be stored is used without caching it.
+ *
+ * @author Moritz Halbritter
+ */
+class FileBundleCache implements BundleCache {
+
+	private static final int MAX_ENTRIES = 10;
+
+	private final Logger logger;
+
+	private final Path directory;
+
+	private final String fingerprint;
+
+	private final Set<Path> used = ConcurrentHashMap.newKeySet();
+
+	FileBundleCache(Logger logger, Path directory, String fingerprint) {
+		this.logger = logger;
+		this.directory = directory;
+		this.fingerprint = fingerprint;
+	}
+
+	@Override
+	public Bundle get(Path root, FileSet files) {
+		Path file = getFile(root, files);
+		if (!Files.isRegularFile(file)) {
+			this.logger.debug("No cached bundle found at '{}'", file);
+			return null;
+		}
+		try {
+			// Mark as recently used
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+		}
+		catch (IOException ex) {
+			// The bundle can be used nevertheless, it might just be pruned too early
+			this.logger.debug("Failed to mark cached bundle '{}' as used: {}", file, ex.getMessage());
+		}
+		this.used.add(file);
+		return Bundle.of(file);
+	}
+
+	@Override
+	public Bundle put(Path root, FileSet files, Bundle bundle) {
+		Path file = getFile(root, files);
+		Bundle uncached = bundle;
+		try {
+			Files.createDirectories(this.directory);
+			// The bundle might be on another file system, moving it into the cache
+			// directory first makes the final move atomic
+			Path tempFile = Files.createTempFile(this.directory, "bundle", ".tmp");
+			Files.move(bundle.getFile(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+			uncached = Bundle.of(tempFile);
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			this.logger.debug("Stored bundle in cache '{}'", file);
+			this.used.add(file);
+			return Bundle.of(file);
+		}
+		catch (IOException ex) {
+			this.logger.log("Failed to store bundle in cache '{}', ignoring it: {}", file, ex.getMessage());
+			return uncached;
+		}
+	}
+
+	@Override
+	public void prune() {
+		if (!Files.isDirectory(this.directory)) {
+			return;
+		}
+		try {
+			List<Path> bundles;
+			try (Stream<Path> stream = Files.list(this.directory)) {
+				bundles = stream.filter((path) -> path.getFileName().toString().endsWith(".zip"))
+					.filter((path) -> !this.used.contains(path))
+					.sorted(Comparator.comparing(this::getLastModifiedTime).reversed())
+					.toList();
+			}
+			int keep = Math.max(0, MAX_ENTRIES - this.used.size());
+			for (Path bundle : bundles.subList(Math.min(keep, bundles.size()), bundles.size())) {
+				this.logger.debug("Removing least recently used bundle '{}' from cache", bundle);
+				Files.deleteIfExists(bundle);
+			}
+		}
+		catch (IOException ex) {
+			this.logger.debug("Failed to prune bundle cache '{}': {}", this.directory, ex.getMessage());
+		}
+	}
+
+	private FileTime getLastModifiedTime(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		}
+		catch (IOException ex) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	private Path getFile(Path root, FileSet files) {
+		return this.directory.resolve(getKey(root, files) + ".zip");
+	}
+
+	/**
+	 * Returns the cache key for the given files.
+	 * @param root the root directory
+	 * @param files the files
+	 * @return the cache key
+	 */
+	String getKey(Path root, FileSet files) {
+		return BundleManifest.of(root, files).hash(this.fingerprint);
+	}
+
+}
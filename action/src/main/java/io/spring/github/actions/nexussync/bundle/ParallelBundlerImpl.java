@@ -0,0 +1,370 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector;
+import io.spring.github.actions.nexussync.checksum.Checksums;
+import io.spring.github.actions.nexussync.file.FileSet;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Bundler} which prepares the zip entries in parallel. Each entry is read once by
+ * a worker thread and deflated, or stored as-is, into its own buffer, which spills to a
+ * temporary file if the entry is large. The prepared entries are then written to the
+ * archive in the order of their names. To bound the memory and disk usage, only a
+ * limited number of entries is prepared ahead of the entry which is currently written.
+ * Files which arrive in groups are sorted within their group, and the next group is only
+ * requested when it's needed to keep the workers busy.
+ *
+ * @author Moritz Halbritter
+ */
+class ParallelBundlerImpl implements Bundler {
+
+	private static final int DEFAULT_IN_MEMORY_THRESHOLD = 4 * 1024 * 1024;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final EntryCompression entryCompression;
+
+	private final int compressionLevel;
+
+	private final int threads;
+
+	private final int inMemoryThreshold;
+
+	ParallelBundlerImpl(EntryCompression entryCompression, int compressionLevel, int threads) {
+		this(entryCompression, compressionLevel, threads, DEFAULT_IN_MEMORY_THRESHOLD);
+	}
+
+	ParallelBundlerImpl(EntryCompression entryCompression, int compressionLevel, int threads,
+			int inMemoryThreshold) {
+		Assert.isTrue(threads > 0, "'threads' must be positive");
+		this.entryCompression = entryCompression;
+		this.compressionLevel = compressionLevel;
+		this.threads = threads;
+		this.inMemoryThreshold = inMemoryThreshold;
+	}
+
+	@Override
+	public void writeBundle(Path root, FileSet files, Checksums checksums, OutputStream outputStream)
+			throws IOException {
+		List<EntrySource> sources = new ArrayList<>();
+		for (Path file : files) {
+			if (!checksums.contains(file)) {
+				sources.add(new EntrySource(getEntryName(root, file), file, null, ChecksumCollector.none(), false));
+			}
+		}
+		checksums.forEach((file, checksum) -> sources.add(new EntrySource(getEntryName(root, file), null,
+				checksum.getBytes(StandardCharsets.UTF_8), ChecksumCollector.none(), false)));
+		sources.sort(Comparator.comparing(EntrySource::name));
+		writeBundle(root, sources.iterator(), outputStream);
+	}
+
+	@Override
+	public void writeBundle(Path root, FileSet files, ChecksumCollector checksumCollector, OutputStream outputStream)
+			throws IOException {
+		writeBundle(root, List.of(files).iterator(), (group) -> checksumCollector, outputStream);
+	}
+
+	@Override
+	public void writeBundle(Path root, Iterator<FileSet> files, Function<FileSet, ChecksumCollector> checksumCollectors,
+			OutputStream outputStream) throws IOException {
+		writeBundle(root, new GroupedEntrySources(root, files, checksumCollectors), outputStream);
+	}
+
+	private void writeBundle(Path root, Iterator<EntrySource> sources, OutputStream outputStream) throws IOException {
+		ZipArchiveWriter zip = new ZipArchiveWriter(outputStream, BundlerImpl.ENTRY_TIME);
+		ExecutorService executor = Executors.newFixedThreadPool(this.threads, createThreadFactory());
+		Deque<PendingEntry> pending = new ArrayDeque<>();
+		try {
+			submit(sources, pending, executor, root);
+			while (!pending.isEmpty()) {
+				PendingEntry next = pending.removeFirst();
+				PreparedEntry entry = getResult(next.entry());
+				try {
+					entry.writeTo(zip);
+				}
+				finally {
+					entry.release();
+				}
+				if (next.source().lastInGroup()) {
+					// Fail before the archive is finished, like the sequential bundler
+					next.source().checksumCollector().finish();
+				}
+				submit(sources, pending, executor, root);
+			}
+			zip.finish();
+		}
+		finally {
+			// Running entries can't be cancelled, they have to finish before their buffers
+			// can be released. Entries which haven't been started never will be
+			executor.shutdownNow();
+			awaitTermination(executor);
+			releaseAll(pending);
+		}
+	}
+
+	private String getEntryName(Path root, Path file) {
+		return root.relativize(file).toString();
+	}
+
+	private void submit(Iterator<EntrySource> sources, Deque<PendingEntry> pending, ExecutorService executor,
+			Path root) {
+		int maxPending = this.threads * 2;
+		while (pending.size() < maxPending && sources.hasNext()) {
+			EntrySource source = sources.next();
+			pending.add(new PendingEntry(source, executor.submit(() -> prepare(root, source))));
+		}
+	}
+
+	private PreparedEntry prepare(Path root, EntrySource source) throws IOException {
+		ChecksumCollector.FileDigest digest = (source.file() != null)
+				? source.checksumCollector().start(source.file()) : null;
+		PreparedEntry entry = prepareEntry(source, digest);
+		if (digest != null) {
+			List<PreparedEntry> checksumEntries = new ArrayList<>();
+			digest.finish()
+				.forEach((file, checksum) -> checksumEntries.add(prepareChecksum(getEntryName(root, file), checksum)));
+			return entry.withChecksumEntries(checksumEntries);
+		}
+		return entry;
+	}
+
+	private PreparedEntry prepareEntry(EntrySource source, @Nullable ChecksumCollector.FileDigest digest)
+			throws IOException {
+		// Stored entries are buffered as well, so that the file is only read once
+		boolean stored = this.entryCompression.isStored(source.name());
+		CRC32 crc = new CRC32();
+		SpillBuffer buffer = new SpillBuffer(this.inMemoryThreshold);
+		Deflater deflater = (!stored) ? new Deflater(this.compressionLevel, true) : null;
+		long size = 0;
+		try (InputStream inputStream = source.open();
+				OutputStream outputStream = (deflater != null)
+						? new DeflaterOutputStream(buffer, deflater, BUFFER_SIZE) : buffer) {
+			byte[] bytes = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(bytes)) != -1) {
+				crc.update(bytes, 0, read);
+				if (digest != null) {
+					digest.update(bytes, 0, read);
+				}
+				outputStream.write(bytes, 0, read);
+				size += read;
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			buffer.release();
+			throw ex;
+		}
+		finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+		ZipArchiveWriter.Header header = (stored) ? ZipArchiveWriter.Header.stored(source.name(), crc.getValue(), size)
+				: ZipArchiveWriter.Header.deflated(source.name(), crc.getValue(), buffer.size(), size);
+		return new PreparedEntry(header, buffer, List.of());
+	}
+
+	private PreparedEntry prepareChecksum(String name, String checksum) {
+		try {
+			return prepareEntry(new EntrySource(name, null, checksum.getBytes(StandardCharsets.UTF_8),
+					ChecksumCollector.none(), false), null);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write checksum '%s' to bundle".formatted(name), ex);
+		}
+	}
+
+	private PreparedEntry getResult(Future<PreparedEntry> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Got interrupted while creating bundle", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to create bundle", ex.getCause());
+		}
+	}
+
+	private void awaitTermination(ExecutorService executor) {
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				// Keep waiting, the workers only read files and react to interrupts
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void releaseAll(Deque<PendingEntry> pending) {
+		for (PendingEntry pendingEntry : pending) {
+			Future<PreparedEntry> future = pendingEntry.entry();
+			if (!future.isDone()) {
+				// Never started, or still running because waiting got interrupted
+				continue;
+			}
+			try {
+				future.get().release();
+			}
+			catch (Exception ex) {
+				// Entry failed and has already released its buffer
+			}
+		}
+	}
+
+	private CustomizableThreadFactory createThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bundle-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * Entry sources of groups of files. The entries of every group are sorted by name,
+	 * and the next group is only requested when the entries of the previous group have
+	 * been handed out. The last entry of every group is marked, so that the checksum
+	 * collector of the group can be finished as soon as that entry has been written.
+	 */
+	private final class GroupedEntrySources implements Iterator<EntrySource> {
+
+		private final Path root;
+
+		private final Iterator<FileSet> groups;
+
+		private final Function<FileSet, ChecksumCollector> checksumCollectors;
+
+		private Iterator<EntrySource> current = Collections.emptyIterator();
+
+		GroupedEntrySources(Path root, Iterator<FileSet> groups,
+				Function<FileSet, ChecksumCollector> checksumCollectors) {
+			this.root = root;
+			this.groups = groups;
+			this.checksumCollectors = checksumCollectors;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!this.current.hasNext() && this.groups.hasNext()) {
+				FileSet group = this.groups.next();
+				ChecksumCollector checksumCollector = this.checksumCollectors.apply(group);
+				SortedMap<String, Path> files = new TreeMap<>();
+				for (Path file : group) {
+					if (!checksumCollector.isReplaced(file)) {
+						files.put(getEntryName(this.root, file), file);
+					}
+				}
+				if (files.isEmpty()) {
+					checksumCollector.finish();
+					continue;
+				}
+				List<EntrySource> sources = new ArrayList<>(files.size());
+				files.forEach((name, file) -> sources.add(
+						new EntrySource(name, file, null, checksumCollector, name.equals(files.lastKey()))));
+				this.current = sources.iterator();
+			}
+			return this.current.hasNext();
+		}
+
+		@Override
+		public EntrySource next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.current.next();
+		}
+
+	}
+
+	private record EntrySource(String name, @Nullable Path file, @Nullable byte[] content,
+			ChecksumCollector checksumCollector, boolean lastInGroup) {
+
+		InputStream open() throws IOException {
+			return (this.file != null) ? Files.newInputStream(this.file) : new ByteArrayInputStream(this.content);
+		}
+
+	}
+
+	private record PendingEntry(EntrySource source, Future<PreparedEntry> entry) {
+	}
+
+	private record PreparedEntry(ZipArchiveWriter.Header header, SpillBuffer buffer,
+			List<PreparedEntry> checksumEntries) {
+
+		PreparedEntry withChecksumEntries(List<PreparedEntry> checksumEntries) {
+			return new PreparedEntry(this.header, this.buffer, checksumEntries);
+		}
+
+		void writeTo(ZipArchiveWriter zip) throws IOException {
+			zip.writeEntry(this.header, this.buffer::writeTo);
+			for (PreparedEntry checksumEntry : this.checksumEntries) {
+				checksumEntry.writeTo(zip);
+			}
+		}
+
+		void release() throws IOException {
+			this.buffer.release();
+			for (PreparedEntry checksumEntry : this.checksumEntries) {
+				checksumEntry.release();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link OutputStream} which buffers in memory until a threshold is reached and then
+ * spills to a temporary file.
+ *
+ * @author Moritz Halbritter
+ */
+final class SpillBuffer extends OutputStream {
+
+	private final int threshold;
+
+	private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+
+	private Path file;
+
+	private OutputStream fileOutputStream;
+
+	private long size;
+
+	SpillBuffer(int threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (this.file == null && this.size + len > this.threshold) {
+			spill();
+		}
+		if (this.file != null) {
+			this.fileOutputStream.write(b, off, len);
+		}
+		else {
+			this.memory.write(b, off, len);
+		}
+		this.size += len;
+	}
+
+	private void spill() throws IOException {
+		this.file = Files.createTempFile("bundle-entry", ".tmp");
+		this.fileOutputStream = new BufferedOutputStream(Files.newOutputStream(this.file));
+		this.memory.writeTo(this.fileOutputStream);
+		this.memory = null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.fileOutputStream != null) {
+			this.fileOutputStream.close();
+		}
+	}
+
+	/**
+	 * Returns the number of bytes written.
+	 * @return the number of bytes written
+	 */
+	long size() {
+		return this.size;
+	}
+
+	/**
+	 * Whether the buffer has been spilled to a file.
+	 * @return whether the buffer has been spilled to a file
+	 */
+	boolean isSpilled() {
+		return this.file != null;
+	}
+
+	/**
+	 * Writes the buffered bytes to the given stream. Must only be called after the buffer
+	 * has been closed.
+	 * @param out the stream to write to
+	 * @throws IOException if writing failed
+	 */
+	void writeTo(OutputStream out) throws IOException {
+		if (this.file != null) {
+			Files.copy(this.file, out);
+		}
+		else {
+			this.memory.writeTo(out);
+		}
+	}
+
+	/**
+	 * Releases the buffered bytes and deletes the spill file, if any.
+	 * @throws IOException if the spill file can't be deleted
+	 */
+	void release() throws IOException {
+		close();
+		this.memory = null;
+		if (this.file != null) {
+			Files.deleteIfExists(this.file);
+		}
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A deployment bundle which isn't stored in a file, but written on demand to an output
+ * stream.
+ *
+ * @author Moritz Halbritter
+ * @see Bundler#createStreamingBundle
+ */
+@FunctionalInterface
+public interface StreamingBundle {
+
+	/**
+	 * Writes the bundle to the given output stream. The output stream is not closed.
+	 * @param outputStream the output stream
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeTo(OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.ZipEntry;
+
+/**
+ * Writes zip archives whose entries have been prepared up front, i.e. whose CRC and
+ * sizes are known before the entry data is written. The data of deflated entries must
+ * already be deflated. The writer only appends to the given stream, it never seeks. If
+ * the archive has too many entries for the standard format, a Zip64 end of central
+ * directory record is written.
+ *
+ * @author Moritz Halbritter
+ */
+final class ZipArchiveWriter {
+
+	private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+
+	private static final int VERSION = 20;
+
+	private static final int ZIP64_VERSION = 45;
+
+	private static final int UTF8_FLAG = 0x0800;
+
+	private static final long MAX_32_BIT = 0xFFFFFFFFL;
+
+	private static final int MAX_16_BIT = 0xFFFF;
+
+	private final CountingOutputStream out;
+
+	private final int dosTime;
+
+	private final int dosDate;
+
+	private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+
+	private long entries;
+
+	private boolean finished;
+
+	/**
+	 * Creates a new writer.
+	 * @param out the stream to write the archive to
+	 * @param time the modification time of all entries
+	 */
+	ZipArchiveWriter(OutputStream out, LocalDateTime time) {
+		this.out = new CountingOutputStream(out);
+		LocalDateTime dosDateTime = (time.getYear() < 1980) ? LocalDateTime.of(1980, 1, 1, 0, 0) : time;
+		this.dosTime = (dosDateTime.getHour() << 11) | (dosDateTime.getMinute() << 5) | (dosDateTime.getSecond() >> 1);
+		this.dosDate = ((dosDateTime.getYear() - 1980) << 9) | (dosDateTime.getMonthValue() << 5)
+				| dosDateTime.getDayOfMonth();
+	}
+
+	/**
+	 * Writes an entry.
+	 * @param header the header of the entry
+	 * @param data writes the (possibly deflated) data of the entry
+	 * @throws IOException if writing failed
+	 */
+	void writeEntry(Header header, EntryData data) throws IOException {
+		if (this.finished) {
+			throw new IllegalStateException("Archive has already been finished");
+		}
+		long offset = this.out.getCount();
+		if (offset > MAX_32_BIT || header.compressedSize() > MAX_32_BIT || header.size() > MAX_32_BIT) {
+			throw new IllegalStateException(
+					"Entry '%s' can't be written, archives larger than 4 GiB are not supported".formatted(header.name()));
+		}
+		byte[] name = header.name().getBytes(StandardCharsets.UTF_8);
+		ByteBuffer localHeader = buffer(30 + name.length);
+		localHeader.putInt(LOCAL_FILE_HEADER_SIGNATURE);
+		putCommonFields(localHeader, header, name);
+		localHeader.put(name);
+		this.out.write(localHeader.array());
+		long dataStart = this.out.getCount();
+		data.writeTo(this.out);
+		long written = this.out.getCount() - dataStart;
+		if (written != header.compressedSize()) {
+			throw new IllegalStateException("Expected %d bytes of data for entry '%s', but got %d"
+				.formatted(header.compressedSize(), header.name(), written));
+		}
+		ByteBuffer centralHeader = buffer(46 + name.length);
+		centralHeader.putInt(CENTRAL_DIRECTORY_HEADER_SIGNATURE);
+		centralHeader.putShort((short) VERSION);
+		putCommonFields(centralHeader, header, name);
+		centralHeader.putShort((short) 0); // comment length
+		centralHeader.putShort((short) 0); // disk number start
+		centralHeader.putShort((short) 0); // internal attributes
+		centralHeader.putInt(0); // external attributes
+		centralHeader.putInt((int) offset);
+		centralHeader.put(name);
+		this.centralDirectory.write(centralHeader.array());
+		this.entries++;
+	}
+
+	private void putCommonFields(ByteBuffer buffer, Header header, byte[] name) {
+		buffer.putShort((short) VERSION);
+		buffer.putShort((short) UTF8_FLAG);
+		buffer.putShort((short) header.method());
+		buffer.putShort((short) this.dosTime);
+		buffer.putShort((short) this.dosDate);
+		buffer.putInt((int) header.crc());
+		buffer.putInt((int) header.compressedSize());
+		buffer.putInt((int) header.size());
+		buffer.putShort((short) name.length);
+		buffer.putShort((short) 0); // extra field length
+	}
+
+	/**
+	 * Writes the central directory. The underlying stream is flushed, but not closed.
+	 * @throws IOException if writing failed
+	 */
+	void finish() throws IOException {
+		if (this.finished) {
+			return;
+		}
+		this.finished = true;
+		long centralDirectoryOffset = this.out.getCount();
+		long centralDirectorySize = this.centralDirectory.size();
+		this.centralDirectory.writeTo(this.out);
+		boolean zip64 = this.entries >= MAX_16_BIT || centralDirectoryOffset > MAX_32_BIT;
+		if (zip64) {
+			writeZip64EndOfCentralDirectory(centralDirectoryOffset, centralDirectorySize);
+		}
+		ByteBuffer end = buffer(22);
+		end.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+		end.putShort((short) 0); // number of this disk
+		end.putShort((short) 0); // disk where central directory starts
+		end.putShort((short) Math.min(this.entries, MAX_16_BIT));
+		end.putShort((short) Math.min(this.entries, MAX_16_BIT));
+		end.putInt((int) Math.min(centralDirectorySize, MAX_32_BIT));
+		end.putInt((int) Math.min(centralDirectoryOffset, MAX_32_BIT));
+		end.putShort((short) 0); // comment length
+		this.out.write(end.array());
+		this.out.flush();
+	}
+
+	private void writeZip64EndOfCentralDirectory(long centralDirectoryOffset, long centralDirectorySize)
+			throws IOException {
+		long recordOffset = this.out.getCount();
+		ByteBuffer record = buffer(56);
+		record.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+		record.putLong(44); // size of the remaining record
+		record.putShort((short) ZIP64_VERSION);
+		record.putShort((short) ZIP64_VERSION);
+		record.putInt(0); // number of this disk
+		record.putInt(0); // disk where central directory starts
+		record.putLong(this.entries);
+		record.putLong(this.entries);
+		record.putLong(centralDirectorySize);
+		record.putLong(centralDirectoryOffset);
+		this.out.write(record.array());
+		ByteBuffer locator = buffer(20);
+		locator.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE);
+		locator.putInt(0); // disk with the zip64 end of central directory record
+		locator.putLong(recordOffset);
+		locator.putInt(1); // total number of disks
+		this.out.write(locator.array());
+	}
+
+	private static ByteBuffer buffer(int size) {
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Header of an entry.
+	 *
+	 * @param name the name of the entry
+	 * @param method the compression method, either {@link ZipEntry#STORED} or
+	 * {@link ZipEntry#DEFLATED}
+	 * @param crc the CRC-32 of the uncompressed data
+	 * @param compressedSize the size of the data as written to the archive
+	 * @param size the size of the uncompressed data
+	 */
+	record Header(String name, int method, long crc, long compressedSize, long size) {
+
+		static Header stored(String name, long crc, long size) {
+			return new Header(name, ZipEntry.STORED, crc, size, size);
+		}
+
+		static Header deflated(String name, long crc, long compressedSize, long size) {
+			return new Header(name, ZipEntry.DEFLATED, crc, compressedSize, size);
+		}
+
+	}
+
+	/**
+	 * Writes the data of an entry.
+	 */
+	@FunctionalInterface
+	interface EntryData {
+
+		/**
+		 * Writes the data to the given stream.
+		 * @param out the stream to write to
+		 * @throws IOException if writing failed
+		 */
+		void writeTo(OutputStream out) throws IOException;
+
+	}
+
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.count += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// The underlying stream is managed by the caller
+			flush();
+		}
+
+		long getCount() {
+			return this.count;
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.checksum;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for checksums of files. Entries are keyed by the path, the size and the
+ * last-modified time of the file.
+ *
+ * @author Moritz Halbritter
+ */
+interface ChecksumCache {
+
+	/**
+	 * Returns the cached checksums for the given file.
+	 * @param file the file
+	 * @param attributes the attributes of the file
+	 * @return the cached checksums, keyed by algorithm, or {@code null} if the file isn't
+	 * cached or has been changed since
+	 */
+	@Nullable
+	Map<String, String> get(Path file, BasicFileAttributes attributes);
+
+	/**
+	 * Puts the checksums of the given file into the cache.
+	 * @param file the file
+	 * @param attributes the attributes of the file
+	 * @param checksums the checksums, keyed by algorithm
+	 */
+	void put(Path file, BasicFileAttributes attributes, Map<String, String> checksums);
+
+	/**
+	 * Persists the cache.
+	 */
+	void save();
+
+	/**
+	 * Returns a cache which doesn't cache anything.
+	 * @return the cache
+	 */
+	static ChecksumCache none() {
+		return new ChecksumCache() {
+
+			@Override
+			public Map<String, String> get(Path file, BasicFileAttributes attributes) {
+				return null;
+			}
+
+			@Override
+			public void put(Path file, BasicFileAttributes attributes, Map<String, String> checksums) {
+			}
+
+			@Override
+			public void save() {
+			}
+
+		};
+	}
+
+}
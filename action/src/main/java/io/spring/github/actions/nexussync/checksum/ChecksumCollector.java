@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.checksum;
+
+import java.nio.file.Path;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Collects checksums of files while the files are read by someone else, e.g. while they
+ * are written to a bundle. This avoids reading the files a second time just to calculate
+ * their checksums. Implementations are thread-safe.
+ *
+ * @author Moritz Halbritter
+ * @see ChecksumCreator#createCollector(io.spring.github.actions.nexussync.file.FileSet)
+ */
+public interface ChecksumCollector {
+
+	/**
+	 * Returns whether the given file is an existing checksum file which is replaced by a
+	 * collected checksum.
+	 * @param file the file
+	 * @return whether the file is replaced
+	 */
+	boolean isReplaced(Path file);
+
+	/**
+	 * Starts collecting the checksums of the given file.
+	 * @param file the file
+	 * @return the digest which has to be fed with the contents of the file or
+	 * {@code null} if no checksums are collected for the file
+	 */
+	@Nullable
+	FileDigest start(Path file);
+
+	/**
+	 * Finishes the collection after all files have been read.
+	 * @throws IllegalStateException if existing checksum files don't match the collected
+	 * checksums
+	 */
+	void finish();
+
+	/**
+	 * Returns a {@link ChecksumCollector} which doesn't collect any checksums.
+	 * @return a collector which doesn't collect any checksums
+	 */
+	static ChecksumCollector none() {
+		return new ChecksumCollector() {
+
+			@Override
+			public boolean isReplaced(Path file) {
+				return false;
+			}
+
+			@Override
+			public FileDigest start(Path file) {
+				return null;
+			}
+
+			@Override
+			public void finish() {
+			}
+
+		};
+	}
+
+	/**
+	 * Digest of a single file.
+	 */
+	interface FileDigest {
+
+		/**
+		 * Feeds the given bytes of the file to the digest.
+		 * @param buffer the buffer
+		 * @param offset the offset in the buffer
+		 * @param length the number of bytes to use
+		 */
+		void update(byte[] buffer, int offset, int length);
+
+		/**
+		 * Completes the digest after the whole file has been read.
+		 * @return the checksums of the file, keyed by checksum file
+		 */
+		Checksums finish();
+
+	}
+
+}
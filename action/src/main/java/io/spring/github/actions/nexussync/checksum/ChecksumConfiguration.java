@@ -16,6 +16,8 @@
 
 package io.spring.github.actions.nexussync.checksum;
 
+import java.time.Clock;
+
 import io.spring.github.actions.nexussync.NexusSyncProperties;
 import io.spring.github.actions.nexussync.system.Logger;
 
@@ -33,11 +35,33 @@ import org.springframework.context.annotation.Configuration;
 class ChecksumConfiguration {
 
 	@Bean
-	ChecksumCreator creator(NexusSyncProperties properties, Logger logger) {
-		return new ChecksumCreatorImpl(logger,
-				(properties.getChecksum().isFailOnExistingChecksums()
-						? ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING
-						: ChecksumCreatorImpl.ChecksumPolicy.OVERWRITE_EXISTING));
+	ChecksumCreator creator(NexusSyncProperties properties, Logger logger, Clock clock) {
+		NexusSyncProperties.Checksum checksum = properties.getChecksum();
+		return new ChecksumCreatorImpl(logger, getChecksumPolicy(checksum), getThreads(checksum),
+				getCache(checksum, logger, clock));
+	}
+
+	private ChecksumCreatorImpl.ChecksumPolicy getChecksumPolicy(NexusSyncProperties.Checksum properties) {
+		if (properties.isVerifyExistingChecksums()) {
+			return ChecksumCreatorImpl.ChecksumPolicy.VERIFY_EXISTING;
+		}
+		return (properties.isFailOnExistingChecksums() ? ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING
+				: ChecksumCreatorImpl.ChecksumPolicy.OVERWRITE_EXISTING);
+	}
+
+	private int getThreads(NexusSyncProperties.Checksum properties) {
+		if (properties.getThreads() != null) {
+			return properties.getThreads();
+		}
+		// The JVM derives the available processors from the container's CPU quota
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	private ChecksumCache getCache(NexusSyncProperties.Checksum properties, Logger logger, Clock clock) {
+		if (properties.getCache() == null) {
+			return ChecksumCache.none();
+		}
+		return FileChecksumCache.load(logger, clock, properties.getCache().toAbsolutePath());
 	}
 
 }
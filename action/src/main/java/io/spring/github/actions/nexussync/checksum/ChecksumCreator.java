@@ -32,4 +32,20 @@ public interface ChecksumCreator {
 	 */
 	FileSet createChecksums(FileSet files);
 
+	/**
+	 * Calculates checksums for the given files without writing checksum files.
+	 * @param files the files to calculate checksums for
+	 * @return the checksums
+	 */
+	Checksums calculateChecksums(FileSet files);
+
+	/**
+	 * Creates a {@link ChecksumCollector} which calculates the checksums of the given
+	 * files while they are read elsewhere. Existing checksum files are handled before
+	 * this method returns.
+	 * @param files the files to collect checksums for
+	 * @return the collector
+	 */
+	ChecksumCollector createCollector(FileSet files);
+
 }
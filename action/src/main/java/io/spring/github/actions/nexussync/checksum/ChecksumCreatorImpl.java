@@ -17,83 +17,265 @@
 package io.spring.github.actions.nexussync.checksum;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.HexFormat;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import io.spring.github.actions.nexussync.file.FileSet;
 import io.spring.github.actions.nexussync.system.Logger;
 
-import org.springframework.util.StreamUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Default implementation for {@link ChecksumCreator}. Creates MD5 and SHA-1 checksums.
+ * Default implementation for {@link ChecksumCreator}. Creates MD5 and SHA-1 checksums,
+ * reading every file only once. If more than one thread is configured, the files are
+ * processed in parallel using a bounded pool of worker threads. Checksums can either be
+ * written to checksum files next to the original files or kept in memory. Depending on
+ * the {@link ChecksumPolicy}, existing checksum files are verified instead of being
+ * replaced.
  *
  * @author Moritz Halbritter
  */
 class ChecksumCreatorImpl implements ChecksumCreator {
 
+	private static final List<String> ALGORITHMS = List.of("md5", "sha1");
+
 	private static final Set<String> IGNORED_FILE_EXTENSIONS = Set.of("asc", "md5", "sha1");
 
 	private final Logger logger;
 
 	private final ChecksumPolicy checksumPolicy;
 
+	private final int threads;
+
+	private final ChecksumCache cache;
+
+	private final FileOpener fileOpener;
+
 	ChecksumCreatorImpl(Logger logger, ChecksumPolicy checksumPolicy) {
+		this(logger, checksumPolicy, 1);
+	}
+
+	ChecksumCreatorImpl(Logger logger, ChecksumPolicy checksumPolicy, int threads) {
+		this(logger, checksumPolicy, threads, ChecksumCache.none());
+	}
+
+	ChecksumCreatorImpl(Logger logger, ChecksumPolicy checksumPolicy, int threads, ChecksumCache cache) {
+		this(logger, checksumPolicy, threads, cache, Files::newInputStream);
+	}
+
+	ChecksumCreatorImpl(Logger logger, ChecksumPolicy checksumPolicy, int threads, ChecksumCache cache,
+			FileOpener fileOpener) {
+		Assert.isTrue(threads > 0, "'threads' must be positive");
 		this.logger = logger;
 		this.checksumPolicy = checksumPolicy;
+		this.threads = threads;
+		this.cache = cache;
+		this.fileOpener = fileOpener;
 	}
 
 	@Override
 	public FileSet createChecksums(FileSet files) {
-		List<Path> checksumFiles = new ArrayList<>();
+		return calculateChecksums(files, true).getFiles();
+	}
+
+	@Override
+	public Checksums calculateChecksums(FileSet files) {
+		return calculateChecksums(files, false);
+	}
+
+	@Override
+	public ChecksumCollector createCollector(FileSet files) {
+		List<Path> paths = getPathsToChecksum(files);
+		checkExistingChecksumFiles(paths);
+		return new Collector(paths);
+	}
+
+	private List<Path> getPathsToChecksum(FileSet files) {
+		List<Path> paths = new ArrayList<>();
 		for (Path path : files) {
 			if (matches(path)) {
-				checksumFiles.add(createChecksumFile("md5", path));
-				checksumFiles.add(createChecksumFile("sha1", path));
+				paths.add(path);
+			}
+		}
+		return paths;
+	}
+
+	private Checksums calculateChecksums(FileSet files, boolean writeChecksumFiles) {
+		List<Path> paths = getPathsToChecksum(files);
+		checkExistingChecksumFiles(paths);
+		Map<Path, String> checksums = new LinkedHashMap<>();
+		List<String> mismatches = new ArrayList<>();
+		for (Result result : process(paths, (path) -> createChecksums(path, writeChecksumFiles))) {
+			checksums.putAll(result.checksums());
+			mismatches.addAll(result.mismatches());
+		}
+		this.cache.save();
+		checkMismatches(mismatches);
+		return Checksums.of(checksums);
+	}
+
+	private void checkMismatches(List<String> mismatches) {
+		if (!mismatches.isEmpty()) {
+			throw new IllegalStateException("%d existing checksum files don't match:%n%s".formatted(mismatches.size(),
+					String.join(System.lineSeparator(), mismatches)));
+		}
+	}
+
+	private void checkExistingChecksumFiles(List<Path> paths) {
+		for (Path path : paths) {
+			for (String algorithm : ALGORITHMS) {
+				Path checksumFile = getChecksumFile(path, algorithm);
+				if (Files.exists(checksumFile)) {
+					this.checksumPolicy.checksumExists(checksumFile);
+				}
 			}
 		}
-		return FileSet.of(checksumFiles);
 	}
 
-	private Path createChecksumFile(String algorithm, Path path) {
-		Path checksumFile = Path.of(path.toString() + "." + algorithm);
-		if (Files.exists(checksumFile)) {
-			this.checksumPolicy.checksumExists(checksumFile);
+	private <T> List<T> process(List<Path> paths, Function<Path, T> action) {
+		int threads = Math.min(this.threads, paths.size());
+		if (threads <= 1) {
+			return paths.stream().map(action).toList();
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads, createThreadFactory());
+		try {
+			List<Future<T>> futures = new ArrayList<>(paths.size());
+			for (Path path : paths) {
+				futures.add(executor.submit(() -> action.apply(path)));
+			}
+			List<T> results = new ArrayList<>(futures.size());
+			for (Future<T> future : futures) {
+				results.add(getResult(future));
+			}
+			return results;
+		}
+		finally {
+			executor.shutdownNow();
 		}
-		this.logger.debug("Creating {} checksum for {}", algorithm, path);
-		String checksum = createChecksum(algorithm, path);
+	}
+
+	private <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Got interrupted while creating checksums", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to create checksums", ex.getCause());
+		}
+	}
+
+	private CustomizableThreadFactory createThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("checksum-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	private Result createChecksums(Path path, boolean writeChecksumFiles) {
+		this.logger.debug("Creating {} checksums for {}", ALGORITHMS, path);
+		return createResult(path, digest(path), writeChecksumFiles);
+	}
+
+	private Result createResult(Path path, Map<String, String> digest, boolean writeChecksumFiles) {
+		Map<Path, String> checksums = new LinkedHashMap<>();
+		List<String> mismatches = new ArrayList<>();
+		digest.forEach((algorithm, checksum) -> {
+			Path checksumFile = getChecksumFile(path, algorithm);
+			checksums.put(checksumFile, checksum);
+			if (this.checksumPolicy == ChecksumPolicy.VERIFY_EXISTING && Files.exists(checksumFile)) {
+				String existingChecksum = readChecksumFile(checksumFile);
+				if (!existingChecksum.equalsIgnoreCase(checksum)) {
+					mismatches.add("'%s' contains '%s', but the %s checksum of '%s' is '%s'".formatted(checksumFile,
+							existingChecksum, algorithm, path, checksum));
+				}
+				return;
+			}
+			if (writeChecksumFiles) {
+				writeChecksumFile(checksumFile, checksum);
+			}
+		});
+		return new Result(checksums, mismatches);
+	}
+
+	private String readChecksumFile(Path checksumFile) {
+		try {
+			// Some tools write the file name after the checksum
+			String content = Files.readString(checksumFile).trim();
+			int whitespace = indexOfWhitespace(content);
+			return (whitespace != -1) ? content.substring(0, whitespace) : content;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read checksum file '%s'".formatted(checksumFile), ex);
+		}
+	}
+
+	private int indexOfWhitespace(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (Character.isWhitespace(value.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void writeChecksumFile(Path checksumFile, String checksum) {
 		try {
 			Files.writeString(checksumFile, checksum);
 		}
 		catch (IOException ex) {
 			throw new UncheckedIOException("Failed to write checksum to file '%s'".formatted(checksumFile), ex);
 		}
-		return checksumFile;
 	}
 
-	private String createChecksum(String algorithm, Path path) {
-		try (DigestInputStream stream = new DigestInputStream(Files.newInputStream(path),
-				MessageDigest.getInstance(algorithm))) {
-			StreamUtils.drain(stream);
-			byte[] checksum = stream.getMessageDigest().digest();
-			return HexFormat.of().formatHex(checksum);
+	private Map<String, String> digest(Path path) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			Map<String, String> cached = this.cache.get(path, attributes);
+			if (cached != null && cached.keySet().containsAll(ALGORITHMS)) {
+				this.logger.debug("Using cached checksums for {}", path);
+				return cached;
+			}
+			MultiDigest digest = MultiDigest.of(ALGORITHMS);
+			try (InputStream stream = this.fileOpener.open(path)) {
+				digest.update(stream);
+			}
+			Map<String, String> checksums = digest.finish();
+			this.cache.put(path, attributes, checksums);
+			return checksums;
 		}
 		catch (IOException ex) {
 			throw new UncheckedIOException("Failed to create checksum for file '%s'".formatted(path), ex);
 		}
-		catch (NoSuchAlgorithmException ex) {
-			throw new IllegalStateException("Unknown checksum algorithm '%s'".formatted(algorithm), ex);
-		}
+	}
+
+	private Path getChecksumFile(Path path, String algorithm) {
+		return Path.of(path.toString() + "." + algorithm);
 	}
 
 	private boolean matches(Path file) {
@@ -118,10 +300,94 @@ class ChecksumCreatorImpl implements ChecksumCreator {
 			void checksumExists(Path checksumFile) {
 				// noop
 			}
+		},
+		VERIFY_EXISTING {
+			@Override
+			void checksumExists(Path checksumFile) {
+				// noop, existing checksum files are verified after the checksums have been
+				// created
+			}
 		};
 
 		abstract void checksumExists(Path checksumFile);
 
 	}
 
+	private record Result(Map<Path, String> checksums, List<String> mismatches) {
+	}
+
+	/**
+	 * {@link ChecksumCollector} which feeds the read bytes to the digests and keeps the
+	 * checksums in memory.
+	 */
+	private final class Collector implements ChecksumCollector {
+
+		private final Set<Path> paths;
+
+		private final List<String> mismatches = Collections.synchronizedList(new ArrayList<>());
+
+		Collector(List<Path> paths) {
+			this.paths = new HashSet<>(paths);
+		}
+
+		@Override
+		public boolean isReplaced(Path file) {
+			for (String algorithm : ALGORITHMS) {
+				String suffix = "." + algorithm;
+				String name = file.toString();
+				if (name.endsWith(suffix)
+						&& this.paths.contains(Path.of(name.substring(0, name.length() - suffix.length())))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public FileDigest start(Path file) {
+			if (!this.paths.contains(file)) {
+				return null;
+			}
+			ChecksumCreatorImpl.this.logger.debug("Collecting {} checksums for {}", ALGORITHMS, file);
+			MultiDigest digest = MultiDigest.of(ALGORITHMS);
+			return new FileDigest() {
+
+				@Override
+				public void update(byte[] buffer, int offset, int length) {
+					digest.update(buffer, offset, length);
+				}
+
+				@Override
+				public Checksums finish() {
+					Result result = createResult(file, digest.finish(), false);
+					Collector.this.mismatches.addAll(result.mismatches());
+					return Checksums.of(result.checksums());
+				}
+
+			};
+		}
+
+		@Override
+		public void finish() {
+			checkMismatches(this.mismatches);
+		}
+
+	}
+
+	/**
+	 * Opens files for reading.
+	 */
+	@FunctionalInterface
+	interface FileOpener {
+
+		/**
+		 * Opens the given file for reading.
+		 * @param path the file
+		 * @return the stream to read from
+		 * @throws IOException if the file can't be opened
+		 */
+		InputStream open(Path path) throws IOException;
+
+	}
+
 }
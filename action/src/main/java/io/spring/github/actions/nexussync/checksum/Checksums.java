@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.checksum;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A collection of checksums held in memory. Each checksum is keyed by the path of the
+ * checksum file it represents, e.g. {@code artifact.jar.md5}.
+ *
+ * @author Moritz Halbritter
+ */
+public final class Checksums {
+
+	private final Map<Path, String> checksums;
+
+	private Checksums(Map<Path, String> checksums) {
+		this.checksums = checksums;
+	}
+
+	/**
+	 * Whether this collection is empty.
+	 * @return whether this collection is empty
+	 */
+	public boolean isEmpty() {
+		return this.checksums.isEmpty();
+	}
+
+	/**
+	 * Returns the size of the collection.
+	 * @return the size of the collection
+	 */
+	public int size() {
+		return this.checksums.size();
+	}
+
+	/**
+	 * Whether this collection contains a checksum for the given checksum file.
+	 * @param checksumFile the checksum file
+	 * @return whether this collection contains a checksum for the given checksum file
+	 */
+	public boolean contains(Path checksumFile) {
+		return this.checksums.containsKey(checksumFile.toAbsolutePath());
+	}
+
+	/**
+	 * Returns the checksum for the given checksum file.
+	 * @param checksumFile the checksum file
+	 * @return the checksum or {@code null} if this collection doesn't contain it
+	 */
+	@Nullable
+	public String get(Path checksumFile) {
+		return this.checksums.get(checksumFile.toAbsolutePath());
+	}
+
+	/**
+	 * Calls the given action for each checksum file and its checksum.
+	 * @param action the action
+	 */
+	public void forEach(BiConsumer<Path, String> action) {
+		this.checksums.forEach(action);
+	}
+
+	/**
+	 * Returns the checksum files.
+	 * @return the checksum files
+	 */
+	public FileSet getFiles() {
+		return FileSet.of(this.checksums.keySet());
+	}
+
+	/**
+	 * Creates an empty collection.
+	 * @return the empty collection
+	 */
+	public static Checksums empty() {
+		return new Checksums(Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a collection of the given checksums.
+	 * @param checksums the checksums, keyed by checksum file
+	 * @return the collection containing the given checksums
+	 */
+	public static Checksums of(Map<Path, String> checksums) {
+		Map<Path, String> copy = new LinkedHashMap<>();
+		checksums.forEach((file, checksum) -> copy.put(file.toAbsolutePath(), checksum));
+		return new Checksums(Collections.unmodifiableMap(copy));
+	}
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.checksum;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.github.actions.nexussync.file.TabSeparatedFile;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ChecksumCache} which is persisted in a file. Lookups are served from memory.
+ * When saving, the cache file is locked, entries written by other instances in the
+ * meantime are merged, stale entries are pruned and the file is replaced atomically.
+ * An entry is stale if its file doesn't exist anymore or if its size or last-modified
+ * time has changed.
+ * <p>
+ * A file which is rewritten with the same size within the resolution of its
+ * last-modified time can't be told apart from the cached one. Therefore files which have
+ * been modified shortly before their checksums are put into the cache aren't cached.
+ * Invalid lines in the cache file are skipped, an unreadable cache file is treated as
+ * empty and a cache file which can't be saved is left alone, so that a broken cache never
+ * fails a deployment.
+ *
+ * @author Moritz Halbritter
+ */
+class FileChecksumCache implements ChecksumCache {
+
+	/**
+	 * Coarsest last-modified time resolution of common file systems (FAT).
+	 */
+	private static final Duration MODIFICATION_TIME_RESOLUTION = Duration.ofSeconds(2);
+
+	private final Logger logger;
+
+	private final Clock clock;
+
+	private final Path file;
+
+	private final TabSeparatedFile store;
+
+	private final Map<Path, Entry> entries;
+
+	private volatile boolean modified;
+
+	private FileChecksumCache(Logger logger, Clock clock, Path file, TabSeparatedFile store,
+			Map<Path, Entry> entries) {
+		this.logger = logger;
+		this.clock = clock;
+		this.file = file;
+		this.store = store;
+		this.entries = new ConcurrentHashMap<>(entries);
+	}
+
+	@Override
+	@Nullable
+	public Map<String, String> get(Path file, BasicFileAttributes attributes) {
+		Entry entry = this.entries.get(file.toAbsolutePath());
+		if (entry == null || !entry.matches(attributes)) {
+			return null;
+		}
+		return entry.checksums();
+	}
+
+	@Override
+	public void put(Path file, BasicFileAttributes attributes, Map<String, String> checksums) {
+		if (isRecentlyModified(attributes)) {
+			this.logger.debug("Not caching checksums of '{}', it has been modified too recently", file);
+			return;
+		}
+		this.entries.put(file.toAbsolutePath(), new Entry(attributes.size(),
+				attributes.lastModifiedTime().toMillis(), Collections.unmodifiableMap(new LinkedHashMap<>(checksums))));
+		this.modified = true;
+	}
+
+	private boolean isRecentlyModified(BasicFileAttributes attributes) {
+		long age = this.clock.millis() - attributes.lastModifiedTime().toMillis();
+		return age < MODIFICATION_TIME_RESOLUTION.toMillis();
+	}
+
+	@Override
+	public synchronized void save() {
+		if (!this.modified) {
+			return;
+		}
+		try {
+			Files.createDirectories(this.file.toAbsolutePath().getParent());
+			Path lockFile = Path.of(this.file + ".lock");
+			try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE)) {
+				FileLock lock = channel.lock();
+				try {
+					Map<Path, Entry> merged = read(this.store);
+					merged.putAll(this.entries);
+					int pruned = prune(merged);
+					if (this.store.write(merged.entrySet(), FileChecksumCache::format)) {
+						this.logger.debug("Pruned {} stale entries from checksum cache '{}'", pruned, this.file);
+						this.modified = false;
+					}
+				}
+				finally {
+					lock.release();
+				}
+			}
+		}
+		catch (IOException ex) {
+			this.logger.log("Failed to save checksum cache '{}', ignoring it: {}", this.file, ex.getMessage());
+		}
+	}
+
+	private int prune(Map<Path, Entry> entries) {
+		int sizeBefore = entries.size();
+		entries.entrySet().removeIf((entry) -> isStale(entry.getKey(), entry.getValue()));
+		return sizeBefore - entries.size();
+	}
+
+	private boolean isStale(Path file, Entry entry) {
+		try {
+			return !entry.matches(Files.readAttributes(file, BasicFileAttributes.class));
+		}
+		catch (IOException ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * Loads the cache from the given file. If the file doesn't exist or can't be read,
+	 * the cache is empty.
+	 * @param logger the logger to use
+	 * @param clock the clock to use
+	 * @param file the cache file
+	 * @return the cache
+	 */
+	static FileChecksumCache load(Logger logger, Clock clock, Path file) {
+		TabSeparatedFile store = new TabSeparatedFile(logger, file, "checksum cache");
+		return new FileChecksumCache(logger, clock, file, store, read(store));
+	}
+
+	private static Map<Path, Entry> read(TabSeparatedFile store) {
+		Map<Path, Entry> entries = new LinkedHashMap<>();
+		// size <tab> last modified <tab> checksums <tab> path
+		store
+			.read(4, (columns) -> Map.entry(Path.of(columns[3]),
+					new Entry(Long.parseLong(columns[0]), Long.parseLong(columns[1]), parseChecksums(columns[2]))))
+			.forEach((entry) -> entries.put(entry.getKey(), entry.getValue()));
+		return entries;
+	}
+
+	private static Map<String, String> parseChecksums(String value) {
+		Map<String, String> checksums = new LinkedHashMap<>();
+		for (String checksum : value.split(",")) {
+			int separator = checksum.indexOf('=');
+			if (separator != -1) {
+				checksums.put(checksum.substring(0, separator), checksum.substring(separator + 1));
+			}
+		}
+		return Collections.unmodifiableMap(checksums);
+	}
+
+	private static List<?> format(Map.Entry<Path, Entry> entry) {
+		Entry value = entry.getValue();
+		return List.of(value.size(), value.lastModified(), formatChecksums(value.checksums()), entry.getKey());
+	}
+
+	private static String formatChecksums(Map<String, String> checksums) {
+		StringBuilder result = new StringBuilder();
+		checksums.forEach((algorithm, checksum) -> {
+			if (!result.isEmpty()) {
+				result.append(',');
+			}
+			result.append(algorithm).append('=').append(checksum);
+		});
+		return result.toString();
+	}
+
+	private record Entry(long size, long lastModified, Map<String, String> checksums) {
+
+		boolean matches(BasicFileAttributes attributes) {
+			return this.size == attributes.size() && this.lastModified == attributes.lastModifiedTime().toMillis();
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.checksum;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes multiple {@link MessageDigest message digests} in a single pass over the
+ * data.
+ *
+ * @author Moritz Halbritter
+ */
+final class MultiDigest {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Map<String, MessageDigest> digests;
+
+	private MultiDigest(Map<String, MessageDigest> digests) {
+		this.digests = digests;
+	}
+
+	/**
+	 * Feeds the given bytes to all digests.
+	 * @param buffer the buffer
+	 * @param offset the offset in the buffer
+	 * @param length the number of bytes to use
+	 */
+	void update(byte[] buffer, int offset, int length) {
+		for (MessageDigest digest : this.digests.values()) {
+			digest.update(buffer, offset, length);
+		}
+	}
+
+	/**
+	 * Reads the given stream until its end and feeds all read bytes to all digests. The
+	 * stream is not closed.
+	 * @param inputStream the stream to read
+	 * @throws IOException if reading from the stream failed
+	 */
+	void update(InputStream inputStream) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			update(buffer, 0, read);
+		}
+	}
+
+	/**
+	 * Completes the digests and returns the hex encoded results, keyed by algorithm.
+	 * @return the hex encoded digests
+	 */
+	Map<String, String> finish() {
+		Map<String, String> result = new LinkedHashMap<>();
+		HexFormat hex = HexFormat.of();
+		this.digests.forEach((algorithm, digest) -> result.put(algorithm, hex.formatHex(digest.digest())));
+		return result;
+	}
+
+	/**
+	 * Creates a new instance for the given algorithms.
+	 * @param algorithms the algorithms
+	 * @return the new instance
+	 */
+	static MultiDigest of(Collection<String> algorithms) {
+		Map<String, MessageDigest> digests = new LinkedHashMap<>();
+		for (String algorithm : algorithms) {
+			try {
+				digests.put(algorithm, MessageDigest.getInstance(algorithm));
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException("Unknown checksum algorithm '%s'".formatted(algorithm), ex);
+			}
+		}
+		return new MultiDigest(digests);
+	}
+
+}
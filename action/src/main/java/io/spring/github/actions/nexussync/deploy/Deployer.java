@@ -17,17 +17,43 @@
 package io.spring.github.actions.nexussync.deploy;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.bundle.BundleCache;
+import io.spring.github.actions.nexussync.bundle.BundleSplitter;
 import io.spring.github.actions.nexussync.bundle.Bundler;
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
 import io.spring.github.actions.nexussync.checksum.ChecksumCreator;
-import io.spring.github.actions.nexussync.file.FileScanner;
+import io.spring.github.actions.nexussync.checksum.Checksums;
 import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.maven.Component;
+import io.spring.github.actions.nexussync.maven.ComponentScanner;
+import io.spring.github.actions.nexussync.metrics.CountingOutputStream;
+import io.spring.github.actions.nexussync.metrics.Instrumentation;
+import io.spring.github.actions.nexussync.metrics.Instrumentation.Measurement;
+import io.spring.github.actions.nexussync.metrics.Phase;
 import io.spring.github.actions.nexussync.sonatype.CentralPortalApi;
 import io.spring.github.actions.nexussync.sonatype.Deployment;
+import io.spring.github.actions.nexussync.sonatype.DeploymentHistory;
 import io.spring.github.actions.nexussync.sonatype.PublishingType;
 import io.spring.github.actions.nexussync.system.Logger;
 
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.unit.DataSize;
+
 /**
  * Deployer for deploying to the Sontype Central Portal.
  *
@@ -35,14 +61,20 @@ import io.spring.github.actions.nexussync.system.Logger;
  */
 public class Deployer {
 
+	private static final int MAX_THREADS = 4;
+
 	private final Logger logger;
 
-	private final FileScanner fileScanner;
+	private final ComponentScanner componentScanner;
 
 	private final ChecksumCreator checksumCreator;
 
 	private final Bundler bundleCreator;
 
+	private final BundleSplitter bundleSplitter;
+
+	private final BundleCache bundleCache;
+
 	private final CentralPortalApi centralPortalApi;
 
 	private final Path root;
@@ -51,71 +83,531 @@ public class Deployer {
 
 	private final boolean dropDeploymentOnFailure;
 
-	Deployer(Logger logger, Path root, PublishingType publishingType, FileScanner fileScanner,
-			ChecksumCreator checksumCreator, Bundler bundler, CentralPortalApi centralPortalApi,
-			boolean dropDeploymentOnFailure) {
+	private final ChecksumMode checksumMode;
+
+	private final BundleMode bundleMode;
+
+	private final DeploymentHistory deploymentHistory;
+
+	private final DeploymentCheckpoints checkpoints;
+
+	private final Instrumentation instrumentation;
+
+	Deployer(Logger logger, Path root, PublishingType publishingType, ComponentScanner componentScanner,
+			ChecksumCreator checksumCreator, Bundler bundler, BundleSplitter bundleSplitter, BundleCache bundleCache,
+			CentralPortalApi centralPortalApi, boolean dropDeploymentOnFailure, ChecksumMode checksumMode,
+			BundleMode bundleMode, DeploymentHistory deploymentHistory, DeploymentCheckpoints checkpoints,
+			Instrumentation instrumentation) {
 		this.logger = logger;
 		this.root = root;
 		this.publishingType = publishingType;
-		this.fileScanner = fileScanner;
+		this.componentScanner = componentScanner;
 		this.checksumCreator = checksumCreator;
 		this.bundleCreator = bundler;
+		this.bundleSplitter = bundleSplitter;
+		this.bundleCache = bundleCache;
 		this.centralPortalApi = centralPortalApi;
 		this.dropDeploymentOnFailure = dropDeploymentOnFailure;
+		this.checksumMode = checksumMode;
+		this.bundleMode = bundleMode;
+		this.deploymentHistory = deploymentHistory;
+		this.checkpoints = checkpoints;
+		this.instrumentation = instrumentation;
 	}
 
 	public Result deploy() {
-		FileSet files = this.fileScanner.scan(this.root);
-		if (files.isEmpty()) {
-			throw new IllegalStateException("No files found in directory '%s'".formatted(this.root));
-		}
-		this.logger.log("Found {} files, creating checksums...", files.size());
-		FileSet checksums = this.checksumCreator.createChecksums(files);
-		files = files.plus(checksums);
-		this.logger.log("Checksums created. Creating bundle with {} files ...", files.size());
-		Bundle bundle = this.bundleCreator.createBundle(this.root, files);
-		this.logger.log("Bundle created. Uploading {} to Sonatype ...", bundle.getSize());
-		Deployment deployment = this.centralPortalApi.upload(bundle, this.publishingType);
-		this.logger.log("Bundle uploaded, resulting in deployment '{}'.", deployment.getId());
+		try {
+			return doDeploy();
+		}
+		finally {
+			this.instrumentation.report();
+		}
+	}
+
+	private Result doDeploy() {
+		Results<Upload> uploads = (this.bundleMode == BundleMode.PIPELINED) ? uploadPipelined() : scanAndUpload();
+		if (uploads.isFailed()) {
+			abandon(uploads.values());
+			uploads.throwFailure();
+		}
 		this.logger.log("Awaiting final status ...");
-		deployment.awaitFinalStatus();
-		return switch (deployment.getStatus()) {
-			case FAILED -> deploymentFailed(deployment);
-			case PUBLISHED -> deploymentPublished(deployment);
-			case VALIDATED -> deploymentValidated(deployment);
-			default -> throw new IllegalStateException(
-					"Unexpected deployment status value %s".formatted(deployment.getStatus()));
+		Measurement await = this.instrumentation.start(Phase.AWAIT);
+		Results<Deployment> awaited = runConcurrently(uploads.values(), this::awaitFinalStatus);
+		if (awaited.isFailed()) {
+			if (this.dropDeploymentOnFailure) {
+				dropDeployments(awaited.values());
+			}
+			awaited.throwFailure();
+		}
+		await.stop(0, 0);
+		List<Deployment> deployments = awaited.values();
+		List<Deployment> failed = deployments.stream()
+			.filter((deployment) -> deployment.getStatus() == Deployment.Status.FAILED)
+			.toList();
+		if (!failed.isEmpty()) {
+			return deploymentsFailed(deployments, failed);
+		}
+		for (Deployment deployment : deployments) {
+			switch (deployment.getStatus()) {
+				case PUBLISHED -> deploymentPublished(deployment);
+				case VALIDATED -> deploymentValidated(deployment);
+				default -> throw new IllegalStateException(
+						"Unexpected deployment status value %s".formatted(deployment.getStatus()));
+			}
+		}
+		return Result.SUCCESS;
+	}
+
+	private Deployment awaitFinalStatus(Upload upload) {
+		Deployment deployment = upload.deployment();
+		if (upload.resumed()) {
+			// The status durations of a resumed deployment are incomplete
+			deployment.awaitFinalStatus();
+		}
+		else {
+			long bytes = deployment.getUploadStatistics().bytes();
+			deployment.awaitFinalStatus(this.deploymentHistory.predict(bytes, upload.files()));
+			this.deploymentHistory.record(bytes, upload.files(), deployment.getStatusDurations());
+		}
+		if (deployment.getStatus() == Deployment.Status.FAILED) {
+			// Resuming a failed deployment would only fail again, even if it isn't dropped
+			this.checkpoints.remove(deployment.getId());
+		}
+		return deployment;
+	}
+
+	/**
+	 * Handles the deployments which have been created before the deployment failed. They
+	 * are dropped once they reached their final status, if drop on failure is enabled.
+	 * @param uploads the uploads which created a deployment
+	 */
+	private void abandon(List<Upload> uploads) {
+		if (uploads.isEmpty()) {
+			return;
+		}
+		List<String> ids = uploads.stream().map((upload) -> upload.deployment().getId()).toList();
+		if (!this.dropDeploymentOnFailure) {
+			this.logger.error("Deployment failed, these deployments have already been created: {}", ids);
+			return;
+		}
+		this.logger.error("Deployment failed, awaiting the final status of the already created deployments {} "
+				+ "to drop them ...", ids);
+		Results<Deployment> deployments = runConcurrently(uploads, (upload) -> {
+			upload.deployment().awaitFinalStatus();
+			return upload.deployment();
+		});
+		for (Throwable failure : deployments.failures()) {
+			this.logger.error("Failed to await final status: {}", failure.getMessage());
+		}
+		dropDeployments(deployments.values());
+	}
+
+	private Results<Upload> scanAndUpload() {
+		Measurement scan = this.instrumentation.start(Phase.SCAN);
+		List<Component> components = this.componentScanner.scan(this.root);
+		if (components.isEmpty()) {
+			throw noFilesFound();
+		}
+		long files = 0;
+		long bytes = 0;
+		for (Component component : components) {
+			files += component.getFiles().size();
+			bytes += component.getFiles().getTotalSize();
+		}
+		scan.stop(files, bytes);
+		List<FileSet> bundles = this.bundleSplitter.split(this.root, components);
+		if (bundles.size() > 1) {
+			this.logger.log("Found {} files in {} components, splitting them into {} bundles ...", files,
+					components.size(), bundles.size());
+		}
+		else {
+			this.logger.log("Found {} files in {} components, creating checksums...", files, components.size());
+		}
+		try {
+			return runConcurrently(bundles, this::upload);
+		}
+		finally {
+			this.bundleCache.prune();
+		}
+	}
+
+	private Results<Upload> uploadPipelined() {
+		this.logger.log("Scanning files and streaming bundles with their checksums to Sonatype ...");
+		Results<Upload> uploads = new Results<>(new ArrayList<>(), new ArrayList<>());
+		// Scanning, creating checksums, bundling and uploading overlap, so do their
+		// measurements
+		Measurement scan = this.instrumentation.start(Phase.SCAN);
+		try (Stream<Component> scanned = this.componentScanner.stream(this.root)) {
+			Iterator<Iterator<Component>> bundles = this.bundleSplitter.split(this.root, scanned.iterator());
+			if (!bundles.hasNext()) {
+				throw noFilesFound();
+			}
+			long totalFiles = 0;
+			long totalBytes = 0;
+			while (bundles.hasNext()) {
+				Iterator<Component> components = bundles.next();
+				AtomicLong files = new AtomicLong();
+				AtomicLong bytes = new AtomicLong();
+				Iterator<FileSet> groups = new Iterator<>() {
+
+					@Override
+					public boolean hasNext() {
+						return components.hasNext();
+					}
+
+					@Override
+					public FileSet next() {
+						FileSet group = components.next().getFiles();
+						files.addAndGet(group.size());
+						bytes.addAndGet(group.getTotalSize());
+						return group;
+					}
+
+				};
+				// The checksums are collected per component, while it's written to the bundle
+				StreamingBundle bundle = this.bundleCreator.createStreamingBundle(this.root, groups,
+						this.checksumCreator::createCollector);
+				Upload upload = upload(measure(bundle, files::get, bytes::get), files::get);
+				this.logger.log("Bundle uploaded, resulting in deployment '{}'.", upload.deployment().getId());
+				uploads.values().add(upload);
+				totalFiles += files.get();
+				totalBytes += bytes.get();
+			}
+			scan.stop(totalFiles, totalBytes);
+		}
+		catch (RuntimeException ex) {
+			// Bundles are uploaded one after another, so no further bundle is uploaded
+			uploads.failures().add(ex);
+		}
+		return uploads;
+	}
+
+	private StreamingBundle measure(StreamingBundle bundle, LongSupplier files, LongSupplier bytes) {
+		return (outputStream) -> {
+			Measurement checksums = this.instrumentation.start(Phase.CHECKSUM);
+			Measurement bundling = this.instrumentation.start(Phase.BUNDLE);
+			CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+			bundle.writeTo(countingOutputStream);
+			checksums.stop(files.getAsLong(), bytes.getAsLong());
+			bundling.stop(files.getAsLong(), countingOutputStream.getCount());
 		};
 	}
 
-	private Result deploymentValidated(Deployment deployment) {
+	private IllegalStateException noFilesFound() {
+		return new IllegalStateException("No files found in directory '%s'".formatted(this.root));
+	}
+
+	private Upload upload(FileSet files) {
+		String contentHash = this.checkpoints.getContentHash(this.root, files);
+		if (contentHash != null) {
+			Upload resumed = resume(contentHash, files);
+			if (resumed != null) {
+				return resumed;
+			}
+		}
+		Upload upload = (this.bundleMode == BundleMode.STREAMING) ? streamBundle(files) : uploadBundle(files);
+		this.logger.log("Bundle uploaded, resulting in deployment '{}'.", upload.deployment().getId());
+		if (contentHash != null) {
+			this.checkpoints.save(contentHash, this.publishingType, upload.deployment().getId());
+		}
+		return upload;
+	}
+
+	@Nullable
+	private Upload resume(String contentHash, FileSet files) {
+		String deploymentId = this.checkpoints.find(contentHash, this.publishingType);
+		if (deploymentId == null) {
+			return null;
+		}
+		Deployment deployment = this.centralPortalApi.findDeployment(deploymentId, this.publishingType);
+		if (deployment == null) {
+			this.logger.log("Deployment '{}' of checkpoint doesn't exist anymore, uploading bundle again ...",
+					deploymentId);
+			this.checkpoints.remove(deploymentId);
+			return null;
+		}
+		this.logger.log("Found checkpoint for bundle with {} files, resuming deployment '{}'.", files.size(),
+				deploymentId);
+		return new Upload(deployment, files.size(), true);
+	}
+
+	/**
+	 * Runs the given action for all items, with at most {@link #MAX_THREADS} at a time.
+	 * Waits for all items, even if the action fails for some of them.
+	 * @param <T> the type of the items
+	 * @param <R> the type of the results
+	 * @param items the items
+	 * @param action the action
+	 * @return the results of the items for which the action succeeded and the failures
+	 * of the others
+	 */
+	private <T, R> Results<R> runConcurrently(List<T> items, Function<T, R> action) {
+		Results<R> results = new Results<>(new ArrayList<>(items.size()), new ArrayList<>());
+		if (items.size() == 1) {
+			try {
+				results.values().add(action.apply(items.get(0)));
+			}
+			catch (RuntimeException ex) {
+				results.failures().add(ex);
+			}
+			return results;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(items.size(), MAX_THREADS),
+				createThreadFactory());
+		try {
+			List<Future<R>> futures = new ArrayList<>(items.size());
+			for (T item : items) {
+				futures.add(executor.submit(() -> action.apply(item)));
+			}
+			for (Future<R> future : futures) {
+				try {
+					results.values().add(future.get());
+				}
+				catch (ExecutionException ex) {
+					results.failures().add(ex.getCause());
+				}
+			}
+			return results;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Got interrupted while deploying", ex);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private CustomizableThreadFactory createThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("deploy-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	private Upload uploadBundle(FileSet files) {
+		Bundle bundle = this.bundleCache.get(this.root, files);
+		if (bundle != null) {
+			this.logger.log("Found cached bundle for {} files, skipping checksums and bundle creation", files.size());
+		}
+		else {
+			bundle = this.bundleCache.put(this.root, files, createBundle(files));
+		}
+		DataSize size = bundle.getSize();
+		this.logger.log("Bundle created. Uploading {} to Sonatype ...", size);
+		Measurement upload = this.instrumentation.start(Phase.UPLOAD);
+		Deployment deployment = this.centralPortalApi.upload(bundle, this.publishingType);
+		upload.stop(files.size(), size.toBytes());
+		return new Upload(deployment, files.size(), false);
+	}
+
+	private Upload upload(StreamingBundle bundle, LongSupplier files) {
+		Measurement upload = this.instrumentation.start(Phase.UPLOAD);
+		AtomicLong bytes = new AtomicLong();
+		Deployment deployment = this.centralPortalApi.upload((outputStream) -> {
+			CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+			bundle.writeTo(countingOutputStream);
+			bytes.set(countingOutputStream.getCount());
+		}, this.publishingType);
+		upload.stop(files.getAsLong(), bytes.get());
+		return new Upload(deployment, files.getAsLong(), false);
+	}
+
+	private Bundle createBundle(FileSet files) {
+		return switch (this.checksumMode) {
+			case FILES -> createBundleWithChecksumFiles(files);
+			case IN_MEMORY -> createBundleWithInMemoryChecksums(files);
+			case WHILE_BUNDLING -> createBundleWhileCollectingChecksums(files);
+		};
+	}
+
+	private Bundle measureBundle(FileSet files, Supplier<Bundle> action) {
+		Measurement measurement = this.instrumentation.start(Phase.BUNDLE);
+		Bundle bundle = action.get();
+		measurement.stop(files.size(), bundle.getSize().toBytes());
+		return bundle;
+	}
+
+	private <T> T measureChecksums(FileSet files, Supplier<T> action) {
+		Measurement measurement = this.instrumentation.start(Phase.CHECKSUM);
+		T result = action.get();
+		measurement.stop(files.size(), files.getTotalSize());
+		return result;
+	}
+
+	private Upload streamBundle(FileSet files) {
+		StreamingBundle bundle = switch (this.checksumMode) {
+			case FILES -> {
+				FileSet filesWithChecksums = files
+					.plus(measureChecksums(files, () -> this.checksumCreator.createChecksums(files)));
+				this.logger.log("Checksums created. Streaming bundle with {} files to Sonatype ...",
+						filesWithChecksums.size());
+				yield this.bundleCreator.createStreamingBundle(this.root, filesWithChecksums, Checksums.empty());
+			}
+			case IN_MEMORY -> {
+				Checksums checksums = measureChecksums(files, () -> this.checksumCreator.calculateChecksums(files));
+				this.logger.log("Checksums created. Streaming bundle with {} files and {} checksums to Sonatype ...",
+						files.size(), checksums.size());
+				yield this.bundleCreator.createStreamingBundle(this.root, files, checksums);
+			}
+			case WHILE_BUNDLING -> {
+				this.logger.log("Streaming bundle with {} files and their checksums to Sonatype ...", files.size());
+				yield this.bundleCreator.createStreamingBundle(this.root, files,
+						this.checksumCreator.createCollector(files));
+			}
+		};
+		return upload(bundle, files::size);
+	}
+
+	private Bundle createBundleWithChecksumFiles(FileSet files) {
+		FileSet checksums = measureChecksums(files, () -> this.checksumCreator.createChecksums(files));
+		FileSet filesWithChecksums = files.plus(checksums);
+		this.logger.log("Checksums created. Creating bundle with {} files ...", filesWithChecksums.size());
+		return measureBundle(filesWithChecksums, () -> this.bundleCreator.createBundle(this.root, filesWithChecksums));
+	}
+
+	private Bundle createBundleWithInMemoryChecksums(FileSet files) {
+		Checksums checksums = measureChecksums(files, () -> this.checksumCreator.calculateChecksums(files));
+		this.logger.log("Checksums created. Creating bundle with {} files and {} checksums ...", files.size(),
+				checksums.size());
+		return measureBundle(files, () -> this.bundleCreator.createBundle(this.root, files, checksums));
+	}
+
+	private Bundle createBundleWhileCollectingChecksums(FileSet files) {
+		this.logger.log("Creating bundle with {} files and their checksums ...", files.size());
+		return measureBundle(files, () -> this.bundleCreator.createBundle(this.root, files,
+				this.checksumCreator.createCollector(files)));
+	}
+
+	private void deploymentValidated(Deployment deployment) {
 		if (this.publishingType == PublishingType.AUTOMATIC) {
 			throw new IllegalStateException(
 					"Publishing type AUTOMATIC should only have states FAILED or PUBLISHED, but got VALIDATED");
 		}
 		this.logger.log("Deployment '{}' is done. Please execute required manual steps to publish the deployment.",
 				deployment.getId());
-		return Result.SUCCESS;
 	}
 
-	private Result deploymentPublished(Deployment deployment) {
+	private void deploymentPublished(Deployment deployment) {
 		if (this.publishingType == PublishingType.USER_MANAGED) {
 			throw new IllegalStateException(
 					"Publishing type USER_MANAGED should only have states FAILED or VALIDATED, but got PUBLISHED");
 		}
 		this.logger.log("Deployment '{}' successfully published", deployment.getId());
-		return Result.SUCCESS;
 	}
 
-	private Result deploymentFailed(Deployment deployment) {
-		this.logger.error("Deployment '{}' failed: {}", deployment.getId(), deployment.getErrors());
+	private Result deploymentsFailed(List<Deployment> deployments, List<Deployment> failed) {
+		for (Deployment deployment : failed) {
+			this.logger.error("Deployment '{}' failed: {}", deployment.getId(), deployment.getErrors());
+		}
 		if (this.dropDeploymentOnFailure) {
-			this.logger.log("Dropping deployment");
-			deployment.drop();
+			dropDeployments(deployments);
 		}
 		return Result.FAILURE;
 	}
 
+	private void dropDeployments(List<Deployment> deployments) {
+		for (Deployment deployment : deployments) {
+			try {
+				dropDeployment(deployment);
+			}
+			catch (RuntimeException ex) {
+				this.logger.error("Failed to drop deployment '{}': {}", deployment.getId(), ex.getMessage());
+			}
+		}
+	}
+
+	private void dropDeployment(Deployment deployment) {
+		Deployment.Status status = deployment.getStatus();
+		if (status != Deployment.Status.FAILED && status != Deployment.Status.VALIDATED) {
+			this.logger.error("Deployment '{}' can't be dropped, its status is {}", deployment.getId(), status);
+			return;
+		}
+		this.logger.log("Dropping deployment '{}'", deployment.getId());
+		deployment.drop();
+		this.checkpoints.remove(deployment.getId());
+	}
+
+	/**
+	 * A deployment together with the number of files in its bundle.
+	 *
+	 * @param deployment the deployment
+	 * @param files the number of files in the bundle
+	 * @param resumed whether the deployment has been uploaded by a previous run
+	 */
+	private record Upload(Deployment deployment, long files, boolean resumed) {
+	}
+
+	/**
+	 * Results of running an action for several items.
+	 *
+	 * @param <R> the type of the results
+	 * @param values the results of the items for which the action succeeded
+	 * @param failures the failures of the other items
+	 */
+	private record Results<R>(List<R> values, List<Throwable> failures) {
+
+		boolean isFailed() {
+			return !this.failures.isEmpty();
+		}
+
+		void throwFailure() {
+			Throwable failure = this.failures.get(0);
+			for (Throwable other : this.failures.subList(1, this.failures.size())) {
+				failure.addSuppressed(other);
+			}
+			if (failure instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (failure instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to deploy", failure);
+		}
+
+	}
+
+	/**
+	 * How checksums are created.
+	 */
+	enum ChecksumMode {
+
+		/**
+		 * Checksums are written to checksum files before the bundle is created.
+		 */
+		FILES,
+		/**
+		 * Checksums are calculated in memory before the bundle is created.
+		 */
+		IN_MEMORY,
+		/**
+		 * Checksums are calculated while the files are written to the bundle.
+		 */
+		WHILE_BUNDLING
+
+	}
+
+	/**
+	 * How bundles are created and uploaded.
+	 */
+	enum BundleMode {
+
+		/**
+		 * Bundles are written to a file, which is then uploaded.
+		 */
+		FILE,
+		/**
+		 * Bundles are streamed into the upload request.
+		 */
+		STREAMING,
+		/**
+		 * Scanning, checksum creation, bundle creation and upload overlap. Files are
+		 * handed from stage to stage through bounded queues, the checksums are always
+		 * collected while bundling.
+		 */
+		PIPELINED
+
+	}
+
 	/**
 	 * Deployment result.
 	 */
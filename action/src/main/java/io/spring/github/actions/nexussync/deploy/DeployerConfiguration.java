@@ -17,10 +17,14 @@
 package io.spring.github.actions.nexussync.deploy;
 
 import io.spring.github.actions.nexussync.NexusSyncProperties;
+import io.spring.github.actions.nexussync.bundle.BundleCache;
+import io.spring.github.actions.nexussync.bundle.BundleSplitter;
 import io.spring.github.actions.nexussync.bundle.Bundler;
 import io.spring.github.actions.nexussync.checksum.ChecksumCreator;
-import io.spring.github.actions.nexussync.file.FileScanner;
+import io.spring.github.actions.nexussync.maven.ComponentScanner;
+import io.spring.github.actions.nexussync.metrics.Instrumentation;
 import io.spring.github.actions.nexussync.sonatype.CentralPortalApi;
+import io.spring.github.actions.nexussync.sonatype.DeploymentHistory;
 import io.spring.github.actions.nexussync.sonatype.PublishingType;
 import io.spring.github.actions.nexussync.system.Logger;
 
@@ -38,11 +42,35 @@ import org.springframework.context.annotation.Configuration;
 class DeployerConfiguration {
 
 	@Bean
-	Deployer deployer(NexusSyncProperties properties, Logger logger, FileScanner fileScanner,
-			ChecksumCreator checksumCreator, Bundler bundler, CentralPortalApi centralPortalApi) {
+	Deployer deployer(NexusSyncProperties properties, Logger logger, ComponentScanner componentScanner,
+			ChecksumCreator checksumCreator, Bundler bundler, BundleSplitter bundleSplitter, BundleCache bundleCache,
+			CentralPortalApi centralPortalApi, DeploymentHistory deploymentHistory, Instrumentation instrumentation) {
 		NexusSyncProperties.Deployment deployment = properties.getDeployment();
-		return new Deployer(logger, properties.getDirectoryAsPath(), getPublishingType(deployment), fileScanner,
-				checksumCreator, bundler, centralPortalApi, deployment.isDropOnFailure());
+		return new Deployer(logger, properties.getDirectoryAsPath(), getPublishingType(deployment), componentScanner,
+				checksumCreator, bundler, bundleSplitter, bundleCache, centralPortalApi, deployment.isDropOnFailure(),
+				getChecksumMode(properties.getChecksum()), getBundleMode(properties.getBundle()), deploymentHistory,
+				getCheckpoints(deployment, logger), instrumentation);
+	}
+
+	private DeploymentCheckpoints getCheckpoints(NexusSyncProperties.Deployment properties, Logger logger) {
+		if (properties.getCheckpointFile() == null) {
+			return DeploymentCheckpoints.none();
+		}
+		return FileDeploymentCheckpoints.load(logger, properties.getCheckpointFile());
+	}
+
+	private Deployer.BundleMode getBundleMode(NexusSyncProperties.Bundle properties) {
+		if (properties.isPipelined()) {
+			return Deployer.BundleMode.PIPELINED;
+		}
+		return (properties.isStreaming()) ? Deployer.BundleMode.STREAMING : Deployer.BundleMode.FILE;
+	}
+
+	private Deployer.ChecksumMode getChecksumMode(NexusSyncProperties.Checksum properties) {
+		if (properties.isWhileBundling()) {
+			return Deployer.ChecksumMode.WHILE_BUNDLING;
+		}
+		return (properties.isInMemory()) ? Deployer.ChecksumMode.IN_MEMORY : Deployer.ChecksumMode.FILES;
 	}
 
 	private PublishingType getPublishingType(NexusSyncProperties.Deployment properties) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.nio.file.Path;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.sonatype.PublishingType;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Checkpoints of uploaded bundles. A checkpoint maps the content hash of a bundle and the
+ * publishing type to the resulting deployment, so that a rerun with the same inputs can
+ * resume waiting for that deployment instead of uploading the bundle again.
+ *
+ * @author Moritz Halbritter
+ */
+interface DeploymentCheckpoints {
+
+	/**
+	 * Returns the content hash of the bundle created from the given files.
+	 * @param root the root directory
+	 * @param files the files of the bundle
+	 * @return the content hash or {@code null} if checkpoints are disabled
+	 */
+	@Nullable
+	String getContentHash(Path root, FileSet files);
+
+	/**
+	 * Returns the deployment id of the checkpoint for the given bundle.
+	 * @param contentHash the content hash of the bundle
+	 * @param publishingType the publishing type
+	 * @return the deployment id or {@code null} if there's no checkpoint
+	 */
+	@Nullable
+	String find(String contentHash, PublishingType publishingType);
+
+	/**
+	 * Saves a checkpoint for an uploaded bundle.
+	 * @param contentHash the content hash of the bundle
+	 * @param publishingType the publishing type
+	 * @param deploymentId the id of the resulting deployment
+	 */
+	void save(String contentHash, PublishingType publishingType, String deploymentId);
+
+	/**
+	 * Removes the checkpoints of the given deployment.
+	 * @param deploymentId the deployment id
+	 */
+	void remove(String deploymentId);
+
+	/**
+	 * Returns checkpoints which don't store anything.
+	 * @return the checkpoints
+	 */
+	static DeploymentCheckpoints none() {
+		return new DeploymentCheckpoints() {
+
+			@Override
+			public String getContentHash(Path root, FileSet files) {
+				return null;
+			}
+
+			@Override
+			public String find(String contentHash, PublishingType publishingType) {
+				return null;
+			}
+
+			@Override
+			public void save(String contentHash, PublishingType publishingType, String deploymentId) {
+			}
+
+			@Override
+			public void remove(String deploymentId) {
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.bundle.BundleManifest;
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.file.TabSeparatedFile;
+import io.spring.github.actions.nexussync.sonatype.PublishingType;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link DeploymentCheckpoints} which are persisted in a file. The content hash is the
+ * hash of the {@link BundleManifest input manifest}, so it's known without reading the
+ * files. Files which are downloaded again get new last-modified times and therefore
+ * don't match the checkpoint of their previous upload. A checkpoint file which can't be
+ * saved is left alone, as a missing checkpoint only means that a deployment can't be
+ * resumed. For the same reason, an unreadable checkpoint file is treated as empty.
+ *
+ * @author Moritz Halbritter
+ */
+class FileDeploymentCheckpoints implements DeploymentCheckpoints {
+
+	private final TabSeparatedFile store;
+
+	private final List<Checkpoint> checkpoints;
+
+	private FileDeploymentCheckpoints(TabSeparatedFile store, List<Checkpoint> checkpoints) {
+		this.store = store;
+		this.checkpoints = checkpoints;
+	}
+
+	@Override
+	public String getContentHash(Path root, FileSet files) {
+		return BundleManifest.of(root, files).hash();
+	}
+
+	@Override
+	@Nullable
+	public synchronized String find(String contentHash, PublishingType publishingType) {
+		for (Checkpoint checkpoint : this.checkpoints) {
+			if (checkpoint.contentHash().equals(contentHash) && checkpoint.publishingType() == publishingType) {
+				return checkpoint.deploymentId();
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized void save(String contentHash, PublishingType publishingType, String deploymentId) {
+		this.checkpoints.removeIf((checkpoint) -> checkpoint.contentHash().equals(contentHash)
+				&& checkpoint.publishingType() == publishingType);
+		this.checkpoints.add(new Checkpoint(contentHash, publishingType, deploymentId));
+		write();
+	}
+
+	@Override
+	public synchronized void remove(String deploymentId) {
+		if (this.checkpoints.removeIf((checkpoint) -> checkpoint.deploymentId().equals(deploymentId))) {
+			write();
+		}
+	}
+
+	private void write() {
+		// A failure is logged, the deployment has been uploaded nevertheless, it just
+		// can't be resumed
+		this.store.write(this.checkpoints, (checkpoint) -> List.of(checkpoint.contentHash(),
+				checkpoint.publishingType().name(), checkpoint.deploymentId()));
+	}
+
+	/**
+	 * Loads the checkpoints from the given file. If the file doesn't exist or can't be
+	 * read, there are no checkpoints.
+	 * @param logger the logger to use
+	 * @param file the checkpoint file
+	 * @return the checkpoints
+	 */
+	static FileDeploymentCheckpoints load(Logger logger, Path file) {
+		TabSeparatedFile store = new TabSeparatedFile(logger, file, "deployment checkpoints");
+		// content hash <tab> publishing type <tab> deployment id
+		List<Checkpoint> checkpoints = store.read(3,
+				(columns) -> new Checkpoint(columns[0], PublishingType.valueOf(columns[1]), columns[2]));
+		return new FileDeploymentCheckpoints(store, new ArrayList<>(checkpoints));
+	}
+
+	private record Checkpoint(String contentHash, PublishingType publishingType, String deploymentId) {
+	}
+
+}
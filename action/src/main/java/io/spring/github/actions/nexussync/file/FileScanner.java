@@ -17,6 +17,7 @@
 package io.spring.github.actions.nexussync.file;
 
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 /**
  * Scans for files.
@@ -30,6 +31,22 @@ public interface FileScanner {
 	 * @param root the root folder
 	 * @return the found files
 	 */
-	FileSet scan(Path root);
+	default FileSet scan(Path root) {
+		try (Stream<FileSet> directories = stream(root)) {
+			FileSet.Builder files = FileSet.builder();
+			directories.forEach(files::addAll);
+			return files.build();
+		}
+	}
+
+	/**
+	 * Scans the given root folder and all subfolders for files, emitting the files of
+	 * every folder as soon as they have been found. The scan runs in the background and
+	 * pauses if the consumer falls behind. Closing the stream cancels the scan, so the
+	 * stream must always be closed.
+	 * @param root the root folder
+	 * @return the stream of found files, one element per folder which contains files
+	 */
+	Stream<FileSet> stream(Path root);
 
 }
@@ -17,37 +17,246 @@
 package io.spring.github.actions.nexussync.file;
 
 import java.io.IOException;
+import java.io.Serial;
 import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.springframework.stereotype.Component;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
- * Default implementation for {@link FileScanner}.
+ * Default implementation for {@link FileScanner}. Walks the directory tree in parallel
+ * on a {@link ForkJoinPool}, one task per directory. The attributes of every entry are
+ * read once while walking. Directories which are rejected by the {@link ScanFilter} are
+ * not entered at all, and rejected files are never part of the result. The size and
+ * last-modified time of every file are captured in the resulting {@link FileSet}, so later
+ * stages don't need to read them again. Like {@link Files#walk}, symbolic links to
+ * directories are not followed.
+ * <p>
+ * The files of every directory are handed to the consumer through a bounded queue. If
+ * the queue is full, the walk pauses until the consumer catches up.
  *
  * @author Moritz Halbritter
  */
-@Component
 class FileScannerImpl implements FileScanner {
 
+	private static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+	private final int threads;
+
+	private final ScanFilter filter;
+
+	private final int queueCapacity;
+
+	FileScannerImpl() {
+		this(Runtime.getRuntime().availableProcessors(), ScanFilter.all());
+	}
+
+	FileScannerImpl(int threads, ScanFilter filter) {
+		this(threads, filter, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	FileScannerImpl(int threads, ScanFilter filter, int queueCapacity) {
+		Assert.isTrue(threads > 0, "'threads' must be positive");
+		Assert.isTrue(queueCapacity > 0, "'queueCapacity' must be positive");
+		this.threads = threads;
+		this.filter = filter;
+		this.queueCapacity = queueCapacity;
+	}
+
 	@Override
-	public FileSet scan(Path root) {
-		try {
-			try (Stream<Path> stream = Files.walk(root)) {
-				List<Path> files = stream.filter(this::matches).toList();
-				return FileSet.of(files);
+	public Stream<FileSet> stream(Path root) {
+		if (!Files.isDirectory(root)) {
+			throw new UncheckedIOException("Failed to scan files",
+					new IOException("'%s' is not a directory".formatted(root)));
+		}
+		Scan scan = new Scan();
+		scan.start(root);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(scan, Spliterator.NONNULL | Spliterator.IMMUTABLE), false)
+			.onClose(scan::cancel);
+	}
+
+	/**
+	 * A running scan. The walk emits the files of every directory into the queue, the
+	 * consumer takes them from the queue via the {@link Iterator}.
+	 */
+	private final class Scan implements Iterator<FileSet> {
+
+		// Marks the end of the walk
+		private static final Object END = new Object();
+
+		private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(FileScannerImpl.this.queueCapacity);
+
+		private final ForkJoinPool pool = new ForkJoinPool(FileScannerImpl.this.threads);
+
+		private volatile boolean cancelled;
+
+		@Nullable
+		private FileSet next;
+
+		private boolean done;
+
+		void start(Path root) {
+			this.pool.execute(() -> {
+				try {
+					new DirectoryTask(this, root, root).invoke();
+					emit(END);
+				}
+				catch (CancellationException ex) {
+					// Nobody is listening anymore
+				}
+				catch (RuntimeException ex) {
+					emitFailure(ex);
+				}
+			});
+		}
+
+		void emit(Object item) {
+			if (this.cancelled) {
+				throw new CancellationException("Scan has been cancelled");
+			}
+			try {
+				this.queue.put(item);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Scan has been cancelled");
+			}
+		}
+
+		private void emitFailure(RuntimeException failure) {
+			try {
+				emit(failure);
+			}
+			catch (CancellationException ex) {
+				// Nobody is listening anymore
+			}
+		}
+
+		void cancel() {
+			this.cancelled = true;
+			this.pool.shutdownNow();
+		}
+
+		boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null && !this.done) {
+				Object item = take();
+				if (item == END) {
+					this.done = true;
+				}
+				else if (item instanceof RuntimeException ex) {
+					this.done = true;
+					throw ex;
+				}
+				else {
+					this.next = (FileSet) item;
+				}
 			}
+			return this.next != null;
 		}
-		catch (IOException ex) {
-			throw new UncheckedIOException("Failed to scan files", ex);
+
+		@Override
+		public FileSet next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			FileSet result = this.next;
+			this.next = null;
+			return result;
 		}
+
+		private Object take() {
+			try {
+				return this.queue.take();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Got interrupted while scanning files", ex);
+			}
+		}
+
 	}
 
-	private boolean matches(Path path) {
-		return Files.isRegularFile(path);
+	private final class DirectoryTask extends RecursiveAction {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final transient Scan scan;
+
+		private final Path root;
+
+		private final Path directory;
+
+		DirectoryTask(Scan scan, Path root, Path directory) {
+			this.scan = scan;
+			this.root = root;
+			this.directory = directory;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.scan.isCancelled()) {
+				return;
+			}
+			FileSet.Builder files = FileSet.builder();
+			List<DirectoryTask> subdirectories = new ArrayList<>();
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+				for (Path entry : entries) {
+					BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class,
+							LinkOption.NOFOLLOW_LINKS);
+					if (attributes.isDirectory()) {
+						if (FileScannerImpl.this.filter.shouldEnter(this.root.relativize(entry))) {
+							subdirectories.add(new DirectoryTask(this.scan, this.root, entry));
+						}
+					}
+					else if (attributes.isRegularFile()) {
+						addFile(files, entry, attributes);
+					}
+					else if (attributes.isSymbolicLink() && Files.isRegularFile(entry)) {
+						addFile(files, entry, Files.readAttributes(entry, BasicFileAttributes.class));
+					}
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to scan directory '%s'".formatted(this.directory), ex);
+			}
+			FileSet result = files.build();
+			if (!result.isEmpty()) {
+				this.scan.emit(result);
+			}
+			invokeAll(subdirectories);
+		}
+
+		private void addFile(FileSet.Builder files, Path file, BasicFileAttributes attributes) {
+			if (FileScannerImpl.this.filter.shouldInclude(this.root.relativize(file))) {
+				files.add(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+			}
+		}
+
 	}
 
 }
@@ -16,30 +16,86 @@
 
 package io.spring.github.actions.nexussync.file;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntBinaryOperator;
+
+import org.springframework.util.Assert;
 
 /**
- * A collection of files.
+ * A sorted collection of files, optionally with the size and last-modified time which
+ * have been captured while scanning. Files are sorted by directory and then by name.
+ * <p>
+ * To keep the footprint of large collections small, the files are stored in primitive
+ * arrays: every directory is stored only once, and the file names are packed into a
+ * single string. Concatenating two collections merges the sorted arrays in linear time.
  *
  * @author Moritz Halbritter
  */
 public final class FileSet implements Iterable<Path> {
 
-	private final Set<Path> files;
+	private static final long UNKNOWN = -1;
+
+	private static final FileSet EMPTY = new FileSet(new Path[0], new int[0], "", new int[1], new long[0],
+			new long[0]);
+
+	private final Path[] directories;
+
+	// Index of the first file of every directory, plus the number of files at the end
+	private final int[] directoryStarts;
+
+	private final String names;
 
-	private FileSet(Set<Path> files) {
-		this.files = files;
+	// Offset of every name in names, plus the length of names at the end
+	private final int[] nameOffsets;
+
+	private final long[] sizes;
+
+	private final long[] lastModified;
+
+	private FileSet(Path[] directories, int[] directoryStarts, String names, int[] nameOffsets, long[] sizes,
+			long[] lastModified) {
+		this.directories = directories;
+		this.directoryStarts = directoryStarts;
+		this.names = names;
+		this.nameOffsets = nameOffsets;
+		this.sizes = sizes;
+		this.lastModified = lastModified;
 	}
 
 	@Override
 	public Iterator<Path> iterator() {
-		return this.files.iterator();
+		return new Iterator<>() {
+
+			private int file;
+
+			private int directory;
+
+			@Override
+			public boolean hasNext() {
+				return this.file < size();
+			}
+
+			@Override
+			public Path next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				while (FileSet.this.directoryStarts[this.directory + 1] <= this.file) {
+					this.directory++;
+				}
+				return FileSet.this.directories[this.directory].resolve(getName(this.file++));
+			}
+
+		};
 	}
 
 	/**
@@ -47,7 +103,7 @@ public final class FileSet implements Iterable<Path> {
 	 * @return whether this collection is empty
 	 */
 	public boolean isEmpty() {
-		return this.files.isEmpty();
+		return size() == 0;
 	}
 
 	/**
@@ -55,7 +111,70 @@ public final class FileSet implements Iterable<Path> {
 	 * @return the size of the collection
 	 */
 	public int size() {
-		return this.files.size();
+		return this.sizes.length;
+	}
+
+	/**
+	 * Whether this collection contains the given file.
+	 * @param file the file
+	 * @return whether this collection contains the file
+	 */
+	public boolean contains(Path file) {
+		return indexOf(file.toAbsolutePath()) >= 0;
+	}
+
+	/**
+	 * Returns the size of the given file. Uses the size captured while scanning, if
+	 * available.
+	 * @param file the file
+	 * @return the size of the file in bytes
+	 */
+	public long getSize(Path file) {
+		long size = this.sizes[getIndex(file)];
+		if (size != UNKNOWN) {
+			return size;
+		}
+		try {
+			return Files.size(file);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to get file size of '%s'".formatted(file), ex);
+		}
+	}
+
+	/**
+	 * Returns the last-modified time of the given file in milliseconds since the epoch.
+	 * Uses the time captured while scanning, if available.
+	 * @param file the file
+	 * @return the last-modified time of the file
+	 */
+	public long getLastModified(Path file) {
+		long lastModified = this.lastModified[getIndex(file)];
+		if (lastModified != UNKNOWN) {
+			return lastModified;
+		}
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to get last-modified time of '%s'".formatted(file), ex);
+		}
+	}
+
+	/**
+	 * Returns the total size of all files. Uses the sizes captured while scanning, if
+	 * available.
+	 * @return the total size in bytes
+	 */
+	public long getTotalSize() {
+		long total = 0;
+		int directory = 0;
+		for (int i = 0; i < size(); i++) {
+			directory = advanceDirectory(directory, i);
+			long size = this.sizes[i];
+			total += (size != UNKNOWN) ? size : getSize(this.directories[directory].resolve(getName(i)));
+		}
+		return total;
 	}
 
 	/**
@@ -64,9 +183,104 @@ public final class FileSet implements Iterable<Path> {
 	 * @return a collection containing files contained in this and the other collection
 	 */
 	public FileSet plus(FileSet other) {
-		Set<Path> files = new HashSet<>(this.files);
-		files.addAll(other.files);
-		return new FileSet(files);
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		Builder builder = new Builder(size() + other.size());
+		int i = 0;
+		int j = 0;
+		int directoryI = 0;
+		int directoryJ = 0;
+		while (i < size() || j < other.size()) {
+			if (i < size()) {
+				directoryI = advanceDirectory(directoryI, i);
+			}
+			if (j < other.size()) {
+				directoryJ = other.advanceDirectory(directoryJ, j);
+			}
+			int comparison;
+			if (i == size()) {
+				comparison = 1;
+			}
+			else if (j == other.size()) {
+				comparison = -1;
+			}
+			else {
+				comparison = compare(this.directories[directoryI], getName(i), other.directories[directoryJ],
+						other.getName(j));
+			}
+			if (comparison <= 0) {
+				long size = this.sizes[i];
+				long lastModified = this.lastModified[i];
+				if (comparison == 0) {
+					// Prefer the metadata which is known
+					size = (size != UNKNOWN) ? size : other.sizes[j];
+					lastModified = (lastModified != UNKNOWN) ? lastModified : other.lastModified[j];
+					j++;
+				}
+				builder.append(this.directories[directoryI], getName(i), size, lastModified);
+				i++;
+			}
+			else {
+				builder.append(other.directories[directoryJ], other.getName(j), other.sizes[j],
+						other.lastModified[j]);
+				j++;
+			}
+		}
+		return builder.pack();
+	}
+
+	private int advanceDirectory(int directory, int file) {
+		while (this.directoryStarts[directory + 1] <= file) {
+			directory++;
+		}
+		return directory;
+	}
+
+	private String getName(int file) {
+		return this.names.substring(this.nameOffsets[file], this.nameOffsets[file + 1]);
+	}
+
+	private int getIndex(Path file) {
+		int index = indexOf(file.toAbsolutePath());
+		Assert.isTrue(index >= 0, () -> "'%s' is not contained in this file set".formatted(file));
+		return index;
+	}
+
+	private int indexOf(Path file) {
+		Path parent = file.getParent();
+		if (parent == null) {
+			return -1;
+		}
+		int directory = Arrays.binarySearch(this.directories, parent);
+		if (directory < 0) {
+			return -1;
+		}
+		String name = file.getFileName().toString();
+		int low = this.directoryStarts[directory];
+		int high = this.directoryStarts[directory + 1] - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = getName(middle).compareTo(name);
+			if (comparison < 0) {
+				low = middle + 1;
+			}
+			else if (comparison > 0) {
+				high = middle - 1;
+			}
+			else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	private static int compare(Path directory1, String name1, Path directory2, String name2) {
+		int comparison = directory1.compareTo(directory2);
+		return (comparison != 0) ? comparison : name1.compareTo(name2);
 	}
 
 	/**
@@ -74,7 +288,7 @@ public final class FileSet implements Iterable<Path> {
 	 * @return the empty collection
 	 */
 	public static FileSet empty() {
-		return new FileSet(Collections.emptySet());
+		return EMPTY;
 	}
 
 	/**
@@ -83,7 +297,200 @@ public final class FileSet implements Iterable<Path> {
 	 * @return the collection containing the given files
 	 */
 	public static FileSet of(Collection<Path> files) {
-		return new FileSet(files.stream().map(Path::toAbsolutePath).collect(Collectors.toSet()));
+		Builder builder = builder();
+		for (Path file : files) {
+			builder.add(file);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a new builder.
+	 * @return the new builder
+	 */
+	public static Builder builder() {
+		return new Builder(16);
+	}
+
+	/**
+	 * Builder for {@link FileSet}. Not thread-safe.
+	 */
+	public static final class Builder {
+
+		private final List<Path> directories = new ArrayList<>();
+
+		private int[] directoryIndexes;
+
+		private final List<String> names;
+
+		private long[] sizes;
+
+		private long[] lastModified;
+
+		private int size;
+
+		private Builder(int capacity) {
+			this.directoryIndexes = new int[capacity];
+			this.names = new ArrayList<>(capacity);
+			this.sizes = new long[capacity];
+			this.lastModified = new long[capacity];
+		}
+
+		/**
+		 * Adds the given file without metadata.
+		 * @param file the file
+		 * @return this builder
+		 */
+		public Builder add(Path file) {
+			return add(file, UNKNOWN, UNKNOWN);
+		}
+
+		/**
+		 * Adds the given file with the given metadata.
+		 * @param file the file
+		 * @param size the size of the file in bytes
+		 * @param lastModified the last-modified time in milliseconds since the epoch
+		 * @return this builder
+		 */
+		public Builder add(Path file, long size, long lastModified) {
+			Path absolute = file.toAbsolutePath();
+			append(absolute.getParent(), absolute.getFileName().toString(), size, lastModified);
+			return this;
+		}
+
+		/**
+		 * Adds all files of the given file set, including their metadata.
+		 * @param files the files
+		 * @return this builder
+		 */
+		public Builder addAll(FileSet files) {
+			int directory = 0;
+			for (int i = 0; i < files.size(); i++) {
+				directory = files.advanceDirectory(directory, i);
+				append(files.directories[directory], files.getName(i), files.sizes[i], files.lastModified[i]);
+			}
+			return this;
+		}
+
+		private void append(Path directory, String name, long size, long lastModified) {
+			int last = this.directories.size() - 1;
+			if (last < 0 || !this.directories.get(last).equals(directory)) {
+				this.directories.add(directory);
+				last++;
+			}
+			if (this.size == this.sizes.length) {
+				int capacity = this.size * 2;
+				this.directoryIndexes = Arrays.copyOf(this.directoryIndexes, capacity);
+				this.sizes = Arrays.copyOf(this.sizes, capacity);
+				this.lastModified = Arrays.copyOf(this.lastModified, capacity);
+			}
+			this.directoryIndexes[this.size] = last;
+			this.names.add(name);
+			this.sizes[this.size] = size;
+			this.lastModified[this.size] = lastModified;
+			this.size++;
+		}
+
+		/**
+		 * Builds the {@link FileSet}, sorting the files and removing duplicates.
+		 * @return the file set
+		 */
+		public FileSet build() {
+			int[] order = new int[this.size];
+			for (int i = 0; i < this.size; i++) {
+				order[i] = i;
+			}
+			sort(order, (a, b) -> compare(this.directories.get(this.directoryIndexes[a]), this.names.get(a),
+					this.directories.get(this.directoryIndexes[b]), this.names.get(b)));
+			Builder sorted = new Builder(Math.max(this.size, 1));
+			for (int i = 0; i < this.size; i++) {
+				int index = order[i];
+				Path directory = this.directories.get(this.directoryIndexes[index]);
+				String name = this.names.get(index);
+				if (sorted.size > 0 && sorted.isLast(directory, name)) {
+					sorted.mergeLast(this.sizes[index], this.lastModified[index]);
+					continue;
+				}
+				sorted.append(directory, name, this.sizes[index], this.lastModified[index]);
+			}
+			return sorted.pack();
+		}
+
+		// Stable merge sort of indexes, which avoids boxing every index for Arrays.sort
+		private static void sort(int[] indexes, IntBinaryOperator comparator) {
+			int[] source = indexes;
+			int[] target = new int[indexes.length];
+			for (int width = 1; width < indexes.length; width *= 2) {
+				for (int start = 0; start < indexes.length; start += width * 2) {
+					int middle = Math.min(start + width, indexes.length);
+					int end = Math.min(start + width * 2, indexes.length);
+					merge(source, target, start, middle, end, comparator);
+				}
+				int[] merged = target;
+				target = source;
+				source = merged;
+			}
+			if (source != indexes) {
+				System.arraycopy(source, 0, indexes, 0, indexes.length);
+			}
+		}
+
+		private static void merge(int[] source, int[] target, int start, int middle, int end,
+				IntBinaryOperator comparator) {
+			if (middle == end || comparator.applyAsInt(source[middle - 1], source[middle]) <= 0) {
+				// Already in order, which is common as files are scanned directory by directory
+				System.arraycopy(source, start, target, start, end - start);
+				return;
+			}
+			int left = start;
+			int right = middle;
+			for (int i = start; i < end; i++) {
+				if (right == end || (left < middle && comparator.applyAsInt(source[left], source[right]) <= 0)) {
+					target[i] = source[left++];
+				}
+				else {
+					target[i] = source[right++];
+				}
+			}
+		}
+
+		private boolean isLast(Path directory, String name) {
+			int last = this.size - 1;
+			return this.names.get(last).equals(name)
+					&& this.directories.get(this.directoryIndexes[last]).equals(directory);
+		}
+
+		private void mergeLast(long size, long lastModified) {
+			int last = this.size - 1;
+			if (this.sizes[last] == UNKNOWN) {
+				this.sizes[last] = size;
+			}
+			if (this.lastModified[last] == UNKNOWN) {
+				this.lastModified[last] = lastModified;
+			}
+		}
+
+		// Files must have been appended in sorted order
+		private FileSet pack() {
+			if (this.size == 0) {
+				return EMPTY;
+			}
+			int[] directoryStarts = new int[this.directories.size() + 1];
+			for (int i = this.size - 1; i >= 0; i--) {
+				directoryStarts[this.directoryIndexes[i]] = i;
+			}
+			directoryStarts[this.directories.size()] = this.size;
+			StringBuilder names = new StringBuilder();
+			int[] nameOffsets = new int[this.size + 1];
+			for (int i = 0; i < this.size; i++) {
+				nameOffsets[i] = names.length();
+				names.append(this.names.get(i));
+			}
+			nameOffsets[this.size] = names.length();
+			return new FileSet(this.directories.toArray(new Path[0]), directoryStarts, names.toString(), nameOffsets,
+					Arrays.copyOf(this.sizes, this.size), Arrays.copyOf(this.lastModified, this.size));
+		}
+
 	}
 
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.file;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ScanFilter} which uses include and exclude glob patterns, in the syntax of
+ * {@link FileSystem#getPathMatcher}. A file is included if it matches any include
+ * pattern (or if there are no include patterns) and doesn't match any exclude pattern.
+ * A directory is not entered if it matches an exclude pattern, or if an exclude pattern
+ * ending in {@code /**} matches the directory.
+ *
+ * @author Moritz Halbritter
+ */
+final class GlobScanFilter implements ScanFilter {
+
+	private static final String ANY_DESCENDANT = "/**";
+
+	private final List<PathMatcher> includes;
+
+	private final List<PathMatcher> excludes;
+
+	private final List<PathMatcher> excludedDirectories;
+
+	private GlobScanFilter(List<String> includes, List<String> excludes) {
+		FileSystem fileSystem = FileSystems.getDefault();
+		this.includes = createMatchers(fileSystem, includes);
+		this.excludes = createMatchers(fileSystem, excludes);
+		List<String> excludedDirectories = new ArrayList<>(excludes);
+		for (String exclude : excludes) {
+			if (exclude.endsWith(ANY_DESCENDANT)) {
+				excludedDirectories.add(exclude.substring(0, exclude.length() - ANY_DESCENDANT.length()));
+			}
+		}
+		this.excludedDirectories = createMatchers(fileSystem, excludedDirectories);
+	}
+
+	@Override
+	public boolean shouldEnter(Path directory) {
+		return !matchesAny(this.excludedDirectories, directory);
+	}
+
+	@Override
+	public boolean shouldInclude(Path file) {
+		if (!this.includes.isEmpty() && !matchesAny(this.includes, file)) {
+			return false;
+		}
+		return !matchesAny(this.excludes, file);
+	}
+
+	private boolean matchesAny(List<PathMatcher> matchers, Path path) {
+		for (PathMatcher matcher : matchers) {
+			if (matcher.matches(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<PathMatcher> createMatchers(FileSystem fileSystem, List<String> patterns) {
+		return patterns.stream().map((pattern) -> fileSystem.getPathMatcher("glob:" + pattern)).toList();
+	}
+
+	/**
+	 * Creates a filter for the given patterns. If there are neither include nor exclude
+	 * patterns, a filter which accepts everything is returned.
+	 * @param includes the include patterns
+	 * @param excludes the exclude patterns
+	 * @return the filter
+	 */
+	static ScanFilter of(List<String> includes, List<String> excludes) {
+		if (includes.isEmpty() && excludes.isEmpty()) {
+			return ScanFilter.all();
+		}
+		return new GlobScanFilter(includes, excludes);
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.file;
+
+import java.nio.file.Path;
+
+/**
+ * Filter which is applied while scanning. All paths are relative to the scanned root.
+ *
+ * @author Moritz Halbritter
+ */
+interface ScanFilter {
+
+	/**
+	 * Whether the given directory should be entered.
+	 * @param directory the directory, relative to the root
+	 * @return whether the directory should be entered
+	 */
+	boolean shouldEnter(Path directory);
+
+	/**
+	 * Whether the given file should be included in the scan result.
+	 * @param file the file, relative to the root
+	 * @return whether the file should be included
+	 */
+	boolean shouldInclude(Path file);
+
+	/**
+	 * Returns a filter which enters all directories and includes all files.
+	 * @return a filter which accepts everything
+	 */
+	static ScanFilter all() {
+		return new ScanFilter() {
+
+			@Override
+			public boolean shouldEnter(Path directory) {
+				return true;
+			}
+
+			@Override
+			public boolean shouldInclude(Path file) {
+				return true;
+			}
+
+		};
+	}
+
+}
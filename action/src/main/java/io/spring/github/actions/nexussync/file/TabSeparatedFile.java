@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.file;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A file with tab-separated values in which the action keeps state between runs, for
+ * example a cache. The file starts with a header which names its contents. It's replaced
+ * atomically when written, so that a concurrent or cancelled run never leaves a partial
+ * file behind. Such state only ever speeds up or improves a deployment, therefore
+ * failures to read or write the file are logged, never thrown.
+ *
+ * @author Moritz Halbritter
+ */
+public final class TabSeparatedFile {
+
+	private static final String HEADER = "# nexus-sync-action %s v1";
+
+	private final Logger logger;
+
+	private final Path file;
+
+	private final String description;
+
+	/**
+	 * Creates a new instance.
+	 * @param logger the logger to use
+	 * @param file the file
+	 * @param description the description of the contents, for example
+	 * {@code checksum cache}
+	 */
+	public TabSeparatedFile(Logger logger, Path file, String description) {
+		this.logger = logger;
+		this.file = file;
+		this.description = description;
+	}
+
+	/**
+	 * Reads the lines of the file. Empty lines and comments are skipped, as are lines
+	 * which don't have the given number of columns or which the parser rejects. If the
+	 * file doesn't exist or can't be read, there are no lines.
+	 * @param <T> the type of the parsed lines
+	 * @param columns the number of columns, the last column holds the rest of the line
+	 * @param parser parses the columns of a line, throws a {@link RuntimeException} if
+	 * they are invalid
+	 * @return the parsed lines
+	 */
+	public <T> List<T> read(int columns, Function<String[], T> parser) {
+		List<T> result = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				T parsed = parse(line, columns, parser);
+				if (parsed != null) {
+					result.add(parsed);
+				}
+			}
+		}
+		catch (NoSuchFileException ex) {
+			// File doesn't exist yet
+		}
+		catch (IOException ex) {
+			this.logger.log("Failed to read {} '{}', ignoring it: {}", this.description, this.file, ex.getMessage());
+			return new ArrayList<>();
+		}
+		this.logger.debug("Loaded {} entries from {} '{}'", result.size(), this.description, this.file);
+		return result;
+	}
+
+	@Nullable
+	private <T> T parse(String line, int columns, Function<String[], T> parser) {
+		String[] parts = line.split("\t", columns);
+		if (parts.length == columns) {
+			try {
+				return parser.apply(parts);
+			}
+			catch (RuntimeException ex) {
+				// Invalid line
+			}
+		}
+		this.logger.debug("Skipping invalid line '{}' in {} '{}'", line, this.description, this.file);
+		return null;
+	}
+
+	/**
+	 * Replaces the file with the given values, one per line.
+	 * @param <T> the type of the values
+	 * @param values the values
+	 * @param formatter returns the columns of a value
+	 * @return whether the file has been written
+	 */
+	public <T> boolean write(Collection<T> values, Function<T, List<?>> formatter) {
+		try {
+			Path parent = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempFile = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+			try {
+				try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+					writer.write(HEADER.formatted(this.description));
+					writer.newLine();
+					for (T value : values) {
+						writer.write(formatter.apply(value)
+							.stream()
+							.map(String::valueOf)
+							.collect(Collectors.joining("\t")));
+						writer.newLine();
+					}
+				}
+				Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+			this.logger.debug("Saved {} entries to {} '{}'", values.size(), this.description, this.file);
+			return true;
+		}
+		catch (IOException ex) {
+			this.logger.log("Failed to save {} '{}', ignoring it: {}", this.description, this.file, ex.getMessage());
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+import java.nio.file.Path;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A file of a {@link Component}, for example the main jar, a classified jar, the pom or
+ * a signature or checksum of one of those.
+ *
+ * @param file the file
+ * @param classifier the classifier or {@code null} if the artifact has no classifier
+ * @param extension the extension of the artifact, without signature or checksum
+ * extensions
+ * @param type the type of the file
+ * @author Moritz Halbritter
+ */
+public record Artifact(Path file, @Nullable String classifier, String extension, Type type) {
+
+	/**
+	 * Whether this is the main artifact of the component, which has no classifier and
+	 * is neither metadata (pom or Gradle module) nor a signature or checksum.
+	 * @return whether this is the main artifact
+	 */
+	public boolean isMain() {
+		return this.classifier == null && this.type == Type.FILE && !isMetadata();
+	}
+
+	/**
+	 * Whether this is the pom or the Gradle module metadata of the component.
+	 * @return whether this is metadata
+	 */
+	public boolean isMetadata() {
+		return this.classifier == null && ("pom".equals(this.extension) || "module".equals(this.extension));
+	}
+
+	/**
+	 * The type of the file.
+	 */
+	public enum Type {
+
+		/**
+		 * The artifact itself.
+		 */
+		FILE,
+
+		/**
+		 * A signature of an artifact.
+		 */
+		SIGNATURE,
+
+		/**
+		 * A checksum of an artifact or of a signature.
+		 */
+		CHECKSUM
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A Maven component, identified by group id, artifact id and version, with all files of
+ * its directory in the repository layout. The last two path segments of the directory
+ * are the artifact id and the version, the segments before are the group id. Files named
+ * {@code <artifactId>-<version>[-<classifier>].<extension>} are the artifacts of the
+ * component, optionally followed by a signature extension and checksum extensions.
+ * <p>
+ * Directories which don't contain any artifact named after their coordinates, for
+ * example a directory with the {@code maven-metadata.xml} of an artifact, have no
+ * coordinates, all their files are other files.
+ *
+ * @author Moritz Halbritter
+ */
+public final class Component {
+
+	private static final List<String> CHECKSUM_EXTENSIONS = List.of(".md5", ".sha1", ".sha256", ".sha512");
+
+	private static final String SIGNATURE_EXTENSION = ".asc";
+
+	private final Path directory;
+
+	private final FileSet files;
+
+	@Nullable
+	private final Coordinates coordinates;
+
+	private final List<Artifact> artifacts;
+
+	private final List<Path> otherFiles;
+
+	private Component(Path directory, FileSet files, @Nullable Coordinates coordinates, List<Artifact> artifacts,
+			List<Path> otherFiles) {
+		this.directory = directory;
+		this.files = files;
+		this.coordinates = coordinates;
+		this.artifacts = List.copyOf(artifacts);
+		this.otherFiles = List.copyOf(otherFiles);
+	}
+
+	/**
+	 * Returns the coordinates of the component.
+	 * @return the coordinates or {@code null} if the directory doesn't follow the Maven
+	 * repository layout
+	 */
+	@Nullable
+	public Coordinates getCoordinates() {
+		return this.coordinates;
+	}
+
+	/**
+	 * Returns the directory of the component.
+	 * @return the directory
+	 */
+	public Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Returns all files of the component, including the ones which aren't artifacts.
+	 * @return all files
+	 */
+	public FileSet getFiles() {
+		return this.files;
+	}
+
+	/**
+	 * Returns the files which follow the naming convention of the component.
+	 * @return the artifacts
+	 */
+	public List<Artifact> getArtifacts() {
+		return this.artifacts;
+	}
+
+	/**
+	 * Returns the artifacts of the given type.
+	 * @param type the type
+	 * @return the artifacts of the given type
+	 */
+	public List<Artifact> getArtifacts(Artifact.Type type) {
+		return this.artifacts.stream().filter((artifact) -> artifact.type() == type).toList();
+	}
+
+	/**
+	 * Returns the files in the directory of the component which don't follow the naming
+	 * convention of the component, for example {@code maven-metadata.xml}.
+	 * @return the other files
+	 */
+	public List<Path> getOtherFiles() {
+		return this.otherFiles;
+	}
+
+	/**
+	 * Whether the component has a pom.
+	 * @return whether the component has a pom
+	 */
+	public boolean hasPom() {
+		return this.artifacts.stream()
+			.anyMatch((artifact) -> artifact.type() == Artifact.Type.FILE && artifact.classifier() == null
+					&& "pom".equals(artifact.extension()));
+	}
+
+	/**
+	 * Returns the coordinates of the component or, if it has none, its directory.
+	 * @return the description of the component
+	 */
+	@Override
+	public String toString() {
+		return (this.coordinates != null) ? this.coordinates.toString() : this.directory.toString();
+	}
+
+	/**
+	 * Creates the component for the files of a single directory.
+	 * @param root the root directory of the repository layout
+	 * @param files the files, all in the same directory below the root directory
+	 * @return the component
+	 */
+	public static Component of(Path root, FileSet files) {
+		Assert.isTrue(!files.isEmpty(), "'files' must not be empty");
+		Path directory = files.iterator().next().getParent();
+		Coordinates coordinates = getCoordinates(root.toAbsolutePath().relativize(directory));
+		List<Artifact> artifacts = new ArrayList<>();
+		List<Path> otherFiles = new ArrayList<>();
+		for (Path file : files) {
+			Artifact artifact = (coordinates != null) ? createArtifact(coordinates, file) : null;
+			if (artifact != null) {
+				artifacts.add(artifact);
+			}
+			else {
+				otherFiles.add(file);
+			}
+		}
+		if (artifacts.isEmpty()) {
+			return new Component(directory, files, null, artifacts, otherFiles);
+		}
+		return new Component(directory, files, coordinates, artifacts, otherFiles);
+	}
+
+	@Nullable
+	private static Coordinates getCoordinates(Path relative) {
+		int segments = relative.getNameCount();
+		if (segments < 3) {
+			return null;
+		}
+		String groupId = relative.subpath(0, segments - 2).toString().replace(relative.getFileSystem().getSeparator(),
+				".");
+		return new Coordinates(groupId, relative.getName(segments - 2).toString(),
+				relative.getName(segments - 1).toString());
+	}
+
+	@Nullable
+	private static Artifact createArtifact(Coordinates coordinates, Path file) {
+		String prefix = coordinates.artifactId() + "-" + coordinates.version();
+		String name = file.getFileName().toString();
+		if (!name.startsWith(prefix)) {
+			return null;
+		}
+		String remainder = name.substring(prefix.length());
+		Artifact.Type type = Artifact.Type.FILE;
+		String checksumExtension = getChecksumExtension(remainder);
+		if (checksumExtension != null) {
+			type = Artifact.Type.CHECKSUM;
+			remainder = remainder.substring(0, remainder.length() - checksumExtension.length());
+		}
+		if (remainder.endsWith(SIGNATURE_EXTENSION)) {
+			type = (type != Artifact.Type.CHECKSUM) ? Artifact.Type.SIGNATURE : type;
+			remainder = remainder.substring(0, remainder.length() - SIGNATURE_EXTENSION.length());
+		}
+		String classifier = null;
+		if (remainder.startsWith("-")) {
+			int dot = remainder.indexOf('.');
+			if (dot <= 1) {
+				return null;
+			}
+			classifier = remainder.substring(1, dot);
+			remainder = remainder.substring(dot);
+		}
+		if (!remainder.startsWith(".") || remainder.length() == 1) {
+			return null;
+		}
+		return new Artifact(file, classifier, remainder.substring(1), type);
+	}
+
+	@Nullable
+	private static String getChecksumExtension(String name) {
+		for (String extension : CHECKSUM_EXTENSIONS) {
+			if (name.endsWith(extension)) {
+				return extension;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Scans for Maven components in a directory which uses the Maven repository layout.
+ *
+ * @author Moritz Halbritter
+ */
+public interface ComponentScanner {
+
+	/**
+	 * Scans the given root folder for components.
+	 * @param root the root folder
+	 * @return the found components
+	 */
+	default List<Component> scan(Path root) {
+		try (Stream<Component> components = stream(root)) {
+			return components.toList();
+		}
+	}
+
+	/**
+	 * Scans the given root folder for components, emitting every component as soon as
+	 * its directory has been scanned. The stream must always be closed.
+	 * @param root the root folder
+	 * @return the stream of found components
+	 */
+	Stream<Component> stream(Path root);
+
+}
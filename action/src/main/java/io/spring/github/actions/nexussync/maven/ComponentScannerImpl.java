@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import io.spring.github.actions.nexussync.file.FileScanner;
+
+/**
+ * Default implementation for {@link ComponentScanner}. Every directory which contains
+ * files becomes a {@link Component} as soon as the {@link FileScanner} has emitted it.
+ *
+ * @author Moritz Halbritter
+ */
+class ComponentScannerImpl implements ComponentScanner {
+
+	private final FileScanner fileScanner;
+
+	ComponentScannerImpl(FileScanner fileScanner) {
+		this.fileScanner = fileScanner;
+	}
+
+	@Override
+	public Stream<Component> stream(Path root) {
+		Path absoluteRoot = root.toAbsolutePath();
+		return this.fileScanner.stream(root).map((files) -> Component.of(absoluteRoot, files));
+	}
+
+}
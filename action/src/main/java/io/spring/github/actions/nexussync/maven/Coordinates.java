@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+/**
+ * The coordinates of a {@link Component}.
+ *
+ * @param groupId the group id
+ * @param artifactId the artifact id
+ * @param version the version
+ * @author Moritz Halbritter
+ */
+public record Coordinates(String groupId, String artifactId, String version) {
+
+	/**
+	 * Returns the coordinates in the form {@code groupId:artifactId:version}.
+	 * @return the coordinates
+	 */
+	@Override
+	public String toString() {
+		return this.groupId + ":" + this.artifactId + ":" + this.version;
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sun.management.ThreadMXBean;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Counts the bytes allocated on the heap by the threads of the process, using the
+ * per-thread allocation counters of the JVM. A terminated thread doesn't report its
+ * counter anymore, so the last value seen for every thread is remembered. Allocations of
+ * a thread after it has last been seen are therefore missing, which only affects threads
+ * which terminate during a measurement. If the JVM doesn't support per-thread allocation
+ * counters, nothing is counted.
+ *
+ * @author Moritz Halbritter
+ */
+final class AllocationCounter {
+
+	@Nullable
+	private final ThreadMXBean threadMXBean;
+
+	private final Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+
+	private long allocatedBytes;
+
+	private AllocationCounter(@Nullable ThreadMXBean threadMXBean) {
+		this.threadMXBean = threadMXBean;
+	}
+
+	/**
+	 * Returns the number of bytes allocated since the start of the process.
+	 * @return the number of allocated bytes
+	 */
+	synchronized long getAllocatedBytes() {
+		if (this.threadMXBean == null) {
+			return 0;
+		}
+		long[] threadIds = this.threadMXBean.getAllThreadIds();
+		long[] allocatedBytes = this.threadMXBean.getThreadAllocatedBytes(threadIds);
+		for (int i = 0; i < threadIds.length; i++) {
+			// -1 if the thread has terminated in the meantime, it keeps its last value
+			long previous = this.allocatedBytesByThread.getOrDefault(threadIds[i], 0L);
+			if (allocatedBytes[i] > previous) {
+				this.allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+				this.allocatedBytes += allocatedBytes[i] - previous;
+			}
+		}
+		return this.allocatedBytes;
+	}
+
+	/**
+	 * Creates a counter for the threads of this JVM.
+	 * @return the counter
+	 */
+	static AllocationCounter create() {
+		if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+				&& threadMXBean.isThreadAllocatedMemorySupported()) {
+			threadMXBean.setThreadAllocatedMemoryEnabled(true);
+			return new AllocationCounter(threadMXBean);
+		}
+		return new AllocationCounter(null);
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link OutputStream} which counts the bytes written to it. Closing this stream doesn't
+ * close the wrapped stream.
+ *
+ * @author Moritz Halbritter
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+	private volatile long count;
+
+	public CountingOutputStream(OutputStream outputStream) {
+		super(outputStream);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		this.out.write(b);
+		onWrite(1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		this.out.write(b, off, len);
+		onWrite(len);
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	/**
+	 * Called after bytes have been written.
+	 * @param length the number of written bytes
+	 */
+	protected void onWrite(int length) {
+		this.count += length;
+	}
+
+	/**
+	 * Returns the number of bytes written so far.
+	 * @return the number of bytes written so far
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.util.List;
+
+/**
+ * Measures the phases of a deployment. A phase may be measured multiple times, for
+ * example once per bundle, the measurements are then aggregated per phase.
+ *
+ * @author Moritz Halbritter
+ */
+public interface Instrumentation {
+
+	/**
+	 * Starts a measurement of the given phase.
+	 * @param phase the phase
+	 * @return the measurement, which must be stopped when the phase is done
+	 */
+	Measurement start(Phase phase);
+
+	/**
+	 * Returns the metrics of all measured phases, aggregated per phase.
+	 * @return the metrics of all measured phases
+	 */
+	List<PhaseMetrics> getMetrics();
+
+	/**
+	 * Reports the metrics of all measured phases. Failures to write the report are
+	 * logged, so that they don't fail the deployment.
+	 */
+	void report();
+
+	/**
+	 * Creates an instrumentation which doesn't measure anything.
+	 * @return the instrumentation
+	 */
+	static Instrumentation none() {
+		return new Instrumentation() {
+			@Override
+			public Measurement start(Phase phase) {
+				return (files, bytes) -> {
+				};
+			}
+
+			@Override
+			public List<PhaseMetrics> getMetrics() {
+				return List.of();
+			}
+
+			@Override
+			public void report() {
+			}
+		};
+	}
+
+	/**
+	 * A running measurement of a phase.
+	 */
+	@FunctionalInterface
+	interface Measurement {
+
+		/**
+		 * Stops the measurement.
+		 * @param files the number of processed files
+		 * @param bytes the number of processed bytes
+		 */
+		void stop(long files, long bytes);
+
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Default implementation for {@link Instrumentation}. Reports the metrics to the
+ * {@link Logger}, and optionally as a JSON report and as a Markdown table to the GitHub
+ * Actions step summary.
+ *
+ * @author Moritz Halbritter
+ */
+class InstrumentationImpl implements Instrumentation {
+
+	private final Logger logger;
+
+	private final Clock clock;
+
+	private final AllocationCounter allocationCounter;
+
+	private final ObjectMapper objectMapper;
+
+	@Nullable
+	private final Path reportFile;
+
+	@Nullable
+	private final Path stepSummaryFile;
+
+	private final List<Measured> measurements = new ArrayList<>();
+
+	InstrumentationImpl(Logger logger, Clock clock, AllocationCounter allocationCounter, ObjectMapper objectMapper,
+			@Nullable Path reportFile, @Nullable Path stepSummaryFile) {
+		this.logger = logger;
+		this.clock = clock;
+		this.allocationCounter = allocationCounter;
+		this.objectMapper = objectMapper;
+		this.reportFile = reportFile;
+		this.stepSummaryFile = stepSummaryFile;
+	}
+
+	@Override
+	public Measurement start(Phase phase) {
+		Instant start = this.clock.instant();
+		long allocatedAtStart = this.allocationCounter.getAllocatedBytes();
+		return (files, bytes) -> {
+			Measured measured = new Measured(phase, start, this.clock.instant(), files, bytes, allocatedAtStart,
+					this.allocationCounter.getAllocatedBytes());
+			synchronized (this.measurements) {
+				this.measurements.add(measured);
+			}
+		};
+	}
+
+	@Override
+	public List<PhaseMetrics> getMetrics() {
+		Map<Phase, List<Measured>> byPhase = new EnumMap<>(Phase.class);
+		synchronized (this.measurements) {
+			for (Measured measured : this.measurements) {
+				byPhase.computeIfAbsent(measured.phase(), (phase) -> new ArrayList<>()).add(measured);
+			}
+		}
+		List<PhaseMetrics> result = new ArrayList<>();
+		byPhase.forEach((phase, measurements) -> result.add(aggregate(phase, measurements)));
+		return result;
+	}
+
+	private PhaseMetrics aggregate(Phase phase, List<Measured> measurements) {
+		Measured first = measurements.get(0);
+		Measured last = first;
+		long files = 0;
+		long bytes = 0;
+		for (Measured measured : measurements) {
+			first = (measured.start().isBefore(first.start())) ? measured : first;
+			last = (measured.end().isAfter(last.end())) ? measured : last;
+			files += measured.files();
+			bytes += measured.bytes();
+		}
+		// Measurements of the same phase may overlap, so the allocations are taken over
+		// the whole time span instead of summing them up
+		long allocatedBytes = last.allocatedAtEnd() - first.allocatedAtStart();
+		return new PhaseMetrics(phase, Duration.between(first.start(), last.end()), files, bytes, allocatedBytes);
+	}
+
+	@Override
+	public void report() {
+		List<PhaseMetrics> metrics = getMetrics();
+		if (metrics.isEmpty()) {
+			return;
+		}
+		for (PhaseMetrics phase : metrics) {
+			this.logger.log("{}: {} s, {} files, {} MB, {} files/s, {} MB/s, {} MB allocated", phase.phase(),
+					format(phase.wallTime().toMillis() / 1000.0), phase.files(),
+					format(PhaseMetrics.toMegabytes(phase.bytes())), format(phase.filesPerSecond()),
+					format(phase.megabytesPerSecond()), format(PhaseMetrics.toMegabytes(phase.allocatedBytes())));
+		}
+		if (this.reportFile != null) {
+			writeReport(this.reportFile, metrics);
+		}
+		if (this.stepSummaryFile != null) {
+			writeStepSummary(this.stepSummaryFile, metrics);
+		}
+	}
+
+	private void writeReport(Path file, List<PhaseMetrics> metrics) {
+		List<Map<String, Object>> phases = new ArrayList<>();
+		for (PhaseMetrics phase : metrics) {
+			Map<String, Object> values = new LinkedHashMap<>();
+			values.put("phase", phase.phase().name().toLowerCase(Locale.ROOT));
+			values.put("wallTimeMillis", phase.wallTime().toMillis());
+			values.put("files", phase.files());
+			values.put("bytes", phase.bytes());
+			values.put("filesPerSecond", phase.filesPerSecond());
+			values.put("megabytesPerSecond", phase.megabytesPerSecond());
+			values.put("allocatedBytes", phase.allocatedBytes());
+			phases.add(values);
+		}
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			this.objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), Map.of("phases", phases));
+			this.logger.log("Wrote metrics report to '{}'", file);
+		}
+		catch (IOException ex) {
+			this.logger.error("Failed to write metrics report to '{}': {}", file, ex.getMessage());
+		}
+	}
+
+	private void writeStepSummary(Path file, List<PhaseMetrics> metrics) {
+		StringBuilder summary = new StringBuilder();
+		summary.append("### Deployment metrics\n\n");
+		summary.append("| Phase | Wall time (s) | Files | MB | Files/s | MB/s | Allocated (MB) |\n");
+		summary.append("| --- | ---: | ---: | ---: | ---: | ---: | ---: |\n");
+		for (PhaseMetrics phase : metrics) {
+			summary.append("| %s | %s | %d | %s | %s | %s | %s |\n".formatted(phase.phase(),
+					format(phase.wallTime().toMillis() / 1000.0), phase.files(),
+					format(PhaseMetrics.toMegabytes(phase.bytes())), format(phase.filesPerSecond()),
+					format(phase.megabytesPerSecond()), format(PhaseMetrics.toMegabytes(phase.allocatedBytes()))));
+		}
+		summary.append("\n");
+		try {
+			Files.writeString(file, summary, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		}
+		catch (IOException ex) {
+			this.logger.error("Failed to write step summary to '{}': {}", file, ex.getMessage());
+		}
+	}
+
+	private String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+	private record Measured(Phase phase, Instant start, Instant end, long files, long bytes, long allocatedAtStart,
+			long allocatedAtEnd) {
+	}
+
+}
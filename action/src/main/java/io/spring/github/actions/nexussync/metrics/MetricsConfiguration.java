@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.github.actions.nexussync.NexusSyncProperties;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuration for metrics beans.
+ *
+ * @author Moritz Halbritter
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(NexusSyncProperties.class)
+class MetricsConfiguration {
+
+	@Bean
+	Instrumentation instrumentation(NexusSyncProperties properties, Logger logger, Clock clock,
+			ObjectMapper objectMapper) {
+		NexusSyncProperties.Metrics metrics = properties.getMetrics();
+		if (!metrics.isEnabled()) {
+			return Instrumentation.none();
+		}
+		Path reportFile = (metrics.getReportFile() != null) ? metrics.getReportFile() : getDefaultReportFile();
+		return new InstrumentationImpl(logger, clock, AllocationCounter.create(), objectMapper, reportFile,
+				getStepSummaryFile());
+	}
+
+	private Path getDefaultReportFile() {
+		String runnerTemp = System.getenv("RUNNER_TEMP");
+		// Docker container actions get the variable, but the directory isn't mounted
+		if (!StringUtils.hasText(runnerTemp) || !Files.isDirectory(Path.of(runnerTemp))) {
+			return null;
+		}
+		return Path.of(runnerTemp, "nexus-sync-action", "metrics.json");
+	}
+
+	private Path getStepSummaryFile() {
+		String stepSummary = System.getenv("GITHUB_STEP_SUMMARY");
+		return (StringUtils.hasText(stepSummary)) ? Path.of(stepSummary) : null;
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.time.Duration;
+
+/**
+ * Metrics of a {@link Phase}.
+ *
+ * @param phase the phase
+ * @param wallTime the wall time from the start of the first to the end of the last
+ * measurement of the phase
+ * @param files the number of processed files
+ * @param bytes the number of processed bytes
+ * @param allocatedBytes the number of bytes allocated on the heap while the phase ran
+ * @author Moritz Halbritter
+ */
+public record PhaseMetrics(Phase phase, Duration wallTime, long files, long bytes, long allocatedBytes) {
+
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	/**
+	 * Returns the processed files per second.
+	 * @return the processed files per second
+	 */
+	public double filesPerSecond() {
+		return perSecond(this.files);
+	}
+
+	/**
+	 * Returns the processed megabytes per second.
+	 * @return the processed megabytes per second
+	 */
+	public double megabytesPerSecond() {
+		return perSecond(this.bytes) / BYTES_PER_MEGABYTE;
+	}
+
+	private double perSecond(double value) {
+		double seconds = this.wallTime.toNanos() / 1_000_000_000.0;
+		return (seconds > 0) ? value / seconds : 0;
+	}
+
+	/**
+	 * Converts the given bytes to megabytes.
+	 * @param bytes the bytes
+	 * @return the megabytes
+	 */
+	static double toMegabytes(long bytes) {
+		return bytes / BYTES_PER_MEGABYTE;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PollingStrategy} which polls fast while the deployment is pending and backs off
+ * exponentially with jitter while it is validating or publishing. Every delay is capped
+ * at a maximum.
+ *
+ * @author Moritz Halbritter
+ */
+class AdaptivePollingStrategy implements PollingStrategy {
+
+	private static final double MULTIPLIER = 2;
+
+	private final Duration pendingDelay;
+
+	private final Duration initialBackoff;
+
+	private final Duration maxDelay;
+
+	private final RandomGenerator random;
+
+	AdaptivePollingStrategy(Duration pendingDelay, Duration initialBackoff, Duration maxDelay,
+			RandomGenerator random) {
+		Assert.isTrue(!initialBackoff.isNegative() && !initialBackoff.isZero(), "initialBackoff must be positive");
+		this.pendingDelay = pendingDelay;
+		this.initialBackoff = initialBackoff;
+		this.maxDelay = maxDelay;
+		this.random = random;
+	}
+
+	@Override
+	public Duration getDelay(@Nullable Status status, int attempt, Duration elapsed) {
+		if (status == null || status == Status.PENDING) {
+			return min(this.pendingDelay, this.maxDelay);
+		}
+		return withJitter(backoff(attempt));
+	}
+
+	private Duration backoff(int attempt) {
+		double factor = Math.pow(MULTIPLIER, Math.max(0, attempt - 1));
+		double millis = Math.min(this.initialBackoff.toMillis() * factor, this.maxDelay.toMillis());
+		return Duration.ofMillis((long) millis);
+	}
+
+	private Duration withJitter(Duration backoff) {
+		// Equal jitter: wait at least half of the backoff, so that polling slows down
+		// reliably while concurrent deployments still spread out
+		long half = backoff.toMillis() / 2;
+		if (half == 0) {
+			return backoff;
+		}
+		return Duration.ofMillis(half + this.random.nextLong(half + 1));
+	}
+
+	private static Duration min(Duration a, Duration b) {
+		return (a.compareTo(b) <= 0) ? a : b;
+	}
+
+}
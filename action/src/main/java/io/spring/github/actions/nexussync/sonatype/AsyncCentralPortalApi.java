@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
+
+/**
+ * Non-blocking client for Sonatype's Central Portal API. {@link CentralPortalApi} is a
+ * blocking wrapper around it.
+ *
+ * @author Moritz Halbritter
+ */
+public interface AsyncCentralPortalApi {
+
+	/**
+	 * Uploads the given bundle using the given publishing type.
+	 * @param bundle the bundle to upload
+	 * @param publishingType the publishing type
+	 * @return a future which completes with the deployment once the bundle has been
+	 * uploaded
+	 */
+	CompletableFuture<AsyncDeployment> upload(Bundle bundle, PublishingType publishingType);
+
+	/**
+	 * Uploads the given streaming bundle using the given publishing type. The bundle is
+	 * written directly into the request body.
+	 * @param bundle the bundle to upload
+	 * @param publishingType the publishing type
+	 * @return a future which completes with the deployment once the bundle has been
+	 * uploaded
+	 */
+	CompletableFuture<AsyncDeployment> upload(StreamingBundle bundle, PublishingType publishingType);
+
+	/**
+	 * Finds an existing deployment, for example one which has been uploaded by a
+	 * previous run.
+	 * @param deploymentId the id of the deployment
+	 * @param publishingType the publishing type the deployment has been uploaded with
+	 * @return a future which completes with the deployment or with {@code null} if it
+	 * doesn't exist
+	 */
+	CompletableFuture<AsyncDeployment> findDeployment(String deploymentId, PublishingType publishingType);
+
+}
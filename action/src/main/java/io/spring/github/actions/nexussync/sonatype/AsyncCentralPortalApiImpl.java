@@ -0,0 +1,465 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.Serial;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Default implementation of {@link AsyncCentralPortalApi}. Uses a {@link RestClient} for
+ * http communication. All requests run on an I/O executor, while the status polls and
+ * retries of all deployments are scheduled on one shared
+ * {@link ScheduledExecutorService}, so that no thread is parked while waiting for the
+ * next poll and no timer is delayed by a slow request. Both executors are shut down
+ * when this API is closed.
+ *
+ * @author Moritz Halbritter
+ */
+// See https://central.sonatype.org/publish/publish-portal-api/
+class AsyncCentralPortalApiImpl implements AsyncCentralPortalApi, AutoCloseable {
+
+	private static final String UPLOAD_URI = "/api/v1/publisher/upload?name={name}&publishingType={publishingType}";
+
+	private final Logger logger;
+
+	private final RestClient restClient;
+
+	private final Clock clock;
+
+	private final Duration timeout;
+
+	private final PollingStrategy pollingStrategy;
+
+	private final Duration maxPollDelay;
+
+	private final Duration uploadProgressInterval;
+
+	private final DataSize maxBundleSize;
+
+	private final Retrier retrier;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final ExecutorService ioExecutor;
+
+	AsyncCentralPortalApiImpl(Logger logger, URI baseUri, String tokenName, String token,
+			RestClient.Builder restClientBuilder, Clock clock, Duration timeout, PollingStrategy pollingStrategy,
+			Duration maxPollDelay, Duration uploadProgressInterval, DataSize maxBundleSize, Retrier retrier,
+			ScheduledExecutorService scheduler, ExecutorService ioExecutor) {
+		this.logger = logger;
+		this.clock = clock;
+		this.timeout = timeout;
+		this.pollingStrategy = pollingStrategy;
+		this.maxPollDelay = maxPollDelay;
+		this.uploadProgressInterval = uploadProgressInterval;
+		this.maxBundleSize = maxBundleSize;
+		this.retrier = retrier;
+		this.scheduler = scheduler;
+		this.ioExecutor = ioExecutor;
+		this.restClient = restClientBuilder.baseUrl(baseUri)
+			.defaultHeader("Accept", "application/json")
+			.defaultHeader("User-Agent", "nexus-sync-action")
+			.defaultHeader("Authorization", createAuthorizationHeader(tokenName, token))
+			.build();
+	}
+
+	@Override
+	public CompletableFuture<AsyncDeployment> upload(Bundle bundle, PublishingType publishingType) {
+		DataSize bundleSize = bundle.getSize();
+		if (bundleSize.compareTo(this.maxBundleSize) > 0) {
+			return CompletableFuture.failedFuture(new IllegalStateException(
+					"Maximum bundle size is %s, but the bundle is %s".formatted(this.maxBundleSize, bundleSize)));
+		}
+		return upload((outputStream) -> Files.copy(bundle.getFile(), outputStream), bundleSize.toBytes(),
+				bundle.getFile().toString(), publishingType, true);
+	}
+
+	@Override
+	public CompletableFuture<AsyncDeployment> upload(StreamingBundle bundle, PublishingType publishingType) {
+		// A streaming bundle may only be written once, so the upload can't be retried
+		return upload(bundle, UploadProgressOutputStream.UNKNOWN_SIZE, "<streamed>", publishingType, false);
+	}
+
+	private CompletableFuture<AsyncDeployment> upload(StreamingBundle bundle, long bundleSize,
+			String bundleDescription, PublishingType publishingType, boolean retryable) {
+		Supplier<AsyncDeployment> upload = () -> doUpload(bundle, bundleSize, bundleDescription, publishingType);
+		String description = "Upload of bundle '%s'".formatted(bundleDescription);
+		CompletableFuture<AsyncDeployment> deployment = (retryable)
+				? this.retrier.executeNonIdempotent(description, upload, this.ioExecutor)
+				: CompletableFuture.supplyAsync(upload, this.ioExecutor);
+		return deployment.exceptionally((ex) -> {
+			if (unwrap(ex) instanceof RestClientResponseException responseException) {
+				throw uploadFailed(bundleDescription, responseException.getStatusCode(),
+						responseException.getResponseBodyAsString());
+			}
+			throw propagate(ex);
+		});
+	}
+
+	private AsyncDeployment doUpload(StreamingBundle bundle, long bundleSize, String bundleDescription,
+			PublishingType publishingType) {
+		String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+		MultipartBody body = new MultipartBody(bundle, bundleSize, this.maxBundleSize, boundary, this.logger,
+				this.clock, this.uploadProgressInterval);
+		RestClient.RequestBodySpec request = this.restClient.post()
+			.uri(UPLOAD_URI, createDeploymentName(), publishingType.toApi())
+			.contentType(new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", boundary)));
+		if (bundleSize != UploadProgressOutputStream.UNKNOWN_SIZE) {
+			request.contentLength(body.getContentLength());
+		}
+		// Errors which can be retried are thrown as RestClientResponseException
+		ResponseEntity<String> response = request.body(body::writeTo)
+			.retrieve()
+			.onStatus((status) -> !Retrier.isRetryable(status), (req, res) -> {
+			})
+			.toEntity(String.class);
+		if (!response.getStatusCode().is2xxSuccessful()) {
+			throw uploadFailed(bundleDescription, response.getStatusCode(), response.getBody());
+		}
+		String deploymentId = response.getBody();
+		return new DeploymentImpl(this.logger, this.restClient, this.retrier, this.scheduler, this.ioExecutor,
+				this.clock, deploymentId, publishingType, this.timeout, this.pollingStrategy, this.maxPollDelay,
+				body.getStatistics());
+	}
+
+	@Override
+	public CompletableFuture<AsyncDeployment> findDeployment(String deploymentId, PublishingType publishingType) {
+		DeploymentImpl deployment = new DeploymentImpl(this.logger, this.restClient, this.retrier, this.scheduler,
+				this.ioExecutor, this.clock, deploymentId, publishingType, this.timeout, this.pollingStrategy,
+				this.maxPollDelay, UploadStatistics.none());
+		return deployment.fetchDeploymentStatus().handle((status, ex) -> {
+			if (ex == null) {
+				return deployment;
+			}
+			if (unwrap(ex) instanceof DeploymentNotFoundException) {
+				return null;
+			}
+			throw propagate(ex);
+		});
+	}
+
+	@Override
+	public void close() {
+		this.scheduler.shutdownNow();
+		this.ioExecutor.shutdownNow();
+	}
+
+	private IllegalStateException uploadFailed(String bundleDescription, HttpStatusCode status, String body) {
+		return new IllegalStateException("Failed to upload bundle '%s', got HTTP %d and body %s"
+			.formatted(bundleDescription, status.value(), body));
+	}
+
+	private String createDeploymentName() {
+		return "nexus-sync-action-" + this.clock.instant();
+	}
+
+	private static String createAuthorizationHeader(String tokenName, String token) {
+		String base64 = Base64.getEncoder()
+			.encodeToString("%s:%s".formatted(tokenName, token).getBytes(StandardCharsets.UTF_8));
+		return "Bearer " + base64;
+	}
+
+	private static Throwable unwrap(Throwable ex) {
+		return (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+	}
+
+	private static CompletionException propagate(Throwable ex) {
+		return (ex instanceof CompletionException completionException) ? completionException
+				: new CompletionException(ex);
+	}
+
+	private static class DeploymentImpl implements AsyncDeployment {
+
+		private final Logger logger;
+
+		private final RestClient restClient;
+
+		private final Retrier retrier;
+
+		private final ScheduledExecutorService scheduler;
+
+		private final Executor ioExecutor;
+
+		private final Clock clock;
+
+		private final String deploymentId;
+
+		private final PublishingType publishingType;
+
+		private final PollingStrategy pollingStrategy;
+
+		private final Duration maxPollDelay;
+
+		private final Duration timeout;
+
+		private final UploadStatistics uploadStatistics;
+
+		private final Map<Status, Duration> statusDurations = new EnumMap<>(Status.class);
+
+		private volatile DeploymentStatusDto finalStatus;
+
+		DeploymentImpl(Logger logger, RestClient restClient, Retrier retrier, ScheduledExecutorService scheduler,
+				Executor ioExecutor, Clock clock, String deploymentId, PublishingType publishingType, Duration timeout,
+				PollingStrategy pollingStrategy, Duration maxPollDelay, UploadStatistics uploadStatistics) {
+			this.logger = logger;
+			this.restClient = restClient;
+			this.retrier = retrier;
+			this.scheduler = scheduler;
+			this.ioExecutor = ioExecutor;
+			this.clock = clock;
+			this.deploymentId = deploymentId;
+			this.publishingType = publishingType;
+			this.timeout = timeout;
+			this.pollingStrategy = pollingStrategy;
+			this.maxPollDelay = maxPollDelay;
+			this.uploadStatistics = uploadStatistics;
+		}
+
+		@Override
+		public String getId() {
+			return this.deploymentId;
+		}
+
+		@Override
+		public UploadStatistics getUploadStatistics() {
+			return this.uploadStatistics;
+		}
+
+		@Override
+		public Status getStatus() {
+			Assert.notNull(this.finalStatus, "Call awaitFinalStatus() before calling getStatus()");
+			return Status.fromApi(this.finalStatus.deploymentState());
+		}
+
+		@Override
+		public String getErrors() {
+			Assert.notNull(this.finalStatus, "Call awaitFinalStatus() before calling getErrors()");
+			if (CollectionUtils.isEmpty(this.finalStatus.errors())) {
+				return null;
+			}
+			return this.finalStatus.errors().toString();
+		}
+
+		@Override
+		public Map<Status, Duration> getStatusDurations() {
+			Assert.notNull(this.finalStatus, "Call awaitFinalStatus() before calling getStatusDurations()");
+			return Collections.unmodifiableMap(this.statusDurations);
+		}
+
+		@Override
+		public CompletableFuture<Status> awaitFinalStatus(StatusPrediction prediction) {
+			PollingStrategy pollingStrategy = (prediction.isEmpty()) ? this.pollingStrategy
+					: new PredictivePollingStrategy(this.pollingStrategy, prediction, this.maxPollDelay);
+			logEta(prediction, null);
+			StatusPoll poll = new StatusPoll(prediction, pollingStrategy, this.clock.instant());
+			poll.run();
+			return poll.result;
+		}
+
+		private void logEta(StatusPrediction prediction, @Nullable Status status) {
+			if (prediction.isEmpty()) {
+				return;
+			}
+			Duration remaining = prediction.getRemaining(status, Duration.ZERO, this.publishingType);
+			if (status == null) {
+				this.logger.log("Deployment '{}' is expected to reach its final status in about {}, based on {} "
+						+ "previous deployments", this.deploymentId, remaining, prediction.getSamples());
+				return;
+			}
+			Duration next = prediction.getDuration(status);
+			if (next != null) {
+				this.logger.log("Deployment '{}' is {}, next status expected in about {}, final status in about {}",
+						this.deploymentId, status, next, remaining);
+			}
+		}
+
+		@Override
+		public CompletableFuture<Void> drop() {
+			Assert.notNull(this.finalStatus, "Call awaitFinalStatus() before calling drop()");
+			Status status = getStatus();
+			if (status != Status.VALIDATED && status != Status.FAILED) {
+				throw new IllegalStateException(
+						"Only validated or failed deployments can be dropped, but status is '%s'".formatted(status));
+			}
+			return this.retrier
+				.execute("Drop of deployment '%s'".formatted(this.deploymentId),
+						() -> this.restClient.delete()
+							.uri("/api/v1/publisher/deployment/{deploymentId}", this.deploymentId)
+							.retrieve()
+							.toBodilessEntity(),
+						this.ioExecutor)
+				.thenAccept((response) -> {
+				});
+		}
+
+		CompletableFuture<DeploymentStatusDto> fetchDeploymentStatus() {
+			return this.retrier.execute("Status request of deployment '%s'".formatted(this.deploymentId),
+					() -> this.restClient.post()
+						.uri("/api/v1/publisher/status?id={deploymentId}", this.deploymentId)
+						.retrieve()
+						.onStatus(this::is404, (res, req) -> {
+							throw new DeploymentNotFoundException();
+						})
+						.body(DeploymentStatusDto.class),
+					this.ioExecutor);
+		}
+
+		private boolean is404(HttpStatusCode status) {
+			return status.isSameCodeAs(HttpStatus.NOT_FOUND);
+		}
+
+		/**
+		 * Polls the status until it's final. Every poll schedules the next one on the
+		 * shared scheduler instead of sleeping.
+		 */
+		private final class StatusPoll {
+
+			private final CompletableFuture<Status> result = new CompletableFuture<>();
+
+			private final StatusPrediction prediction;
+
+			private final PollingStrategy pollingStrategy;
+
+			private final Instant deadline;
+
+			private Status lastStatus;
+
+			private Instant lastStatusSince;
+
+			private int attempt;
+
+			StatusPoll(StatusPrediction prediction, PollingStrategy pollingStrategy, Instant start) {
+				this.prediction = prediction;
+				this.pollingStrategy = pollingStrategy;
+				this.deadline = start.plus(DeploymentImpl.this.timeout);
+				this.lastStatusSince = start;
+			}
+
+			void run() {
+				// The future has been cancelled
+				if (this.result.isDone()) {
+					return;
+				}
+				fetchDeploymentStatus().whenComplete((deploymentStatus, ex) -> {
+					try {
+						onStatus(deploymentStatus, ex);
+					}
+					catch (RuntimeException | Error failure) {
+						this.result.completeExceptionally(failure);
+					}
+				});
+			}
+
+			private void onStatus(@Nullable DeploymentStatusDto deploymentStatus, @Nullable Throwable failure) {
+				Status status = null;
+				if (failure == null) {
+					status = Status.fromApi(deploymentStatus.deploymentState());
+					DeploymentImpl.this.logger.debug("\tStatus: {}", status);
+				}
+				else if (unwrap(failure) instanceof DeploymentNotFoundException) {
+					// Sometimes Sonatype returns 404 for newly created deployments
+					DeploymentImpl.this.logger.debug("Got 404 while checking status");
+				}
+				else {
+					this.result.completeExceptionally(unwrap(failure));
+					return;
+				}
+				Instant now = DeploymentImpl.this.clock.instant();
+				if (status != this.lastStatus) {
+					// The time before the deployment has been found counts to its first status
+					if (this.lastStatus != null) {
+						DeploymentImpl.this.statusDurations.put(this.lastStatus,
+								Duration.between(this.lastStatusSince, now));
+						this.lastStatusSince = now;
+					}
+					this.attempt = 0;
+					this.lastStatus = status;
+					if (status != null && !status.isFinal(DeploymentImpl.this.publishingType)) {
+						logEta(this.prediction, status);
+					}
+				}
+				if (status != null && status.isFinal(DeploymentImpl.this.publishingType)) {
+					DeploymentImpl.this.finalStatus = deploymentStatus;
+					this.result.complete(status);
+					return;
+				}
+				this.attempt++;
+				Duration elapsed = Duration.between(this.lastStatusSince, now);
+				schedule(this.pollingStrategy.getDelay(status, this.attempt, elapsed));
+			}
+
+			private void schedule(Duration delay) {
+				Duration remaining = Duration.between(DeploymentImpl.this.clock.instant(), this.deadline);
+				if (remaining.isNegative() || remaining.isZero()) {
+					this.result.completeExceptionally(new IllegalStateException(
+							"Timeout of '%s' reached while waiting for final status of deployment '%s'"
+								.formatted(DeploymentImpl.this.timeout, DeploymentImpl.this.deploymentId)));
+					return;
+				}
+				Duration wait = (delay.compareTo(remaining) < 0) ? delay : remaining;
+				DeploymentImpl.this.logger.debug("\tPolling again in {}", wait);
+				DeploymentImpl.this.scheduler.schedule(this::run, wait.toMillis(), TimeUnit.MILLISECONDS);
+			}
+
+		}
+
+		private record DeploymentStatusDto(String deploymentState, Map<Object, Object> errors) {
+		}
+
+	}
+
+	private static final class DeploymentNotFoundException extends RuntimeException {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A deployment whose status is polled without blocking the calling thread.
+ * {@link Deployment} is a blocking wrapper around it.
+ *
+ * @author Moritz Halbritter
+ */
+public interface AsyncDeployment {
+
+	/**
+	 * Returns the id of the deployment.
+	 * @return the id
+	 */
+	String getId();
+
+	/**
+	 * Returns the statistics of the upload which created this deployment. Empty if the
+	 * deployment has been uploaded by another process.
+	 * @return the upload statistics
+	 */
+	UploadStatistics getUploadStatistics();
+
+	/**
+	 * Returns the status. Will throw an exception if called before the future returned
+	 * by {@link #awaitFinalStatus()} has completed.
+	 * @return the status
+	 */
+	Status getStatus();
+
+	/**
+	 * Returns the errors. Will throw an exception if called before the future returned
+	 * by {@link #awaitFinalStatus()} has completed.
+	 * @return the errors
+	 */
+	@Nullable
+	String getErrors();
+
+	/**
+	 * Awaits the final status of the deployment.
+	 * @return a future which completes with the final status
+	 */
+	default CompletableFuture<Status> awaitFinalStatus() {
+		return awaitFinalStatus(StatusPrediction.none());
+	}
+
+	/**
+	 * Awaits the final status of the deployment, scheduling the status polls around the
+	 * given prediction. Cancelling the returned future stops the polling.
+	 * @param prediction the predicted time spent in each status
+	 * @return a future which completes with the final status
+	 */
+	CompletableFuture<Status> awaitFinalStatus(StatusPrediction prediction);
+
+	/**
+	 * Returns the time spent in each non-final status. Will throw an exception if called
+	 * before the future returned by {@link #awaitFinalStatus()} has completed.
+	 * @return the time spent in each non-final status
+	 */
+	Map<Status, Duration> getStatusDurations();
+
+	/**
+	 * Drops the deployment. Will throw an exception if called before the future returned
+	 * by {@link #awaitFinalStatus()} has completed.
+	 * @return a future which completes once the deployment has been dropped
+	 */
+	CompletableFuture<Void> drop();
+
+}
@@ -17,6 +17,9 @@
 package io.spring.github.actions.nexussync.sonatype;
 
 import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
+
+import org.springframework.lang.Nullable;
 
 /**
  * Client for Sonatype's Central Portal API.
@@ -33,4 +36,23 @@ public interface CentralPortalApi {
 	 */
 	Deployment upload(Bundle bundle, PublishingType publishingType);
 
+	/**
+	 * Uploads the given streaming bundle using the given publishing type. The bundle is
+	 * written directly into the request body.
+	 * @param bundle the bundle to upload
+	 * @param publishingType the publishing type
+	 * @return the deployment
+	 */
+	Deployment upload(StreamingBundle bundle, PublishingType publishingType);
+
+	/**
+	 * Finds an existing deployment, for example one which has been uploaded by a
+	 * previous run.
+	 * @param deploymentId the id of the deployment
+	 * @param publishingType the publishing type the deployment has been uploaded with
+	 * @return the deployment or {@code null} if it doesn't exist
+	 */
+	@Nullable
+	Deployment findDeployment(String deploymentId, PublishingType publishingType);
+
 }
@@ -16,7 +16,12 @@
 
 package io.spring.github.actions.nexussync.sonatype;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.random.RandomGenerator;
 
 import io.spring.github.actions.nexussync.NexusSyncProperties;
 import io.spring.github.actions.nexussync.system.Logger;
@@ -24,6 +29,7 @@ import io.spring.github.actions.nexussync.system.Logger;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -35,13 +41,56 @@ import org.springframework.web.client.RestClient;
 @EnableConfigurationProperties(NexusSyncProperties.class)
 class CentralPortalApiConfiguration {
 
+	private static final int SCHEDULER_THREADS = 2;
+
 	@Bean
-	CentralPortalApi centralPortalApi(NexusSyncProperties properties, Logger logger,
+	AsyncCentralPortalApi asyncCentralPortalApi(NexusSyncProperties properties, Logger logger,
 			RestClient.Builder restClientBuilder, Clock clock) {
 		NexusSyncProperties.Token token = properties.getToken();
 		NexusSyncProperties.Deployment deployment = properties.getDeployment();
-		return new CentralPortalApiImpl(logger, properties.getBaseUri(), token.getName(), token.getValue(),
-				restClientBuilder, clock, deployment.getTimeout(), deployment.getSleepBetweenRetries());
+		ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS,
+				createThreadFactory("central-portal-"));
+		// Requests block, so they must not run on the scheduler, which only runs timers
+		ExecutorService ioExecutor = Executors.newCachedThreadPool(createThreadFactory("central-portal-io-"));
+		return new AsyncCentralPortalApiImpl(logger, properties.getBaseUri(), token.getName(), token.getValue(),
+				restClientBuilder, clock, deployment.getTimeout(), createPollingStrategy(deployment),
+				deployment.getSleepBetweenRetries(), deployment.getUploadProgressInterval(),
+				properties.getBundle().getMaxSize(), createRetrier(properties.getRetry(), logger, clock, scheduler),
+				scheduler, ioExecutor);
+	}
+
+	@Bean
+	CentralPortalApi centralPortalApi(AsyncCentralPortalApi asyncCentralPortalApi) {
+		return new CentralPortalApiImpl(asyncCentralPortalApi);
+	}
+
+	@Bean
+	DeploymentHistory deploymentHistory(NexusSyncProperties properties, Logger logger) {
+		Path historyFile = properties.getDeployment().getHistoryFile();
+		if (historyFile == null) {
+			return DeploymentHistory.none();
+		}
+		return FileDeploymentHistory.load(logger, historyFile);
+	}
+
+	private static Retrier createRetrier(NexusSyncProperties.Retry retry, Logger logger, Clock clock,
+			ScheduledExecutorService scheduler) {
+		return new Retrier(logger, clock, retry.getInitialBackoff(), retry.getMaxBackoff(), retry.getBudget(),
+				RandomGenerator.getDefault(), scheduler);
+	}
+
+	private static CustomizableThreadFactory createThreadFactory(String threadNamePrefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	private static PollingStrategy createPollingStrategy(NexusSyncProperties.Deployment deployment) {
+		if (!deployment.isAdaptivePolling()) {
+			return PollingStrategy.fixed(deployment.getSleepBetweenRetries());
+		}
+		return new AdaptivePollingStrategy(deployment.getPendingPollInterval(), deployment.getInitialPollBackoff(),
+				deployment.getSleepBetweenRetries(), RandomGenerator.getDefault());
 	}
 
 }
@@ -16,6 +16,9 @@
 
 package io.spring.github.actions.nexussync.sonatype;
 
+import java.time.Duration;
+import java.util.Map;
+
 import org.springframework.lang.Nullable;
 
 /**
@@ -31,6 +34,13 @@ public interface Deployment {
 	 */
 	String getId();
 
+	/**
+	 * Returns the statistics of the upload which created this deployment. Empty if the
+	 * deployment has been uploaded by another process.
+	 * @return the upload statistics
+	 */
+	UploadStatistics getUploadStatistics();
+
 	/**
 	 * Returns the status. Will throw an exception if called before
 	 * {@link #awaitFinalStatus()} has been called.
@@ -49,7 +59,23 @@ public interface Deployment {
 	/**
 	 * Awaits the final status of the deployment.
 	 */
-	void awaitFinalStatus();
+	default void awaitFinalStatus() {
+		awaitFinalStatus(StatusPrediction.none());
+	}
+
+	/**
+	 * Awaits the final status of the deployment, scheduling the status polls around the
+	 * given prediction.
+	 * @param prediction the predicted time spent in each status
+	 */
+	void awaitFinalStatus(StatusPrediction prediction);
+
+	/**
+	 * Returns the time spent in each non-final status. Will throw an exception if called
+	 * before {@link #awaitFinalStatus()} has been called.
+	 * @return the time spent in each non-final status
+	 */
+	Map<Status, Duration> getStatusDurations();
 
 	/**
 	 * Drops the deployment. Will throw an exception if called before
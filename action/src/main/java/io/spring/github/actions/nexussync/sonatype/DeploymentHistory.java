@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+
+/**
+ * History of past deployments, used to predict how long a deployment spends in each
+ * status.
+ *
+ * @author Moritz Halbritter
+ */
+public interface DeploymentHistory {
+
+	/**
+	 * Predicts the time a deployment of the given size spends in each status.
+	 * @param bytes the size of the bundle in bytes
+	 * @param files the number of files in the bundle
+	 * @return the prediction
+	 */
+	StatusPrediction predict(long bytes, long files);
+
+	/**
+	 * Records a finished deployment.
+	 * @param bytes the size of the bundle in bytes
+	 * @param files the number of files in the bundle
+	 * @param durations the time spent in each non-final status
+	 */
+	void record(long bytes, long files, Map<Status, Duration> durations);
+
+	/**
+	 * Returns a history which records nothing and predicts nothing.
+	 * @return the history
+	 */
+	static DeploymentHistory none() {
+		return new DeploymentHistory() {
+
+			@Override
+			public StatusPrediction predict(long bytes, long files) {
+				return StatusPrediction.none();
+			}
+
+			@Override
+			public void record(long bytes, long files, Map<Status, Duration> durations) {
+			}
+
+		};
+	}
+
+}
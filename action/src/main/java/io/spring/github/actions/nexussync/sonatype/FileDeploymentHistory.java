@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.file.TabSeparatedFile;
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import io.spring.github.actions.nexussync.system.Logger;
+
+/**
+ * {@link DeploymentHistory} which is persisted in a file. A prediction is the median time
+ * per status of the past deployments which are most similar in bundle size and file
+ * count. Only the most recent deployments are kept. Invalid lines are skipped and
+ * failures to read or save the history are logged, as the history only improves
+ * predictions.
+ *
+ * @author Moritz Halbritter
+ */
+class FileDeploymentHistory implements DeploymentHistory {
+
+	private static final int MAX_ENTRIES = 100;
+
+	private static final int NEIGHBOURS = 5;
+
+	private final TabSeparatedFile store;
+
+	private final List<Entry> entries;
+
+	private FileDeploymentHistory(TabSeparatedFile store, List<Entry> entries) {
+		this.store = store;
+		this.entries = entries;
+	}
+
+	@Override
+	public synchronized StatusPrediction predict(long bytes, long files) {
+		if (this.entries.isEmpty()) {
+			return StatusPrediction.none();
+		}
+		List<Entry> neighbours = this.entries.stream()
+			.sorted(Comparator.comparingDouble((entry) -> entry.distanceTo(bytes, files)))
+			.limit(NEIGHBOURS)
+			.toList();
+		Map<Status, Duration> durations = new EnumMap<>(Status.class);
+		for (Status status : Status.values()) {
+			List<Duration> values = neighbours.stream()
+				.map((entry) -> entry.durations().get(status))
+				.filter((duration) -> duration != null)
+				.sorted()
+				.toList();
+			if (!values.isEmpty()) {
+				durations.put(status, values.get(values.size() / 2));
+			}
+		}
+		return new StatusPrediction(durations, neighbours.size());
+	}
+
+	@Override
+	public synchronized void record(long bytes, long files, Map<Status, Duration> durations) {
+		if (durations.isEmpty()) {
+			return;
+		}
+		this.entries.add(new Entry(bytes, files, new EnumMap<>(durations)));
+		while (this.entries.size() > MAX_ENTRIES) {
+			this.entries.remove(0);
+		}
+		// A failure is logged, the deployment has already finished, a missing entry only
+		// worsens predictions
+		this.store.write(this.entries, (entry) -> List.of(entry.bytes(), entry.files(),
+				formatDurations(entry.durations())));
+	}
+
+	/**
+	 * Loads the history from the given file. If the file doesn't exist or can't be read,
+	 * the history is empty.
+	 * @param logger the logger to use
+	 * @param file the history file
+	 * @return the history
+	 */
+	static FileDeploymentHistory load(Logger logger, Path file) {
+		TabSeparatedFile store = new TabSeparatedFile(logger, file, "deployment history");
+		// bytes <tab> files <tab> durations
+		List<Entry> entries = store.read(3, (columns) -> new Entry(Long.parseLong(columns[0]),
+				Long.parseLong(columns[1]), parseDurations(columns[2])));
+		return new FileDeploymentHistory(store, new ArrayList<>(entries));
+	}
+
+	private static Map<Status, Duration> parseDurations(String value) {
+		Map<Status, Duration> durations = new EnumMap<>(Status.class);
+		for (String duration : value.split(",")) {
+			int separator = duration.indexOf('=');
+			if (separator != -1) {
+				durations.put(Status.valueOf(duration.substring(0, separator)),
+						Duration.ofMillis(Long.parseLong(duration.substring(separator + 1))));
+			}
+		}
+		return durations;
+	}
+
+	private static String formatDurations(Map<Status, Duration> durations) {
+		StringBuilder result = new StringBuilder();
+		durations.forEach((status, duration) -> {
+			if (!result.isEmpty()) {
+				result.append(',');
+			}
+			result.append(status.name()).append('=').append(duration.toMillis());
+		});
+		return result.toString();
+	}
+
+	private record Entry(long bytes, long files, Map<Status, Duration> durations) {
+
+		/**
+		 * Distance on a logarithmic scale, so that a bundle with twice the size is
+		 * equally far away, no matter how large the bundles are.
+		 */
+		double distanceTo(long bytes, long files) {
+			return Math.abs(Math.log1p(this.bytes) - Math.log1p(bytes))
+					+ Math.abs(Math.log1p(this.files) - Math.log1p(files));
+		}
+
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Multipart request body with the bundle as its only part. Reports the progress of the
+ * upload while the bundle is written and fails as soon as the bundle exceeds the maximum
+ * bundle size.
+ *
+ * @author Moritz Halbritter
+ */
+class MultipartBody {
+
+	private final StreamingBundle bundle;
+
+	private final long bundleSize;
+
+	private final DataSize maxBundleSize;
+
+	private final Logger logger;
+
+	private final Clock clock;
+
+	private final Duration progressInterval;
+
+	private final byte[] prefix;
+
+	private final byte[] suffix;
+
+	private UploadStatistics statistics;
+
+	MultipartBody(StreamingBundle bundle, long bundleSize, DataSize maxBundleSize, String boundary, Logger logger,
+			Clock clock, Duration progressInterval) {
+		this.bundle = bundle;
+		this.bundleSize = bundleSize;
+		this.maxBundleSize = maxBundleSize;
+		this.logger = logger;
+		this.clock = clock;
+		this.progressInterval = progressInterval;
+		this.prefix = ("--%s\r\n".formatted(boundary)
+				+ "Content-Disposition: form-data; name=\"bundle\"; filename=\"bundle.zip\"\r\n"
+				+ "Content-Type: application/octet-stream\r\n\r\n")
+			.getBytes(StandardCharsets.US_ASCII);
+		this.suffix = "\r\n--%s--\r\n".formatted(boundary).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	long getContentLength() {
+		return this.prefix.length + this.bundleSize + this.suffix.length;
+	}
+
+	void writeTo(OutputStream outputStream) throws IOException {
+		outputStream.write(this.prefix);
+		UploadProgressOutputStream progressOutputStream = new UploadProgressOutputStream(outputStream, this.logger,
+				this.clock, this.progressInterval, this.bundleSize);
+		SizeLimitingOutputStream bundleOutputStream = new SizeLimitingOutputStream(progressOutputStream,
+				this.maxBundleSize);
+		this.bundle.writeTo(bundleOutputStream);
+		bundleOutputStream.flush();
+		this.statistics = progressOutputStream.finish();
+		outputStream.write(this.suffix);
+		outputStream.flush();
+	}
+
+	UploadStatistics getStatistics() {
+		Assert.state(this.statistics != null, "Bundle has not been written");
+		return this.statistics;
+	}
+
+	/**
+	 * {@link OutputStream} which counts the written bytes and fails as soon as the
+	 * maximum bundle size is exceeded.
+	 */
+	private static final class SizeLimitingOutputStream extends FilterOutputStream {
+
+		private final DataSize maxSize;
+
+		private long count;
+
+		SizeLimitingOutputStream(OutputStream out, DataSize maxSize) {
+			super(out);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			count(1);
+			this.out.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			count(len);
+			this.out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			// The underlying stream is owned by the request
+			flush();
+		}
+
+		private void count(int len) {
+			this.count += len;
+			if (this.count > this.maxSize.toBytes()) {
+				throw new IllegalStateException(
+						"Maximum bundle size is %s, but the streamed bundle exceeds it".formatted(this.maxSize));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy which decides how long to wait before polling the status of a deployment
+ * again.
+ *
+ * @author Moritz Halbritter
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+	/**
+	 * Returns the delay before the next status poll. The caller caps the delay at the
+	 * time left before the deadline.
+	 * @param status the last polled status or {@code null} if the deployment hasn't been
+	 * found yet
+	 * @param attempt the number of consecutive polls which returned this status, starting
+	 * with 1
+	 * @param elapsed the time since this status has been polled first
+	 * @return the delay before the next poll
+	 */
+	Duration getDelay(@Nullable Status status, int attempt, Duration elapsed);
+
+	/**
+	 * Creates a strategy which always waits the given delay.
+	 * @param delay the delay
+	 * @return the polling strategy
+	 */
+	static PollingStrategy fixed(Duration delay) {
+		return (status, attempt, elapsed) -> delay;
+	}
+
+}
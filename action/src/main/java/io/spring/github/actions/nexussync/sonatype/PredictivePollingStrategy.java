@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link PollingStrategy} which schedules polls around the predicted end of a status.
+ * While the predicted end is far away, half of the remaining time is waited, so that
+ * polls get denser towards the prediction, but never more than the maximum delay. Close
+ * to or past the prediction, and for statuses without a prediction, the delegate
+ * decides.
+ *
+ * @author Moritz Halbritter
+ */
+class PredictivePollingStrategy implements PollingStrategy {
+
+	private final PollingStrategy delegate;
+
+	private final StatusPrediction prediction;
+
+	private final Duration maxDelay;
+
+	PredictivePollingStrategy(PollingStrategy delegate, StatusPrediction prediction, Duration maxDelay) {
+		this.delegate = delegate;
+		this.prediction = prediction;
+		this.maxDelay = maxDelay;
+	}
+
+	@Override
+	public Duration getDelay(@Nullable Status status, int attempt, Duration elapsed) {
+		Duration delay = this.delegate.getDelay(status, attempt, elapsed);
+		Duration predicted = this.prediction.getDuration(status);
+		if (predicted == null) {
+			return delay;
+		}
+		Duration half = predicted.minus(elapsed).dividedBy(2);
+		if (half.compareTo(delay) <= 0) {
+			return delay;
+		}
+		return (half.compareTo(this.maxDelay) < 0) ? half : this.maxDelay;
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Retries requests to the Central Portal which failed with HTTP 429, 502, 503 or 504 or
+ * with an I/O error like a connection reset. Requests which aren't idempotent, like
+ * uploads, are only retried if the Central Portal can't have processed them: if they
+ * have been rejected with HTTP 429 or 503 or if no connection could be established. A
+ * {@code Retry-After} header is honoured, otherwise the delay grows exponentially, with
+ * jitter, up to a maximum. Retries stop once the next one wouldn't start before the
+ * retry budget is used up. Retries are scheduled on a {@link ScheduledExecutorService}
+ * instead of sleeping.
+ *
+ * @author Moritz Halbritter
+ */
+class Retrier {
+
+	private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+	// A gateway error or timeout doesn't tell if the request has reached the server
+	private static final Set<Integer> NON_IDEMPOTENT_RETRYABLE_STATUSES = Set.of(429, 503);
+
+	private static final double MULTIPLIER = 2;
+
+	private final Logger logger;
+
+	private final Clock clock;
+
+	private final Duration initialBackoff;
+
+	private final Duration maxBackoff;
+
+	private final Duration budget;
+
+	private final RandomGenerator random;
+
+	private final ScheduledExecutorService scheduler;
+
+	Retrier(Logger logger, Clock clock, Duration initialBackoff, Duration maxBackoff, Duration budget,
+			RandomGenerator random, ScheduledExecutorService scheduler) {
+		this.logger = logger;
+		this.clock = clock;
+		this.scheduler = scheduler;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.budget = budget;
+		this.random = random;
+	}
+
+	/**
+	 * Executes the given request on the given executor and retries it if it failed with a
+	 * transient error.
+	 * @param <T> the type of the result
+	 * @param description the description of the request, used for logging
+	 * @param request the request
+	 * @param executor the executor to run the request on
+	 * @return a future which completes with the result of the request
+	 */
+	<T> CompletableFuture<T> execute(String description, Supplier<T> request, Executor executor) {
+		return execute(description, request, executor, true);
+	}
+
+	/**
+	 * Executes the given request, which isn't idempotent, on the given executor and
+	 * retries it only if it can't have been processed.
+	 * @param <T> the type of the result
+	 * @param description the description of the request, used for logging
+	 * @param request the request
+	 * @param executor the executor to run the request on
+	 * @return a future which completes with the result of the request
+	 */
+	<T> CompletableFuture<T> executeNonIdempotent(String description, Supplier<T> request, Executor executor) {
+		return execute(description, request, executor, false);
+	}
+
+	private <T> CompletableFuture<T> execute(String description, Supplier<T> request, Executor executor,
+			boolean idempotent) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Instant deadline = this.clock.instant().plus(this.budget);
+		executor.execute(() -> attempt(description, request, executor, idempotent, deadline, 1, result));
+		return result;
+	}
+
+	private <T> void attempt(String description, Supplier<T> request, Executor executor, boolean idempotent,
+			Instant deadline, int attempt, CompletableFuture<T> result) {
+		// The future has been cancelled
+		if (result.isDone()) {
+			return;
+		}
+		try {
+			result.complete(request.get());
+		}
+		catch (RuntimeException | Error ex) {
+			Duration delay = getDelay(description, idempotent, attempt, ex, deadline);
+			if (delay == null) {
+				result.completeExceptionally(ex);
+				return;
+			}
+			Runnable retry = () -> attempt(description, request, executor, idempotent, deadline, attempt + 1, result);
+			this.scheduler.schedule(() -> executor.execute(retry), delay.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Nullable
+	private Duration getDelay(String description, boolean idempotent, int attempt, Throwable failure,
+			Instant deadline) {
+		Duration delay;
+		if (failure instanceof RestClientResponseException responseException
+				&& isRetryable(responseException.getStatusCode(), idempotent)) {
+			Duration retryAfter = getRetryAfter(responseException.getResponseHeaders());
+			delay = (retryAfter != null) ? retryAfter : backoff(attempt);
+		}
+		else if (failure instanceof ResourceAccessException && (idempotent || isNotConnected(failure))) {
+			delay = backoff(attempt);
+		}
+		else {
+			return null;
+		}
+		Duration remaining = Duration.between(this.clock.instant(), deadline);
+		if (delay.compareTo(remaining) > 0) {
+			this.logger.error("{} failed after {} attempts, giving up", description, attempt);
+			return null;
+		}
+		this.logger.log("{} failed: {}. Retrying in {} ...", description, failure.getMessage(), delay);
+		return delay;
+	}
+
+	private Duration backoff(int attempt) {
+		double factor = Math.pow(MULTIPLIER, attempt - 1);
+		long millis = (long) Math.min(this.initialBackoff.toMillis() * factor, this.maxBackoff.toMillis());
+		// Equal jitter, so that concurrent uploads don't retry in lockstep
+		long half = millis / 2;
+		return Duration.ofMillis((half > 0) ? half + this.random.nextLong(half + 1) : millis);
+	}
+
+	@Nullable
+	private Duration getRetryAfter(@Nullable HttpHeaders headers) {
+		String value = (headers != null) ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+		}
+		catch (NumberFormatException ex) {
+			// Not delay-seconds, must be an HTTP-date
+		}
+		try {
+			Instant date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+			Duration delay = Duration.between(this.clock.instant(), date);
+			return (delay.isNegative()) ? Duration.ZERO : delay;
+		}
+		catch (DateTimeParseException ex) {
+			this.logger.debug("Ignoring invalid Retry-After header '{}'", value);
+			return null;
+		}
+	}
+
+	/**
+	 * Whether a response with the given status should be retried.
+	 * @param status the status of the response
+	 * @return whether the response should be retried
+	 */
+	static boolean isRetryable(HttpStatusCode status) {
+		return RETRYABLE_STATUSES.contains(status.value());
+	}
+
+	private static boolean isRetryable(HttpStatusCode status, boolean idempotent) {
+		return ((idempotent) ? RETRYABLE_STATUSES : NON_IDEMPOTENT_RETRYABLE_STATUSES).contains(status.value());
+	}
+
+	private static boolean isNotConnected(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+					|| cause instanceof UnknownHostException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Predicted time a deployment spends in each non-final status.
+ *
+ * @author Moritz Halbritter
+ */
+public final class StatusPrediction {
+
+	private static final StatusPrediction NONE = new StatusPrediction(Map.of(), 0);
+
+	private final Map<Status, Duration> durations;
+
+	private final int samples;
+
+	/**
+	 * Creates a new prediction.
+	 * @param durations the predicted duration of each status
+	 * @param samples the number of deployments the prediction is based on
+	 */
+	public StatusPrediction(Map<Status, Duration> durations, int samples) {
+		this.durations = (durations.isEmpty()) ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(durations));
+		this.samples = samples;
+	}
+
+	/**
+	 * Returns the predicted duration of the given status.
+	 * @param status the status
+	 * @return the predicted duration or {@code null} if there's no prediction for the
+	 * status
+	 */
+	@Nullable
+	public Duration getDuration(@Nullable Status status) {
+		return (status != null) ? this.durations.get(status) : null;
+	}
+
+	/**
+	 * Returns the predicted time until the deployment reaches a final status.
+	 * @param status the current status or {@code null} if the deployment hasn't been
+	 * found yet
+	 * @param elapsed the time already spent in the current status
+	 * @param publishingType the publishing type
+	 * @return the predicted remaining time
+	 */
+	public Duration getRemaining(@Nullable Status status, Duration elapsed, PublishingType publishingType) {
+		Status current = (status != null) ? status : Status.PENDING;
+		Duration remaining = Duration.ZERO;
+		for (Status candidate : Status.values()) {
+			if (candidate.isFinal(publishingType)) {
+				break;
+			}
+			Duration duration = this.durations.get(candidate);
+			if (candidate.compareTo(current) >= 0 && duration != null) {
+				remaining = remaining.plus(duration);
+			}
+		}
+		remaining = remaining.minus(elapsed);
+		return (remaining.isNegative()) ? Duration.ZERO : remaining;
+	}
+
+	/**
+	 * Returns the number of deployments this prediction is based on.
+	 * @return the number of deployments
+	 */
+	public int getSamples() {
+		return this.samples;
+	}
+
+	/**
+	 * Whether this prediction is empty.
+	 * @return whether this prediction is empty
+	 */
+	public boolean isEmpty() {
+		return this.durations.isEmpty();
+	}
+
+	/**
+	 * Returns an empty prediction.
+	 * @return the empty prediction
+	 */
+	public static StatusPrediction none() {
+		return NONE;
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+import io.spring.github.actions.nexussync.metrics.CountingOutputStream;
+import io.spring.github.actions.nexussync.system.Logger;
+
+/**
+ * {@link OutputStream} which reports the progress of an upload in a fixed interval: the
+ * bytes sent, the current and the average throughput and, if the total size is known,
+ * the estimated time until the upload is done.
+ *
+ * @author Moritz Halbritter
+ */
+class UploadProgressOutputStream extends CountingOutputStream {
+
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	/**
+	 * Marks an unknown total size.
+	 */
+	static final long UNKNOWN_SIZE = -1;
+
+	private final Logger logger;
+
+	private final Clock clock;
+
+	private final long intervalMillis;
+
+	private final long totalBytes;
+
+	private final long startMillis;
+
+	private long lastReportMillis;
+
+	private long lastReportBytes;
+
+	UploadProgressOutputStream(OutputStream outputStream, Logger logger, Clock clock, Duration interval,
+			long totalBytes) {
+		super(outputStream);
+		this.logger = logger;
+		this.clock = clock;
+		this.intervalMillis = interval.toMillis();
+		this.totalBytes = totalBytes;
+		this.startMillis = clock.millis();
+		this.lastReportMillis = this.startMillis;
+	}
+
+	@Override
+	protected void onWrite(int length) {
+		super.onWrite(length);
+		long now = this.clock.millis();
+		if (now - this.lastReportMillis >= this.intervalMillis) {
+			report(now);
+		}
+	}
+
+	private void report(long now) {
+		long bytes = getCount();
+		double current = megabytesPerSecond(bytes - this.lastReportBytes, now - this.lastReportMillis);
+		double average = megabytesPerSecond(bytes, now - this.startMillis);
+		if (this.totalBytes != UNKNOWN_SIZE) {
+			long remainingBytes = Math.max(0, this.totalBytes - bytes);
+			long etaSeconds = (average > 0) ? (long) Math.ceil(remainingBytes / BYTES_PER_MEGABYTE / average) : 0;
+			this.logger.log("Uploaded {} of {} MB ({}%), current {} MB/s, average {} MB/s, ETA {}",
+					format(bytes / BYTES_PER_MEGABYTE), format(this.totalBytes / BYTES_PER_MEGABYTE),
+					(this.totalBytes > 0) ? bytes * 100 / this.totalBytes : 100, format(current), format(average),
+					Duration.ofSeconds(etaSeconds));
+		}
+		else {
+			this.logger.log("Uploaded {} MB, current {} MB/s, average {} MB/s", format(bytes / BYTES_PER_MEGABYTE),
+					format(current), format(average));
+		}
+		this.lastReportMillis = now;
+		this.lastReportBytes = bytes;
+	}
+
+	/**
+	 * Finishes the upload, logs and returns its statistics.
+	 * @return the statistics of the upload
+	 */
+	UploadStatistics finish() {
+		UploadStatistics statistics = new UploadStatistics(getCount(),
+				Duration.ofMillis(this.clock.millis() - this.startMillis));
+		this.logger.log("Uploaded {} MB in {}, average {} MB/s", format(statistics.bytes() / BYTES_PER_MEGABYTE),
+				statistics.duration(), format(statistics.megabytesPerSecond()));
+		return statistics;
+	}
+
+	static double megabytesPerSecond(long bytes, long millis) {
+		return (millis > 0) ? (bytes / BYTES_PER_MEGABYTE) / (millis / 1000.0) : 0;
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+}
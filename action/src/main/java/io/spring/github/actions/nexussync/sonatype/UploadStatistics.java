@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a bundle upload.
+ *
+ * @param bytes the number of uploaded bytes
+ * @param duration the duration of the upload
+ * @author Moritz Halbritter
+ */
+public record UploadStatistics(long bytes, Duration duration) {
+
+	private static final UploadStatistics NONE = new UploadStatistics(0, Duration.ZERO);
+
+	/**
+	 * Returns the average throughput of the upload in megabytes per second.
+	 * @return the average throughput
+	 */
+	public double megabytesPerSecond() {
+		return UploadProgressOutputStream.megabytesPerSecond(this.bytes, this.duration.toMillis());
+	}
+
+	/**
+	 * Returns statistics for a deployment which hasn't been uploaded by this process.
+	 * @return the empty statistics
+	 */
+	public static UploadStatistics none() {
+		return NONE;
+	}
+
+}
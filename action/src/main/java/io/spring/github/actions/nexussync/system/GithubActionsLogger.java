@@ -33,13 +33,12 @@ class GithubActionsLogger implements Logger {
 
 	@Override
 	public void log(String message, Object... args) {
-		printMessage(message, args);
+		printMessage("", message, args);
 	}
 
 	@Override
 	public void error(String message, Object... args) {
-		System.out.print("ERROR: ");
-		printMessage(message, args);
+		printMessage("ERROR: ", message, args);
 	}
 
 	@Override
@@ -47,12 +46,12 @@ class GithubActionsLogger implements Logger {
 		if (!this.debugEnabled) {
 			return;
 		}
-		System.out.print("##[debug]");
-		printMessage(message, args);
+		printMessage("##[debug]", message, args);
 	}
 
-	private void printMessage(String message, Object[] args) {
-		System.out.println(MessageFormatter.arrayFormat(message, args).getMessage());
+	private void printMessage(String prefix, String message, Object[] args) {
+		// Print in a single call, messages may be logged from multiple threads
+		System.out.println(prefix + MessageFormatter.arrayFormat(message, args).getMessage());
 	}
 
 }
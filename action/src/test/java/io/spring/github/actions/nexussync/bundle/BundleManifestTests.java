@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BundleManifest}.
+ *
+ * @author Moritz Halbritter
+ */
+class BundleManifestTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void shouldIgnoreGeneratedChecksumFiles() throws IOException {
+		FileSet files = createFiles("a/a.jar", "a/a.pom");
+		FileSet filesWithChecksum = files.plus(createFiles("a/a.jar.md5"));
+		assertThat(BundleManifest.of(this.root, filesWithChecksum).hash())
+			.isEqualTo(BundleManifest.of(this.root, files).hash());
+	}
+
+	@Test
+	void shouldKeepChecksumFilesWithoutSourceFile() throws IOException {
+		FileSet files = createFiles("a/a.jar", "a/a.pom");
+		FileSet filesWithChecksum = files.plus(createFiles("a/b.jar.md5"));
+		assertThat(BundleManifest.of(this.root, filesWithChecksum).hash())
+			.isNotEqualTo(BundleManifest.of(this.root, files).hash());
+	}
+
+	@Test
+	void shouldChangeHashIfFileIsRenamed() throws IOException {
+		String hash = BundleManifest.of(this.root, createFiles("a/a.jar")).hash();
+		Files.delete(this.root.resolve("a/a.jar"));
+		assertThat(BundleManifest.of(this.root, createFiles("a/b.jar")).hash()).isNotEqualTo(hash);
+	}
+
+	@Test
+	void shouldChangeHashIfPrefixChanges() throws IOException {
+		BundleManifest manifest = BundleManifest.of(this.root, createFiles("a/a.jar"));
+		assertThat(manifest.hash("prefix-1")).isNotEqualTo(manifest.hash("prefix-2")).isNotEqualTo(manifest.hash());
+	}
+
+	private FileSet createFiles(String... names) throws IOException {
+		List<Path> files = new ArrayList<>();
+		for (String name : names) {
+			Path file = this.root.resolve(name);
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, "Content");
+			files.add(file);
+		}
+		return FileSet.of(files);
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BundleSizeEstimator}.
+ *
+ * @author Moritz Halbritter
+ */
+class BundleSizeEstimatorTests {
+
+	private final BundleSizeEstimator estimator = new BundleSizeEstimator();
+
+	@Test
+	void shouldUseDeflateWorstCase(@TempDir Path tempDir) throws IOException {
+		Path jar = createFile(tempDir.resolve("a.jar"), 100_000);
+		Path pom = createFile(tempDir.resolve("a.pom"), 100_000);
+		long overhead = estimate(this.estimator, tempDir, createFile(tempDir.resolve("b.jar"), 0)) - 16;
+		assertThat(estimate(this.estimator, tempDir, jar)).isEqualTo(100_000 + 100 + 16 + overhead);
+		assertThat(estimate(this.estimator, tempDir, pom)).isEqualTo(100_000 + 100 + 16 + overhead);
+	}
+
+	@Test
+	void shouldBeUpperBoundOfBundleSize(@TempDir Path tempDir) throws IOException {
+		Path jar = createRandomFile(tempDir.resolve("a/a.jar"), 300_000);
+		Path pom = createRandomFile(tempDir.resolve("a/a.pom"), 100_000);
+		Path small = createRandomFile(tempDir.resolve("a/a.txt"), 10);
+		FileSet files = FileSet.of(List.of(jar, pom, small));
+		for (int compressionLevel : new int[] { -1, 0, 9 }) {
+			Bundle bundle = new BundlerImpl(EntryCompression.standard(), compressionLevel).createBundle(tempDir,
+					files, new TestChecksumCollector());
+			long estimate = BundleSizeEstimator.ARCHIVE_OVERHEAD;
+			for (Path file : files) {
+				estimate += this.estimator.estimate(tempDir, files, file);
+			}
+			assertThat(bundle.getSize().toBytes()).isLessThanOrEqualTo(estimate);
+		}
+	}
+
+	@Test
+	void shouldUseSizeCapturedWhileScanning(@TempDir Path tempDir) throws IOException {
+		Path empty = createFile(tempDir.resolve("a.jar"), 0);
+		Path jar = createFile(tempDir.resolve("b.jar"), 0);
+		FileSet files = FileSet.builder().add(jar, 100_000, 0).build();
+		long overhead = estimate(this.estimator, tempDir, empty) - 16;
+		assertThat(this.estimator.estimate(tempDir, files, jar)).isEqualTo(100_000 + 100 + 16 + overhead);
+	}
+
+	private long estimate(BundleSizeEstimator estimator, Path root, Path file) {
+		return estimator.estimate(root, FileSet.of(List.of(file)), file);
+	}
+
+	private Path createFile(Path file, int size) throws IOException {
+		Files.write(file, new byte[size]);
+		return file;
+	}
+
+	private Path createRandomFile(Path file, int size) throws IOException {
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		Files.createDirectories(file.getParent());
+		Files.write(file, content);
+		return file;
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.maven.Component;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link BundleSplitter}.
+ *
+ * @author Moritz Halbritter
+ */
+class BundleSplitterTests {
+
+	@Test
+	void shouldNotSplitIfFilesFitIntoOneBundle(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofGigabytes(1), true);
+		List<FileSet> bundles = splitter.split(tempDir, components);
+		assertThat(bundles).hasSize(1);
+		assertThat(bundles.get(0).size()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldSplitByComponent(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofKilobytes(5), true);
+		List<FileSet> bundles = splitter.split(tempDir, components);
+		assertThat(bundles).hasSize(2);
+		assertThat(toList(bundles.get(0))).containsExactlyInAnyOrder(tempDir.resolve("com/example/a/1.0/a-1.0.jar"),
+				tempDir.resolve("com/example/a/1.0/a-1.0.pom"));
+		assertThat(toList(bundles.get(1))).containsExactlyInAnyOrder(tempDir.resolve("com/example/b/1.0/b-1.0.jar"),
+				tempDir.resolve("com/example/b/1.0/b-1.0.pom"));
+	}
+
+	@Test
+	void shouldFailIfComponentDoesNotFitIntoOneBundle(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofKilobytes(2), true);
+		assertThatIllegalStateException().isThrownBy(() -> splitter.split(tempDir, components))
+			.withMessageContaining("Component 'com.example:a:1.0' needs up to")
+			.withMessageContaining("but the maximum bundle size is");
+	}
+
+	@Test
+	void shouldOrderComponentsByDirectory(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofKilobytes(5), true);
+		List<FileSet> bundles = splitter.split(tempDir, List.of(components.get(1), components.get(0)));
+		assertThat(bundles.get(0)).containsExactlyElementsOf(components.get(0).getFiles());
+		assertThat(bundles.get(1)).containsExactlyElementsOf(components.get(1).getFiles());
+	}
+
+	@Test
+	void shouldFailFastIfSplittingIsDisabledAndBundleIsTooLarge(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofKilobytes(5), false);
+		assertThatIllegalStateException().isThrownBy(() -> splitter.split(tempDir, components))
+			.withMessageContaining("splitting is disabled");
+	}
+
+	@Test
+	void shouldReturnAllFilesIfSplittingIsDisabled(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofGigabytes(1), false);
+		List<FileSet> bundles = splitter.split(tempDir, components);
+		assertThat(bundles).hasSize(1);
+		assertThat(bundles.get(0).size()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldSplitGroupsLazily(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofKilobytes(5), true);
+		Iterator<Iterator<Component>> bundles = splitter.split(tempDir, components.iterator());
+		List<List<Component>> result = new ArrayList<>();
+		while (bundles.hasNext()) {
+			List<Component> bundle = new ArrayList<>();
+			bundles.next().forEachRemaining(bundle::add);
+			result.add(bundle);
+		}
+		assertThat(result).containsExactly(List.of(components.get(0)), List.of(components.get(1)));
+	}
+
+	@Test
+	void shouldKeepGroupsTogetherIfTheyFitIntoOneBundle(@TempDir Path tempDir) throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofGigabytes(1), true);
+		Iterator<Iterator<Component>> bundles = splitter.split(tempDir, components.iterator());
+		List<Component> bundle = new ArrayList<>();
+		bundles.next().forEachRemaining(bundle::add);
+		assertThat(bundle).containsExactlyElementsOf(components);
+		assertThat(bundles.hasNext()).isFalse();
+	}
+
+	@Test
+	void shouldFailWhileSplittingLazilyIfSplittingIsDisabledAndBundleIsTooLarge(@TempDir Path tempDir)
+			throws IOException {
+		List<Component> components = createTestComponents(tempDir);
+		BundleSplitter splitter = createSplitter(DataSize.ofKilobytes(5), false);
+		Iterator<Component> bundle = splitter.split(tempDir, components.iterator()).next();
+		bundle.next();
+		assertThatIllegalStateException().isThrownBy(bundle::hasNext).withMessageContaining("splitting is disabled");
+	}
+
+	private BundleSplitter createSplitter(DataSize maxSize, boolean enabled) {
+		return new BundleSplitter(new BundleSizeEstimator(), maxSize, enabled);
+	}
+
+	private List<Component> createTestComponents(Path tempDir) throws IOException {
+		return List.of(createTestComponent(tempDir, "a"), createTestComponent(tempDir, "b"));
+	}
+
+	private Component createTestComponent(Path tempDir, String artifactId) throws IOException {
+		Path directory = tempDir.resolve("com/example/" + artifactId + "/1.0");
+		Files.createDirectories(directory);
+		List<Path> files = List.of(directory.resolve(artifactId + "-1.0.jar"),
+				directory.resolve(artifactId + "-1.0.pom"));
+		for (Path file : files) {
+			Files.write(file, new byte[1000]);
+		}
+		return Component.of(tempDir, FileSet.of(files));
+	}
+
+	private List<Path> toList(FileSet files) {
+		List<Path> result = new ArrayList<>();
+		files.forEach(result::add);
+		return result;
+	}
+
+}
@@ -16,14 +16,21 @@
 
 package io.spring.github.actions.nexussync.bundle;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
+import io.spring.github.actions.nexussync.checksum.Checksums;
 import io.spring.github.actions.nexussync.file.FileSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -47,6 +54,107 @@ class BundlerImplTests {
 				"a/a2/aa1.txt", "b/b1.txt");
 	}
 
+	@Test
+	void shouldWriteInMemoryChecksumsToBundle(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path existingChecksum = tempDir.resolve("b/b1.txt.md5");
+		Files.writeString(existingChecksum, "existing");
+		files = files.plus(FileSet.of(List.of(existingChecksum)));
+		Checksums checksums = Checksums.of(Map.of(existingChecksum, "in-memory"));
+		BundlerImpl bundler = new BundlerImpl();
+		Bundle bundle = bundler.createBundle(tempDir, files, checksums);
+		assertThat(getBundleEntryNames(bundle)).containsExactlyInAnyOrder("a/a1/aa1.txt", "a/a1/aa2.txt",
+				"a/a2/aa1.txt", "b/b1.txt", "b/b1.txt.md5");
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt.md5")).isEqualTo("in-memory");
+	}
+
+	@Test
+	void shouldNotCompressAlreadyCompressedEntries(@TempDir Path tempDir) throws IOException {
+		Path jar = tempDir.resolve("artifact.jar");
+		Path pom = tempDir.resolve("artifact.pom");
+		Files.writeString(jar, "a".repeat(1024));
+		Files.writeString(pom, "a".repeat(1024));
+		BundlerImpl bundler = new BundlerImpl(EntryCompression.standard(), 9);
+		Bundle bundle = bundler.createBundle(tempDir, FileSet.of(List.of(jar, pom)));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.getEntry("artifact.jar").getCompressedSize()).isGreaterThan(1024);
+			assertThat(zipFile.getEntry("artifact.pom").getCompressedSize()).isLessThan(1024);
+		}
+		assertThat(getBundleEntryContent(bundle, "artifact.jar")).isEqualTo("a".repeat(1024));
+		assertThat(getBundleEntryContent(bundle, "artifact.pom")).isEqualTo("a".repeat(1024));
+	}
+
+	@Test
+	void shouldWriteBundleToOutputStream(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		BundlerImpl bundler = new BundlerImpl();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		bundler.createStreamingBundle(tempDir, files, Checksums.empty()).writeTo(outputStream);
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream inputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = inputStream.getNextEntry()) != null) {
+				names.add(entry.getName());
+			}
+		}
+		assertThat(names).containsExactlyInAnyOrder("a/a1/aa1.txt", "a/a1/aa2.txt", "a/a2/aa1.txt", "b/b1.txt");
+	}
+
+	@Test
+	void shouldWriteCollectedChecksumsAfterEachFile(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path existingChecksum = tempDir.resolve("b/b1.txt.len");
+		Files.writeString(existingChecksum, "existing");
+		files = files.plus(FileSet.of(List.of(existingChecksum)));
+		TestChecksumCollector collector = new TestChecksumCollector();
+		BundlerImpl bundler = new BundlerImpl();
+		Bundle bundle = bundler.createBundle(tempDir, files, collector);
+		assertThat(collector.isFinished()).isTrue();
+		List<String> names = getBundleEntryNames(bundle);
+		assertThat(names.indexOf("b/b1.txt.len")).isEqualTo(names.indexOf("b/b1.txt") + 1);
+		assertThat(names.indexOf("a/a1/aa1.txt.len")).isEqualTo(names.indexOf("a/a1/aa1.txt") + 1);
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt.len"))
+			.isEqualTo(String.valueOf(("Content of " + tempDir.resolve("b/b1.txt")).length()));
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt")).isEqualTo("Content of " + tempDir.resolve("b/b1.txt"));
+	}
+
+	@Test
+	void shouldCreateReproducibleBundles(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		BundlerImpl bundler = new BundlerImpl();
+		Bundle first = bundler.createBundle(tempDir, files);
+		Bundle second = bundler.createBundle(tempDir, files);
+		assertThat(Files.readAllBytes(second.getFile())).isEqualTo(Files.readAllBytes(first.getFile()));
+		try (ZipFile zipFile = new ZipFile(first.getFile().toFile(), StandardCharsets.UTF_8)) {
+			zipFile.stream().forEach((entry) -> assertThat(entry.getTimeLocal()).isEqualTo(BundlerImpl.ENTRY_TIME));
+		}
+	}
+
+	@Test
+	void shouldWriteGroupsInArrivalOrder(@TempDir Path tempDir) throws IOException {
+		createTestFiles(tempDir);
+		FileSet b = FileSet.of(List.of(tempDir.resolve("b/b1.txt")));
+		FileSet a = FileSet.of(List.of(tempDir.resolve("a/a1/aa2.txt"), tempDir.resolve("a/a1/aa1.txt")));
+		List<TestChecksumCollector> collectors = new ArrayList<>();
+		BundlerImpl bundler = new BundlerImpl();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		bundler.writeBundle(tempDir, List.of(b, a).iterator(), (group) -> {
+			TestChecksumCollector collector = new TestChecksumCollector();
+			collectors.add(collector);
+			return collector;
+		}, outputStream);
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream inputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = inputStream.getNextEntry()) != null) {
+				names.add(entry.getName());
+			}
+		}
+		assertThat(names).containsExactly("b/b1.txt", "b/b1.txt.len", "a/a1/aa1.txt", "a/a1/aa1.txt.len",
+				"a/a1/aa2.txt", "a/a1/aa2.txt.len");
+		assertThat(collectors).hasSize(2).allSatisfy((collector) -> assertThat(collector.isFinished()).isTrue());
+	}
+
 	private FileSet createTestFiles(Path tempDir) throws IOException {
 		List<Path> files = List.of(tempDir.resolve("a/a1/aa1.txt"), tempDir.resolve("a/a1/aa2.txt"),
 				tempDir.resolve("a/a2/aa1.txt"), tempDir.resolve("b/b1.txt"));
@@ -70,4 +178,13 @@ class BundlerImplTests {
 		return result;
 	}
 
+	private String getBundleEntryContent(Bundle bundle, String name) throws IOException {
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			ZipEntry entry = zipFile.getEntry(name);
+			try (InputStream inputStream = zipFile.getInputStream(entry)) {
+				return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+	}
+
 }
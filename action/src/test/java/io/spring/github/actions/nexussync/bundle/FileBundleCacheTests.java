@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileBundleCache}.
+ *
+ * @author Moritz Halbritter
+ */
+class FileBundleCacheTests {
+
+	@Test
+	void shouldReturnNullIfNotCached(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		FileSet files = createTestFiles(root);
+		FileBundleCache cache = new FileBundleCache(Logger.noop(), tempDir.resolve("cache"), "test");
+		assertThat(cache.get(root, files)).isNull();
+	}
+
+	@Test
+	void shouldReturnCachedBundle(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		FileSet files = createTestFiles(root);
+		FileBundleCache cache = new FileBundleCache(Logger.noop(), tempDir.resolve("cache"), "test");
+		Path bundleFile = tempDir.resolve("bundle.zip");
+		Files.writeString(bundleFile, "bundle");
+		Bundle cached = cache.put(root, files, Bundle.of(bundleFile));
+		assertThat(bundleFile).doesNotExist();
+		assertThat(cached.getFile()).startsWith(tempDir.resolve("cache"));
+		Bundle bundle = cache.get(root, files);
+		assertThat(bundle).isNotNull();
+		assertThat(bundle.getFile()).hasContent("bundle");
+	}
+
+	@Test
+	void shouldReturnUncachedBundleIfItCantBeStored(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		FileSet files = createTestFiles(root);
+		Path notADirectory = Files.writeString(tempDir.resolve("cache"), "content");
+		FileBundleCache cache = new FileBundleCache(Logger.noop(), notADirectory, "test");
+		Path bundleFile = Files.writeString(tempDir.resolve("bundle.zip"), "bundle");
+		Bundle bundle = cache.put(root, files, Bundle.of(bundleFile));
+		assertThat(bundle.getFile()).isEqualTo(bundleFile).hasContent("bundle");
+	}
+
+	@Test
+	void shouldChangeKeyIfFileChanges(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		FileSet files = createTestFiles(root);
+		FileBundleCache cache = new FileBundleCache(Logger.noop(), tempDir.resolve("cache"), "test");
+		String key = cache.getKey(root, files);
+		Path jar = root.resolve("a/a.jar");
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+		assertThat(cache.getKey(root, files)).isNotEqualTo(key);
+	}
+
+	@Test
+	void shouldChangeKeyIfFingerprintChanges(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		FileSet files = createTestFiles(root);
+		FileBundleCache cache1 = new FileBundleCache(Logger.noop(), tempDir.resolve("cache"), "test-1");
+		FileBundleCache cache2 = new FileBundleCache(Logger.noop(), tempDir.resolve("cache"), "test-2");
+		assertThat(cache1.getKey(root, files)).isNotEqualTo(cache2.getKey(root, files));
+	}
+
+	@Test
+	void shouldNotPruneBundlesOfCurrentRun(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		FileBundleCache cache = new FileBundleCache(Logger.noop(), tempDir.resolve("cache"), "test");
+		List<Bundle> bundles = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			bundles.add(putBundle(cache, tempDir, root, createTestFiles(root.resolve("run-" + i))));
+		}
+		cache.prune();
+		assertThat(bundles.stream().map(Bundle::getFile).distinct().toList()).hasSize(12);
+		assertThat(bundles).allSatisfy((bundle) -> assertThat(bundle.getFile()).exists());
+	}
+
+	@Test
+	void shouldPruneLeastRecentlyUsedBundlesOfPreviousRuns(@TempDir Path tempDir) throws IOException {
+		Path root = tempDir.resolve("root");
+		Path directory = tempDir.resolve("cache");
+		FileBundleCache previous = new FileBundleCache(Logger.noop(), directory, "test");
+		List<Bundle> bundles = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			Bundle bundle = putBundle(previous, tempDir, root, createTestFiles(root.resolve("previous-" + i)));
+			Files.setLastModifiedTime(bundle.getFile(), FileTime.fromMillis(i * 1000L));
+			bundles.add(bundle);
+		}
+		FileBundleCache cache = new FileBundleCache(Logger.noop(), directory, "test");
+		Bundle current = putBundle(cache, tempDir, root, createTestFiles(root.resolve("current")));
+		cache.prune();
+		assertThat(current.getFile()).exists();
+		assertThat(bundles.get(0).getFile()).doesNotExist();
+		assertThat(bundles.subList(1, 10)).allSatisfy((bundle) -> assertThat(bundle.getFile()).exists());
+	}
+
+	private Bundle putBundle(FileBundleCache cache, Path tempDir, Path root, FileSet files) throws IOException {
+		Path bundleFile = Files.createTempFile(tempDir, "bundle", ".zip");
+		Files.writeString(bundleFile, "bundle");
+		return cache.put(root, files, Bundle.of(bundleFile));
+	}
+
+	private FileSet createTestFiles(Path root) throws IOException {
+		List<Path> files = List.of(root.resolve("a/a.jar"), root.resolve("a/a.pom"));
+		for (Path file : files) {
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, "Content of " + file);
+		}
+		return FileSet.of(files);
+	}
+
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector.FileDigest;
+import io.spring.github.actions.nexussync.checksum.Checksums;
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.portalmock.deployment.BundleValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ParallelBundlerImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class ParallelBundlerImplTests {
+
+	private static final String END_OF_CENTRAL_DIRECTORY_SIGNATURE = "PK\u0005\u0006";
+
+	@Test
+	void shouldCreateBundleWithSortedEntries(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files);
+		assertThat(getBundleEntryNames(bundle)).containsExactly("a/a1/aa1.txt", "a/a1/aa2.txt", "a/a2/aa1.txt",
+				"b/b1.jar", "b/b1.txt");
+		for (Path file : files) {
+			assertThat(getBundleEntryContent(bundle, tempDir.relativize(file).toString()))
+				.isEqualTo("Content of " + file);
+		}
+	}
+
+	@Test
+	void shouldWriteInMemoryChecksumsToBundle(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path existingChecksum = tempDir.resolve("b/b1.txt.md5");
+		Files.writeString(existingChecksum, "existing");
+		files = files.plus(FileSet.of(List.of(existingChecksum)));
+		Checksums checksums = Checksums.of(Map.of(existingChecksum, "in-memory"));
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files, checksums);
+		assertThat(getBundleEntryNames(bundle)).containsExactly("a/a1/aa1.txt", "a/a1/aa2.txt", "a/a2/aa1.txt",
+				"b/b1.jar", "b/b1.txt", "b/b1.txt.md5");
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt.md5")).isEqualTo("in-memory");
+	}
+
+	@Test
+	void shouldStoreAlreadyCompressedEntries(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files);
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.getEntry("b/b1.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+			assertThat(zipFile.getEntry("b/b1.txt").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+		}
+	}
+
+	@Test
+	void shouldSpillLargeEntriesToDisk(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.deflateAll(), 9, 2, 1);
+		Bundle bundle = bundler.createBundle(tempDir, files);
+		for (Path file : files) {
+			assertThat(getBundleEntryContent(bundle, tempDir.relativize(file).toString()))
+				.isEqualTo("Content of " + file);
+		}
+	}
+
+	@Test
+	void shouldBeReadableAsStream(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files);
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream inputStream = new ZipInputStream(Files.newInputStream(bundle.getFile()))) {
+			ZipEntry entry;
+			while ((entry = inputStream.getNextEntry()) != null) {
+				names.add(entry.getName());
+				assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+					.isEqualTo("Content of " + tempDir.resolve(entry.getName()));
+			}
+		}
+		assertThat(names).hasSize(5);
+	}
+
+	@Test
+	void shouldWriteCollectedChecksumsAfterEachFile(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path existingChecksum = tempDir.resolve("b/b1.txt.len");
+		Files.writeString(existingChecksum, "existing");
+		files = files.plus(FileSet.of(List.of(existingChecksum)));
+		TestChecksumCollector collector = new TestChecksumCollector();
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files, collector);
+		assertThat(collector.isFinished()).isTrue();
+		List<String> names = getBundleEntryNames(bundle);
+		assertThat(names.indexOf("b/b1.txt.len")).isEqualTo(names.indexOf("b/b1.txt") + 1);
+		assertThat(names.indexOf("a/a1/aa1.txt.len")).isEqualTo(names.indexOf("a/a1/aa1.txt") + 1);
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt.len"))
+			.isEqualTo(String.valueOf(("Content of " + tempDir.resolve("b/b1.txt")).length()));
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt")).isEqualTo("Content of " + tempDir.resolve("b/b1.txt"));
+	}
+
+	@Test
+	void shouldCreateReproducibleBundles(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle first = bundler.createBundle(tempDir, files);
+		Bundle second = bundler.createBundle(tempDir, files);
+		assertThat(Files.readAllBytes(second.getFile())).isEqualTo(Files.readAllBytes(first.getFile()));
+		try (ZipFile zipFile = new ZipFile(first.getFile().toFile(), StandardCharsets.UTF_8)) {
+			zipFile.stream().forEach((entry) -> assertThat(entry.getTimeLocal()).isEqualTo(BundlerImpl.ENTRY_TIME));
+		}
+	}
+
+	@Test
+	void shouldWriteGroupsInArrivalOrder(@TempDir Path tempDir) throws IOException {
+		createTestFiles(tempDir);
+		FileSet b = FileSet.of(List.of(tempDir.resolve("b/b1.txt")));
+		FileSet a = FileSet.of(List.of(tempDir.resolve("a/a1/aa2.txt"), tempDir.resolve("a/a1/aa1.txt")));
+		List<TestChecksumCollector> collectors = new ArrayList<>();
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		bundler.writeBundle(tempDir, List.of(b, a).iterator(), (group) -> {
+			TestChecksumCollector collector = new TestChecksumCollector();
+			collectors.add(collector);
+			return collector;
+		}, outputStream);
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream inputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = inputStream.getNextEntry()) != null) {
+				names.add(entry.getName());
+			}
+		}
+		assertThat(names).containsExactly("b/b1.txt", "b/b1.txt.len", "a/a1/aa1.txt", "a/a1/aa1.txt.len",
+				"a/a1/aa2.txt", "a/a1/aa2.txt.len");
+		assertThat(collectors).hasSize(2).allSatisfy((collector) -> assertThat(collector.isFinished()).isTrue());
+	}
+
+	@Test
+	void shouldFinishChecksumCollectorsBeforeFinishingArchive(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		TestChecksumCollector collector = new TestChecksumCollector() {
+
+			@Override
+			public void finish() {
+				throw new IllegalStateException("Checksum mismatch");
+			}
+
+		};
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		assertThatIllegalStateException()
+			.isThrownBy(() -> bundler.writeBundle(tempDir, files, collector, outputStream))
+			.withMessage("Checksum mismatch");
+		String written = new String(outputStream.toByteArray(), StandardCharsets.ISO_8859_1);
+		assertThat(written).contains("b/b1.txt").doesNotContain(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+	}
+
+	@Test
+	void shouldReleaseEntriesWhichAreStillPreparedOnFailure(@TempDir Path tempDir) throws Exception {
+		FileSet files = createTestFiles(tempDir);
+		CountDownLatch preparing = new CountDownLatch(1);
+		TestChecksumCollector collector = new TestChecksumCollector() {
+
+			@Override
+			public FileDigest start(Path file) {
+				if (file.endsWith("a/a1/aa1.txt")) {
+					await(preparing);
+					throw new IllegalStateException("Checksum failed");
+				}
+				FileDigest digest = super.start(file);
+				return new FileDigest() {
+
+					@Override
+					public void update(byte[] buffer, int offset, int count) {
+						digest.update(buffer, offset, count);
+					}
+
+					@Override
+					public Checksums finish() {
+						preparing.countDown();
+						// Ignores interrupts, like a worker blocked in a read would
+						sleepUninterruptibly(Duration.ofMillis(200));
+						return digest.finish();
+					}
+
+				};
+			}
+
+		};
+		Set<Path> spillFiles = getSpillFiles();
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.deflateAll(), 6, 4, 1);
+		assertThatIllegalStateException()
+			.isThrownBy(() -> bundler.writeBundle(tempDir, files, collector, new ByteArrayOutputStream()))
+			.withMessage("Checksum failed");
+		assertThat(getSpillFiles()).isEqualTo(spillFiles);
+	}
+
+	@Test
+	void shouldCreateBundleAcceptedByPortal(@TempDir Path tempDir) throws Exception {
+		FileSet files = createArtifactFiles(tempDir);
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files, createChecksums(files));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.getEntry("com/example/lib/1.0/lib-1.0.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+			assertThat(zipFile.getEntry("com/example/lib/1.0/lib-1.0.pom").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+		}
+		new BundleValidator().validate(bundle.getFile());
+	}
+
+	@Test
+	void shouldCreateZip64BundleAcceptedByPortal(@TempDir Path tempDir) throws Exception {
+		FileSet files = createArtifactFiles(tempDir);
+		Map<Path, String> checksums = new LinkedHashMap<>();
+		createChecksums(files).forEach(checksums::put);
+		// More entries than the standard end of central directory record can count
+		for (int i = 0; i < 65536; i++) {
+			checksums.put(tempDir.resolve("filler/%05d.txt.md5".formatted(i)), String.valueOf(i));
+		}
+		ParallelBundlerImpl bundler = new ParallelBundlerImpl(EntryCompression.standard(), 6, 4);
+		Bundle bundle = bundler.createBundle(tempDir, files, Checksums.of(checksums));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.size()).isEqualTo(65536 + 16);
+			assertThat(zipFile.getEntry("com/example/lib/1.0/lib-1.0.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+		}
+		new BundleValidator().validate(bundle.getFile());
+	}
+
+	private FileSet createArtifactFiles(Path tempDir) throws IOException {
+		Path directory = Files.createDirectories(tempDir.resolve("com/example/lib/1.0"));
+		List<Path> files = new ArrayList<>();
+		for (String suffix : List.of(".pom", ".jar", "-sources.jar", "-javadoc.jar")) {
+			Path file = directory.resolve("lib-1.0" + suffix);
+			Files.writeString(file, "Content of " + file + "\n".repeat(100));
+			Path signature = directory.resolve(file.getFileName() + ".asc");
+			Files.writeString(signature, "Signature of " + file);
+			files.add(file);
+			files.add(signature);
+		}
+		return FileSet.of(files);
+	}
+
+	private Checksums createChecksums(FileSet files) throws IOException, NoSuchAlgorithmException {
+		Map<Path, String> checksums = new LinkedHashMap<>();
+		for (Path file : files) {
+			if (!file.toString().endsWith(".asc")) {
+				byte[] content = Files.readAllBytes(file);
+				checksums.put(Path.of(file + ".md5"), digest("MD5", content));
+				checksums.put(Path.of(file + ".sha1"), digest("SHA-1", content));
+			}
+		}
+		return Checksums.of(checksums);
+	}
+
+	private String digest(String algorithm, byte[] content) throws NoSuchAlgorithmException {
+		return HexFormat.of().formatHex(MessageDigest.getInstance(algorithm).digest(content));
+	}
+
+	private Set<Path> getSpillFiles() throws IOException {
+		try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+			return files.filter((file) -> file.getFileName().toString().startsWith("bundle-entry"))
+				.collect(Collectors.toSet());
+		}
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void sleepUninterruptibly(Duration duration) {
+		long deadline = System.nanoTime() + duration.toNanos();
+		boolean interrupted = false;
+		while (System.nanoTime() < deadline) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+			}
+			catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private FileSet createTestFiles(Path tempDir) throws IOException {
+		List<Path> files = List.of(tempDir.resolve("b/b1.txt"), tempDir.resolve("a/a2/aa1.txt"),
+				tempDir.resolve("a/a1/aa2.txt"), tempDir.resolve("b/b1.jar"), tempDir.resolve("a/a1/aa1.txt"));
+		for (Path file : files) {
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, "Content of " + file);
+		}
+		return FileSet.of(files);
+	}
+
+	private List<String> getBundleEntryNames(Bundle bundle) throws IOException {
+		List<String> result = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			zipFile.stream().forEach((entry) -> result.add(entry.getName()));
+		}
+		return result;
+	}
+
+	private String getBundleEntryContent(Bundle bundle, String name) throws IOException {
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			ZipEntry entry = zipFile.getEntry(name);
+			try (InputStream inputStream = zipFile.getInputStream(entry)) {
+				return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector;
+import io.spring.github.actions.nexussync.checksum.Checksums;
+
+/**
+ * {@link ChecksumCollector} for tests. Uses the length of a file as its checksum.
+ *
+ * @author Moritz Halbritter
+ */
+class TestChecksumCollector implements ChecksumCollector {
+
+	private volatile boolean finished;
+
+	@Override
+	public boolean isReplaced(Path file) {
+		return file.toString().endsWith(".len");
+	}
+
+	@Override
+	public FileDigest start(Path file) {
+		if (file.toString().endsWith(".asc")) {
+			return null;
+		}
+		AtomicLong length = new AtomicLong();
+		return new FileDigest() {
+
+			@Override
+			public void update(byte[] buffer, int offset, int count) {
+				length.addAndGet(count);
+			}
+
+			@Override
+			public Checksums finish() {
+				return Checksums.of(Map.of(Path.of(file + ".len"), String.valueOf(length.get())));
+			}
+
+		};
+	}
+
+	@Override
+	public void finish() {
+		this.finished = true;
+	}
+
+	boolean isFinished() {
+		return this.finished;
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.bundle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ZipArchiveWriter}.
+ *
+ * @author Moritz Halbritter
+ */
+class ZipArchiveWriterTests {
+
+	@Test
+	void shouldWriteZip64EndOfCentralDirectoryForManyEntries(@TempDir Path tempDir) throws IOException {
+		Path zip = tempDir.resolve("many.zip");
+		byte[] content = "x".getBytes(StandardCharsets.UTF_8);
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		int entries = 70_000;
+		try (OutputStream outputStream = Files.newOutputStream(zip)) {
+			ZipArchiveWriter writer = new ZipArchiveWriter(outputStream, LocalDateTime.now());
+			for (int i = 0; i < entries; i++) {
+				writer.writeEntry(ZipArchiveWriter.Header.stored("entry-" + i, crc.getValue(), content.length),
+						(out) -> out.write(content));
+			}
+			writer.finish();
+		}
+		try (ZipFile zipFile = new ZipFile(zip.toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.size()).isEqualTo(entries);
+			assertThat(zipFile.getEntry("entry-69999")).isNotNull();
+		}
+	}
+
+}
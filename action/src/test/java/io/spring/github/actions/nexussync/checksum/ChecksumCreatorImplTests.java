@@ -20,7 +20,11 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.spring.github.actions.nexussync.file.FileSet;
 import io.spring.github.actions.nexussync.system.Logger;
@@ -28,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ChecksumCreatorImpl}.
@@ -42,6 +47,139 @@ class ChecksumCreatorImplTests {
 		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
 				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING);
 		checksumCreator.createChecksums(files);
+		assertChecksumFiles(tempDir);
+	}
+
+	@Test
+	void shouldCreateChecksumFilesInParallel(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING, 4);
+		FileSet checksumFiles = checksumCreator.createChecksums(files);
+		assertThat(checksumFiles).containsExactlyInAnyOrder(tempDir.resolve("file1.txt.md5"),
+				tempDir.resolve("file1.txt.sha1"), tempDir.resolve("file2.txt.md5"), tempDir.resolve("file2.txt.sha1"));
+		assertChecksumFiles(tempDir);
+	}
+
+	@Test
+	void shouldFailOnExistingChecksumBeforeCreatingChecksums(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Files.writeString(tempDir.resolve("file2.txt.sha1"), "existing");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING, 4);
+		assertThatIllegalStateException().isThrownBy(() -> checksumCreator.createChecksums(files))
+			.withMessageContaining("file2.txt.sha1");
+		assertThat(tempDir.resolve("file1.txt.md5")).doesNotExist();
+		assertThat(tempDir.resolve("file1.txt.sha1")).doesNotExist();
+		assertThat(tempDir.resolve("file2.txt.md5")).doesNotExist();
+	}
+
+	@Test
+	void shouldCalculateChecksumsInMemory(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING, 4);
+		Checksums checksums = checksumCreator.calculateChecksums(files);
+		assertThat(checksums.size()).isEqualTo(4);
+		assertThat(checksums.get(tempDir.resolve("file1.txt.md5"))).isEqualTo("fedad3341c60a233922c47cbd6485643");
+		assertThat(checksums.get(tempDir.resolve("file1.txt.sha1")))
+			.isEqualTo("49031614efd805062681b21a8b00884aebc8d953");
+		assertThat(checksums.get(tempDir.resolve("file2.txt.md5"))).isEqualTo("0601e2ce163f3c76ea6b5da3662248a5");
+		assertThat(checksums.get(tempDir.resolve("file2.txt.sha1")))
+			.isEqualTo("2b86942270efab26aa5a0582dc359b4fdec55105");
+		assertThat(tempDir.resolve("file1.txt.md5")).doesNotExist();
+		assertThat(tempDir.resolve("file2.txt.sha1")).doesNotExist();
+	}
+
+	@Test
+	void shouldCollectChecksumsWhileFilesAreRead(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING);
+		ChecksumCollector collector = checksumCreator.createCollector(files);
+		ChecksumCollector.FileDigest digest = collector.start(tempDir.resolve("file1.txt"));
+		byte[] content = Files.readAllBytes(tempDir.resolve("file1.txt"));
+		digest.update(content, 0, content.length);
+		Checksums checksums = digest.finish();
+		collector.finish();
+		assertThat(checksums.size()).isEqualTo(2);
+		assertThat(checksums.get(tempDir.resolve("file1.txt.md5"))).isEqualTo("fedad3341c60a233922c47cbd6485643");
+		assertThat(checksums.get(tempDir.resolve("file1.txt.sha1")))
+			.isEqualTo("49031614efd805062681b21a8b00884aebc8d953");
+		assertThat(collector.start(tempDir.resolve("file1.txt.asc"))).isNull();
+		assertThat(tempDir.resolve("file1.txt.md5")).doesNotExist();
+	}
+
+	@Test
+	void shouldReportMismatchingChecksumFilesWhenCollectorFinishes(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path existing = tempDir.resolve("file1.txt.md5");
+		Files.writeString(existing, "wrong");
+		files = files.plus(FileSet.of(List.of(existing)));
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.VERIFY_EXISTING);
+		ChecksumCollector collector = checksumCreator.createCollector(files);
+		assertThat(collector.isReplaced(existing)).isTrue();
+		assertThat(collector.isReplaced(tempDir.resolve("file1.txt"))).isFalse();
+		ChecksumCollector.FileDigest digest = collector.start(tempDir.resolve("file1.txt"));
+		byte[] content = Files.readAllBytes(tempDir.resolve("file1.txt"));
+		digest.update(content, 0, content.length);
+		digest.finish();
+		assertThatIllegalStateException().isThrownBy(collector::finish)
+			.withMessageContaining("1 existing checksum files don't match");
+	}
+
+	@Test
+	void shouldUseCachedChecksums(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path cacheFile = tempDir.resolve("cache/checksums");
+		// The test files have just been written, they would be too recent to be cached
+		Clock clock = Clock.offset(Clock.systemUTC(), Duration.ofMinutes(1));
+		new ChecksumCreatorImpl(Logger.noop(), ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING, 1,
+				FileChecksumCache.load(Logger.noop(), clock, cacheFile))
+			.calculateChecksums(files);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING, 1,
+				FileChecksumCache.load(Logger.noop(), clock, cacheFile),
+				(path) -> {
+					throw new AssertionError("File '%s' should not have been opened".formatted(path));
+				});
+		checksumCreator.createChecksums(files);
+		assertChecksumFiles(tempDir);
+	}
+
+	@Test
+	void shouldVerifyExistingChecksumFilesAndCreateMissingOnes(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path existing = tempDir.resolve("file1.txt.md5");
+		Files.writeString(existing, "fedad3341c60a233922c47cbd6485643  file1.txt");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.VERIFY_EXISTING, 4);
+		FileSet checksumFiles = checksumCreator.createChecksums(files);
+		assertThat(checksumFiles).hasSize(4);
+		assertThat(existing).content(StandardCharsets.UTF_8)
+			.isEqualTo("fedad3341c60a233922c47cbd6485643  file1.txt");
+		assertThat(tempDir.resolve("file1.txt.sha1")).exists()
+			.content(StandardCharsets.UTF_8)
+			.isEqualTo("49031614efd805062681b21a8b00884aebc8d953");
+		assertThat(tempDir.resolve("file2.txt.md5")).exists();
+		assertThat(tempDir.resolve("file2.txt.sha1")).exists();
+	}
+
+	@Test
+	void shouldReportAllMismatchingChecksumFiles(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Files.writeString(tempDir.resolve("file1.txt.md5"), "wrong1");
+		Files.writeString(tempDir.resolve("file2.txt.sha1"), "wrong2");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.VERIFY_EXISTING, 4);
+		assertThatIllegalStateException().isThrownBy(() -> checksumCreator.createChecksums(files))
+			.withMessageContaining("2 existing checksum files don't match")
+			.withMessageContaining("file1.txt.md5' contains 'wrong1'")
+			.withMessageContaining("file2.txt.sha1' contains 'wrong2'");
+	}
+
+	private void assertChecksumFiles(Path tempDir) {
 		assertThat(tempDir.resolve("file1.txt.md5")).exists()
 			.content(StandardCharsets.UTF_8)
 			.isEqualTo("fedad3341c60a233922c47cbd6485643");
@@ -56,6 +194,20 @@ class ChecksumCreatorImplTests {
 			.isEqualTo("2b86942270efab26aa5a0582dc359b4fdec55105");
 	}
 
+	@Test
+	void shouldReadEachFileOnlyOnce(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Map<Path, Integer> opened = new ConcurrentHashMap<>();
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(),
+				ChecksumCreatorImpl.ChecksumPolicy.FAIL_ON_EXISTING, 1, ChecksumCache.none(), (path) -> {
+					opened.merge(path, 1, Integer::sum);
+					return Files.newInputStream(path);
+				});
+		checksumCreator.createChecksums(files);
+		assertThat(opened).containsOnlyKeys(tempDir.resolve("file1.txt"), tempDir.resolve("file2.txt"));
+		assertThat(opened.values()).containsExactly(1, 1);
+	}
+
 	private FileSet createTestFiles(Path tempDir) throws IOException {
 		Path file1 = tempDir.resolve("file1.txt");
 		Files.writeString(file1, "Content of file1.txt");
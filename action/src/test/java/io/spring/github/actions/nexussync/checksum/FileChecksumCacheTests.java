@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.checksum;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileChecksumCache}.
+ *
+ * @author Moritz Halbritter
+ */
+class FileChecksumCacheTests {
+
+	private static final Map<String, String> CHECKSUMS = Map.of("md5", "1234", "sha1", "5678");
+
+	// The test files have just been written, they would be too recent to be cached
+	private static final Clock CLOCK = Clock.offset(Clock.systemUTC(), Duration.ofMinutes(1));
+
+	@Test
+	void shouldReturnNullIfNotCached(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, tempDir.resolve("cache"));
+		assertThat(cache.get(file, attributes(file))).isNull();
+	}
+
+	@Test
+	void shouldLoadSavedEntries(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		Path cacheFile = tempDir.resolve("cache");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		cache.put(file, attributes(file), CHECKSUMS);
+		cache.save();
+		FileChecksumCache loaded = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		assertThat(loaded.get(file, attributes(file))).isEqualTo(CHECKSUMS);
+	}
+
+	@Test
+	void shouldNotReturnEntryIfFileHasChanged(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, tempDir.resolve("cache"));
+		cache.put(file, attributes(file), CHECKSUMS);
+		Files.writeString(file, "changed content");
+		assertThat(cache.get(file, attributes(file))).isNull();
+	}
+
+	@Test
+	void shouldPruneStaleEntriesOnSave(@TempDir Path tempDir) throws IOException {
+		Path file1 = createFile(tempDir.resolve("file1.txt"), "content");
+		Path file2 = createFile(tempDir.resolve("file2.txt"), "content");
+		Path cacheFile = tempDir.resolve("cache");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		cache.put(file1, attributes(file1), CHECKSUMS);
+		cache.put(file2, attributes(file2), CHECKSUMS);
+		Files.delete(file2);
+		cache.save();
+		assertThat(cacheFile).content().contains(file1.toString()).doesNotContain(file2.toString());
+	}
+
+	@Test
+	void shouldMergeEntriesSavedByOtherInstances(@TempDir Path tempDir) throws IOException {
+		Path file1 = createFile(tempDir.resolve("file1.txt"), "content");
+		Path file2 = createFile(tempDir.resolve("file2.txt"), "content");
+		Path cacheFile = tempDir.resolve("cache");
+		FileChecksumCache cache1 = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		FileChecksumCache cache2 = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		cache1.put(file1, attributes(file1), CHECKSUMS);
+		cache2.put(file2, attributes(file2), CHECKSUMS);
+		cache1.save();
+		cache2.save();
+		FileChecksumCache loaded = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		assertThat(loaded.get(file1, attributes(file1))).isEqualTo(CHECKSUMS);
+		assertThat(loaded.get(file2, attributes(file2))).isEqualTo(CHECKSUMS);
+	}
+
+	@Test
+	void shouldNotCacheRecentlyModifiedFiles(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), Clock.systemUTC(), tempDir.resolve("cache"));
+		cache.put(file, attributes(file), CHECKSUMS);
+		assertThat(cache.get(file, attributes(file))).isNull();
+	}
+
+	@Test
+	void shouldSkipInvalidLines(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		Path cacheFile = tempDir.resolve("cache");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		cache.put(file, attributes(file), CHECKSUMS);
+		cache.save();
+		Files.writeString(cacheFile, "12\tnot-a-number\tmd5=1234\t/some/file\n7\t1", StandardOpenOption.APPEND);
+		FileChecksumCache loaded = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		assertThat(loaded.get(file, attributes(file))).isEqualTo(CHECKSUMS);
+	}
+
+	@Test
+	void shouldTreatUnreadableCacheAsEmpty(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		Path cacheFile = tempDir.resolve("cache");
+		Files.write(cacheFile, new byte[] { (byte) 0xC3, (byte) 0x28, '\t' });
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile);
+		assertThat(cache.get(file, attributes(file))).isNull();
+		cache.put(file, attributes(file), CHECKSUMS);
+		cache.save();
+		assertThat(FileChecksumCache.load(Logger.noop(), CLOCK, cacheFile).get(file, attributes(file)))
+			.isEqualTo(CHECKSUMS);
+	}
+
+	@Test
+	void shouldNotFailIfCacheCantBeSaved(@TempDir Path tempDir) throws IOException {
+		Path file = createFile(tempDir.resolve("file.txt"), "content");
+		Path notADirectory = createFile(tempDir.resolve("not-a-directory"), "content");
+		FileChecksumCache cache = FileChecksumCache.load(Logger.noop(), CLOCK, notADirectory.resolve("cache"));
+		cache.put(file, attributes(file), CHECKSUMS);
+		cache.save();
+		assertThat(cache.get(file, attributes(file))).isEqualTo(CHECKSUMS);
+	}
+
+	private Path createFile(Path file, String content) throws IOException {
+		Files.writeString(file, content);
+		return file;
+	}
+
+	private BasicFileAttributes attributes(Path file) throws IOException {
+		return Files.readAttributes(file, BasicFileAttributes.class);
+	}
+
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.github.actions.nexussync.bundle.BundleCache;
+import io.spring.github.actions.nexussync.bundle.BundleSplitter;
+import io.spring.github.actions.nexussync.deploy.Deployer.BundleMode;
+import io.spring.github.actions.nexussync.deploy.Deployer.ChecksumMode;
+import io.spring.github.actions.nexussync.deploy.Deployer.Result;
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.maven.Component;
+import io.spring.github.actions.nexussync.metrics.Instrumentation;
+import io.spring.github.actions.nexussync.metrics.Phase;
+import io.spring.github.actions.nexussync.metrics.PhaseMetrics;
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import io.spring.github.actions.nexussync.sonatype.DeploymentHistory;
+import io.spring.github.actions.nexussync.sonatype.PublishingType;
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link Deployer}.
+ *
+ * @author Moritz Halbritter
+ */
+class DeployerTests {
+
+	// Two test components don't fit into a bundle of this size
+	private static final DataSize ONE_COMPONENT_PER_BUNDLE = DataSize.ofKilobytes(4);
+
+	@TempDir
+	Path root;
+
+	private final List<Component> components = new ArrayList<>();
+
+	private final List<Component> scanned = new CopyOnWriteArrayList<>();
+
+	private final TestChecksumCreator checksumCreator = new TestChecksumCreator();
+
+	private final TestBundler bundler = new TestBundler();
+
+	private final TestCentralPortalApi centralPortalApi = new TestCentralPortalApi();
+
+	private final TestDeploymentCheckpoints checkpoints = new TestDeploymentCheckpoints();
+
+	private Instrumentation instrumentation = Instrumentation.none();
+
+	private boolean dropOnFailure = true;
+
+	@Test
+	void shouldFailIfNoFilesAreFound() {
+		assertThatIllegalStateException().isThrownBy(() -> deploy(BundleMode.FILE, ChecksumMode.FILES))
+			.withMessage("No files found in directory '%s'", this.root);
+	}
+
+	@Test
+	void shouldUploadEveryBundleAndAwaitItsDeployment() throws IOException {
+		addComponents("a", "b", "c");
+		assertThat(deploy(BundleMode.FILE, ChecksumMode.FILES)).isEqualTo(Result.SUCCESS);
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(3).allSatisfy((deployment) -> {
+			assertThat(deployment.isAwaited()).isTrue();
+			assertThat(deployment.isDropped()).isFalse();
+		});
+		assertThat(this.centralPortalApi.getUploaded().stream().map(TestDeployment::getContent).toList())
+			.containsExactlyInAnyOrder(content("a"), content("b"), content("c"));
+	}
+
+	@Test
+	void shouldCreateChecksumFilesBeforeBundling() throws IOException {
+		addComponents("a");
+		deploy(BundleMode.FILE, ChecksumMode.FILES);
+		assertThat(this.checksumCreator.getCalls()).containsExactly("createChecksums");
+		assertThat(this.bundler.getCalls()).containsExactly("checksums");
+		assertThat(this.centralPortalApi.getUploaded().get(0).isStreamed()).isFalse();
+	}
+
+	@Test
+	void shouldCalculateChecksumsInMemoryBeforeBundling() throws IOException {
+		addComponents("a");
+		deploy(BundleMode.FILE, ChecksumMode.IN_MEMORY);
+		assertThat(this.checksumCreator.getCalls()).containsExactly("calculateChecksums");
+		assertThat(this.bundler.getCalls()).containsExactly("checksums");
+		assertThat(this.centralPortalApi.getUploaded().get(0).isStreamed()).isFalse();
+	}
+
+	@Test
+	void shouldCollectChecksumsWhileBundling() throws IOException {
+		addComponents("a");
+		deploy(BundleMode.FILE, ChecksumMode.WHILE_BUNDLING);
+		assertThat(this.checksumCreator.getCalls()).containsExactly("createCollector");
+		assertThat(this.bundler.getCalls()).containsExactly("collector");
+		assertThat(this.centralPortalApi.getUploaded().get(0).isStreamed()).isFalse();
+	}
+
+	@Test
+	void shouldStreamBundles() throws IOException {
+		addComponents("a", "b");
+		deploy(BundleMode.STREAMING, ChecksumMode.IN_MEMORY);
+		assertThat(this.checksumCreator.getCalls()).containsExactly("calculateChecksums", "calculateChecksums");
+		assertThat(this.bundler.getCalls()).containsExactly("checksums", "checksums");
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(2)
+			.allSatisfy((deployment) -> assertThat(deployment.isStreamed()).isTrue());
+	}
+
+	@Test
+	void shouldUploadAtMostFourBundlesConcurrently() throws IOException {
+		addComponents("a", "b", "c", "d", "e", "f", "g", "h");
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		// Trips once four bundles are written at the same time
+		CyclicBarrier barrier = new CyclicBarrier(4);
+		this.bundler.setListener(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				barrier.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException | BrokenBarrierException | TimeoutException ex) {
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				running.decrementAndGet();
+			}
+		});
+		assertThat(deploy(BundleMode.FILE, ChecksumMode.FILES)).isEqualTo(Result.SUCCESS);
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(8);
+		assertThat(maxRunning.get()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldDropCreatedDeploymentsIfBundleFails() throws IOException {
+		addComponents("a", "b", "c");
+		this.bundler.failOn("b-1.0.jar");
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> deploy(BundleMode.FILE, ChecksumMode.FILES))
+			.havingCause()
+			.withMessage("Failed to bundle 'b-1.0.jar'");
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(2).allSatisfy((deployment) -> {
+			assertThat(deployment.isAwaited()).isTrue();
+			assertThat(deployment.isDropped()).isTrue();
+		});
+	}
+
+	@Test
+	void shouldNotDropCreatedDeploymentsIfBundleFailsAndDropOnFailureIsDisabled() throws IOException {
+		this.dropOnFailure = false;
+		addComponents("a", "b", "c");
+		this.bundler.failOn("b-1.0.jar");
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> deploy(BundleMode.FILE, ChecksumMode.FILES));
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(2)
+			.allSatisfy((deployment) -> assertThat(deployment.isDropped()).isFalse());
+	}
+
+	@Test
+	void shouldReportAllFailedBundles() throws IOException {
+		addComponents("a", "b", "c");
+		this.bundler.failOn("a-1.0.jar");
+		this.bundler.failOn("c-1.0.jar");
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> deploy(BundleMode.FILE, ChecksumMode.FILES))
+			.satisfies((ex) -> {
+				assertThat(ex.getCause()).hasMessage("Failed to bundle 'a-1.0.jar'");
+				assertThat(ex.getSuppressed()).hasSize(1);
+				assertThat(ex.getSuppressed()[0].getCause()).hasMessage("Failed to bundle 'c-1.0.jar'");
+			});
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(1);
+	}
+
+	@Test
+	void shouldDropAllDeploymentsIfOneFails() throws IOException {
+		addComponents("a", "b");
+		this.centralPortalApi.setFinalStatus(Status.FAILED);
+		assertThat(deploy(BundleMode.FILE, ChecksumMode.FILES)).isEqualTo(Result.FAILURE);
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(2)
+			.allSatisfy((deployment) -> assertThat(deployment.isDropped()).isTrue());
+	}
+
+	@Test
+	void shouldSaveCheckpointOfUploadedBundle() throws IOException {
+		addComponents("a");
+		deploy(BundleMode.FILE, ChecksumMode.FILES);
+		assertThat(this.checkpoints.getCheckpoints(PublishingType.USER_MANAGED))
+			.containsEntry(contentHash("a"), this.centralPortalApi.getUploaded().get(0).getId());
+	}
+
+	@Test
+	void shouldResumeDeploymentOfCheckpointWithoutUploading() throws IOException {
+		addComponents("a");
+		TestDeployment deployment = this.centralPortalApi.addDeployment("existing");
+		this.checkpoints.save(contentHash("a"), PublishingType.USER_MANAGED, "existing");
+		assertThat(deploy(BundleMode.FILE, ChecksumMode.FILES)).isEqualTo(Result.SUCCESS);
+		assertThat(this.centralPortalApi.getAttempts()).isZero();
+		assertThat(this.bundler.getCalls()).isEmpty();
+		assertThat(deployment.isAwaited()).isTrue();
+	}
+
+	@Test
+	void shouldNotResumeDeploymentOfOtherPublishingType() throws IOException {
+		addComponents("a");
+		this.centralPortalApi.addDeployment("existing");
+		this.checkpoints.save(contentHash("a"), PublishingType.AUTOMATIC, "existing");
+		deploy(BundleMode.FILE, ChecksumMode.FILES);
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(1);
+	}
+
+	@Test
+	void shouldUploadAgainIfDeploymentOfCheckpointIsMissing() throws IOException {
+		addComponents("a");
+		this.checkpoints.save(contentHash("a"), PublishingType.USER_MANAGED, "missing");
+		assertThat(deploy(BundleMode.FILE, ChecksumMode.FILES)).isEqualTo(Result.SUCCESS);
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(1);
+		assertThat(this.checkpoints.getCheckpoints(PublishingType.USER_MANAGED))
+			.containsEntry(contentHash("a"), this.centralPortalApi.getUploaded().get(0).getId())
+			.hasSize(1);
+	}
+
+	@Test
+	void shouldResumeOnlyBundlesWithCheckpoint() throws IOException {
+		addComponents("a", "b");
+		TestDeployment deployment = this.centralPortalApi.addDeployment("existing");
+		this.checkpoints.save(contentHash("a"), PublishingType.USER_MANAGED, "existing");
+		deploy(BundleMode.STREAMING, ChecksumMode.WHILE_BUNDLING);
+		assertThat(deployment.isAwaited()).isTrue();
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(1);
+		assertThat(this.centralPortalApi.getUploaded().get(0).getContent()).isEqualTo(content("b"));
+	}
+
+	@Test
+	void shouldRemoveCheckpointOfFailedDeployment() throws IOException {
+		addComponents("a");
+		this.dropOnFailure = false;
+		this.centralPortalApi.setFinalStatus(Status.FAILED);
+		assertThat(deploy(BundleMode.FILE, ChecksumMode.FILES)).isEqualTo(Result.FAILURE);
+		assertThat(this.checkpoints.getCheckpoints(PublishingType.USER_MANAGED)).isEmpty();
+	}
+
+	@Test
+	void shouldStreamBundlesWhileScanning() throws IOException {
+		addComponents("a", "b", "c");
+		assertThat(deploy(BundleMode.PIPELINED, ChecksumMode.FILES)).isEqualTo(Result.SUCCESS);
+		assertThat(this.bundler.getCalls()).containsExactly("groups", "groups", "groups");
+		assertThat(this.checksumCreator.getCalls()).containsExactly("createCollector", "createCollector",
+				"createCollector");
+		assertThat(this.centralPortalApi.getUploaded().stream().map(TestDeployment::getContent).toList())
+			.containsExactly(content("a"), content("b"), content("c"));
+		assertThat(this.centralPortalApi.getUploaded()).allSatisfy((deployment) -> {
+			assertThat(deployment.isStreamed()).isTrue();
+			assertThat(deployment.isAwaited()).isTrue();
+		});
+	}
+
+	@Test
+	void shouldStopPipelineAfterFirstFailure() throws IOException {
+		addComponents("a", "b", "c");
+		this.bundler.failOn("b-1.0.jar");
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> deploy(BundleMode.PIPELINED, ChecksumMode.FILES))
+			.havingCause()
+			.withMessage("Failed to bundle 'b-1.0.jar'");
+		assertThat(this.centralPortalApi.getAttempts()).isEqualTo(2);
+		assertThat(this.scanned).hasSize(2);
+		assertThat(this.centralPortalApi.getUploaded()).hasSize(1).allSatisfy((deployment) -> {
+			assertThat(deployment.getContent()).isEqualTo(content("a"));
+			assertThat(deployment.isDropped()).isTrue();
+		});
+	}
+
+	@Test
+	void shouldNotSaveCheckpointsOfPipelinedBundles() throws IOException {
+		addComponents("a");
+		deploy(BundleMode.PIPELINED, ChecksumMode.FILES);
+		assertThat(this.checkpoints.getCheckpoints(PublishingType.USER_MANAGED)).isEmpty();
+	}
+
+	@Test
+	void shouldMeasureAllPhasesOfPipelinedDeployment() throws IOException {
+		addComponents("a", "b");
+		Map<Phase, Long> files = new ConcurrentHashMap<>();
+		this.instrumentation = new Instrumentation() {
+
+			@Override
+			public Measurement start(Phase phase) {
+				return (count, bytes) -> files.merge(phase, count, Long::sum);
+			}
+
+			@Override
+			public List<PhaseMetrics> getMetrics() {
+				return List.of();
+			}
+
+			@Override
+			public void report() {
+			}
+
+		};
+		deploy(BundleMode.PIPELINED, ChecksumMode.FILES);
+		assertThat(files).containsEntry(Phase.SCAN, 4L)
+			.containsEntry(Phase.CHECKSUM, 4L)
+			.containsEntry(Phase.BUNDLE, 4L)
+			.containsEntry(Phase.UPLOAD, 4L);
+	}
+
+	private Result deploy(BundleMode bundleMode, ChecksumMode checksumMode) {
+		Deployer deployer = new Deployer(Logger.noop(), this.root, PublishingType.USER_MANAGED,
+				(root) -> this.components.stream().peek(this.scanned::add), this.checksumCreator, this.bundler,
+				new BundleSplitter(ONE_COMPONENT_PER_BUNDLE, true), BundleCache.none(), this.centralPortalApi,
+				this.dropOnFailure, checksumMode, bundleMode, DeploymentHistory.none(), this.checkpoints,
+				this.instrumentation);
+		return deployer.deploy();
+	}
+
+	private void addComponents(String... artifactIds) throws IOException {
+		for (String artifactId : artifactIds) {
+			Path directory = Files.createDirectories(this.root.resolve("com/example/" + artifactId + "/1.0"));
+			List<Path> files = new ArrayList<>();
+			for (String extension : List.of("jar", "pom")) {
+				files.add(Files.writeString(directory.resolve(artifactId + "-1.0." + extension), "content"));
+			}
+			this.components.add(Component.of(this.root, FileSet.of(files)));
+		}
+	}
+
+	private String contentHash(String artifactId) {
+		String directory = "com/example/" + artifactId + "/1.0/";
+		return directory + artifactId + "-1.0.jar," + directory + artifactId + "-1.0.pom";
+	}
+
+	private String content(String artifactId) {
+		String directory = "com/example/" + artifactId + "/1.0/";
+		return directory + artifactId + "-1.0.jar\n" + directory + artifactId + "-1.0.pom\n";
+	}
+
+}
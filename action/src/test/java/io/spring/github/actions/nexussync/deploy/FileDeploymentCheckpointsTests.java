@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.sonatype.PublishingType;
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileDeploymentCheckpoints}.
+ *
+ * @author Moritz Halbritter
+ */
+class FileDeploymentCheckpointsTests {
+
+	@TempDir
+	Path tempDir;
+
+	private Path root;
+
+	private Path checkpointFile;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.root = Files.createDirectories(this.tempDir.resolve("root"));
+		this.checkpointFile = this.tempDir.resolve("checkpoints.tsv");
+		Files.writeString(this.root.resolve("a.jar"), "a");
+		Files.writeString(this.root.resolve("b.pom"), "b");
+	}
+
+	@Test
+	void contentHashShouldNotChangeIfFilesAreUnchanged() {
+		FileDeploymentCheckpoints checkpoints = load();
+		String hash = checkpoints.getContentHash(this.root, files());
+		assertThat(checkpoints.getContentHash(this.root, files())).isEqualTo(hash);
+	}
+
+	@Test
+	void contentHashShouldChangeIfLastModifiedTimeChanges() throws IOException {
+		FileDeploymentCheckpoints checkpoints = load();
+		String hash = checkpoints.getContentHash(this.root, files());
+		Files.setLastModifiedTime(this.root.resolve("a.jar"), FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+		assertThat(checkpoints.getContentHash(this.root, files())).isNotEqualTo(hash);
+	}
+
+	@Test
+	void contentHashShouldChangeIfSizeChanges() throws IOException {
+		FileTime lastModified = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+		FileDeploymentCheckpoints checkpoints = load();
+		Files.setLastModifiedTime(this.root.resolve("a.jar"), lastModified);
+		String hash = checkpoints.getContentHash(this.root, files());
+		Files.writeString(this.root.resolve("a.jar"), "changed");
+		Files.setLastModifiedTime(this.root.resolve("a.jar"), lastModified);
+		assertThat(checkpoints.getContentHash(this.root, files())).isNotEqualTo(hash);
+	}
+
+	@Test
+	void contentHashShouldChangeIfFileIsRenamed() throws IOException {
+		FileDeploymentCheckpoints checkpoints = load();
+		String hash = checkpoints.getContentHash(this.root, files());
+		Files.move(this.root.resolve("a.jar"), this.root.resolve("c.jar"));
+		FileSet files = FileSet.of(List.of(this.root.resolve("c.jar"), this.root.resolve("b.pom")));
+		assertThat(checkpoints.getContentHash(this.root, files)).isNotEqualTo(hash);
+	}
+
+	@Test
+	void shouldPersistCheckpoints() {
+		load().save("hash-1", PublishingType.AUTOMATIC, "deployment-1");
+		FileDeploymentCheckpoints checkpoints = load();
+		assertThat(checkpoints.find("hash-1", PublishingType.AUTOMATIC)).isEqualTo("deployment-1");
+		assertThat(checkpoints.find("hash-1", PublishingType.USER_MANAGED)).isNull();
+		assertThat(checkpoints.find("hash-2", PublishingType.AUTOMATIC)).isNull();
+	}
+
+	@Test
+	void shouldReplaceCheckpointOfSameBundle() {
+		FileDeploymentCheckpoints checkpoints = load();
+		checkpoints.save("hash-1", PublishingType.AUTOMATIC, "deployment-1");
+		checkpoints.save("hash-1", PublishingType.AUTOMATIC, "deployment-2");
+		assertThat(load().find("hash-1", PublishingType.AUTOMATIC)).isEqualTo("deployment-2");
+	}
+
+	@Test
+	void shouldRemoveCheckpoints() {
+		FileDeploymentCheckpoints checkpoints = load();
+		checkpoints.save("hash-1", PublishingType.AUTOMATIC, "deployment-1");
+		checkpoints.save("hash-2", PublishingType.AUTOMATIC, "deployment-2");
+		checkpoints.remove("deployment-1");
+		assertThat(load().find("hash-1", PublishingType.AUTOMATIC)).isNull();
+		assertThat(load().find("hash-2", PublishingType.AUTOMATIC)).isEqualTo("deployment-2");
+	}
+
+	@Test
+	void shouldSkipInvalidLines() throws IOException {
+		Files.writeString(this.checkpointFile, "hash-1\tUNKNOWN\tdeployment-1\nhash-2\tAUTOMATIC\tdeployment-2\n");
+		FileDeploymentCheckpoints checkpoints = load();
+		assertThat(checkpoints.find("hash-1", PublishingType.AUTOMATIC)).isNull();
+		assertThat(checkpoints.find("hash-2", PublishingType.AUTOMATIC)).isEqualTo("deployment-2");
+	}
+
+	@Test
+	void shouldNotFailIfCheckpointsCantBeSaved() throws IOException {
+		Path notADirectory = Files.writeString(this.tempDir.resolve("not-a-directory"), "content");
+		FileDeploymentCheckpoints checkpoints = FileDeploymentCheckpoints.load(Logger.noop(),
+				notADirectory.resolve("checkpoints.tsv"));
+		checkpoints.save("hash-1", PublishingType.AUTOMATIC, "deployment-1");
+		assertThat(checkpoints.find("hash-1", PublishingType.AUTOMATIC)).isEqualTo("deployment-1");
+		checkpoints.remove("deployment-1");
+		assertThat(checkpoints.find("hash-1", PublishingType.AUTOMATIC)).isNull();
+	}
+
+	private FileSet files() {
+		return FileSet.of(List.of(this.root.resolve("a.jar"), this.root.resolve("b.pom")));
+	}
+
+	private FileDeploymentCheckpoints load() {
+		return FileDeploymentCheckpoints.load(Logger.noop(), this.checkpointFile);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import io.spring.github.actions.nexussync.bundle.Bundler;
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector;
+import io.spring.github.actions.nexussync.checksum.Checksums;
+import io.spring.github.actions.nexussync.file.FileSet;
+
+/**
+ * {@link Bundler} for tests. A bundle lists the relative paths of its files, one per
+ * line. Writing a bundle fails when it reaches a file with a failing name.
+ *
+ * @author Moritz Halbritter
+ */
+class TestBundler implements Bundler {
+
+	private final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+	private final List<String> calls = new CopyOnWriteArrayList<>();
+
+	private volatile Runnable listener = () -> {
+	};
+
+	@Override
+	public void writeBundle(Path root, FileSet files, Checksums checksums, OutputStream outputStream)
+			throws IOException {
+		this.calls.add("checksums");
+		write(root, files, outputStream);
+	}
+
+	@Override
+	public void writeBundle(Path root, FileSet files, ChecksumCollector checksumCollector, OutputStream outputStream)
+			throws IOException {
+		this.calls.add("collector");
+		write(root, files, outputStream);
+		checksumCollector.finish();
+	}
+
+	@Override
+	public void writeBundle(Path root, Iterator<FileSet> files, Function<FileSet, ChecksumCollector> checksumCollectors,
+			OutputStream outputStream) throws IOException {
+		this.calls.add("groups");
+		while (files.hasNext()) {
+			FileSet group = files.next();
+			ChecksumCollector checksumCollector = checksumCollectors.apply(group);
+			write(root, group, outputStream);
+			checksumCollector.finish();
+		}
+	}
+
+	private void write(Path root, FileSet files, OutputStream outputStream) throws IOException {
+		this.listener.run();
+		for (Path file : files) {
+			if (this.failing.contains(file.getFileName().toString())) {
+				throw new IOException("Failed to bundle '%s'".formatted(file.getFileName()));
+			}
+			outputStream.write((root.relativize(file) + "\n").getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Lets the bundles with a file of the given name fail.
+	 * @param fileName the name of the file
+	 */
+	void failOn(String fileName) {
+		this.failing.add(fileName);
+	}
+
+	/**
+	 * Sets a listener which is called whenever files are written to a bundle.
+	 * @param listener the listener
+	 */
+	void setListener(Runnable listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Returns the kinds of the bundles which have been written: {@code checksums},
+	 * {@code collector} or {@code groups}.
+	 * @return the kinds of the written bundles
+	 */
+	List<String> getCalls() {
+		return this.calls;
+	}
+
+}
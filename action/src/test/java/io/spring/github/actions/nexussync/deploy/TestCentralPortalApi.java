@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
+import io.spring.github.actions.nexussync.sonatype.CentralPortalApi;
+import io.spring.github.actions.nexussync.sonatype.Deployment;
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import io.spring.github.actions.nexussync.sonatype.PublishingType;
+
+/**
+ * {@link CentralPortalApi} for tests. Every successful upload creates a
+ * {@link TestDeployment} which reaches the configured final status.
+ *
+ * @author Moritz Halbritter
+ */
+class TestCentralPortalApi implements CentralPortalApi {
+
+	private final Map<String, TestDeployment> deployments = new ConcurrentHashMap<>();
+
+	private final List<TestDeployment> uploaded = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger attempts = new AtomicInteger();
+
+	private final AtomicInteger ids = new AtomicInteger();
+
+	private volatile Status finalStatus = Status.VALIDATED;
+
+	@Override
+	public Deployment upload(Bundle bundle, PublishingType publishingType) {
+		this.attempts.incrementAndGet();
+		try {
+			return create(Files.readString(bundle.getFile()), false);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Override
+	public Deployment upload(StreamingBundle bundle, PublishingType publishingType) {
+		this.attempts.incrementAndGet();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try {
+			bundle.writeTo(outputStream);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return create(outputStream.toString(StandardCharsets.UTF_8), true);
+	}
+
+	private TestDeployment create(String content, boolean streamed) {
+		TestDeployment deployment = new TestDeployment("deployment-" + this.ids.incrementAndGet(), content, streamed,
+				this.finalStatus);
+		this.deployments.put(deployment.getId(), deployment);
+		this.uploaded.add(deployment);
+		return deployment;
+	}
+
+	@Override
+	public Deployment findDeployment(String deploymentId, PublishingType publishingType) {
+		return this.deployments.get(deploymentId);
+	}
+
+	/**
+	 * Adds a deployment which has been uploaded before.
+	 * @param deploymentId the id of the deployment
+	 * @return the deployment
+	 */
+	TestDeployment addDeployment(String deploymentId) {
+		TestDeployment deployment = new TestDeployment(deploymentId, "", false, this.finalStatus);
+		this.deployments.put(deploymentId, deployment);
+		return deployment;
+	}
+
+	void setFinalStatus(Status finalStatus) {
+		this.finalStatus = finalStatus;
+	}
+
+	List<TestDeployment> getUploaded() {
+		return this.uploaded;
+	}
+
+	/**
+	 * Returns the number of uploads, including the failed ones.
+	 * @return the number of uploads
+	 */
+	int getAttempts() {
+		return this.attempts.get();
+	}
+
+}
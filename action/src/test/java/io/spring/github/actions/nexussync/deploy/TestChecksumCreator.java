@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.spring.github.actions.nexussync.checksum.ChecksumCollector;
+import io.spring.github.actions.nexussync.checksum.ChecksumCreator;
+import io.spring.github.actions.nexussync.checksum.Checksums;
+import io.spring.github.actions.nexussync.file.FileSet;
+
+/**
+ * {@link ChecksumCreator} for tests. Doesn't create any checksums, but records how it
+ * has been called.
+ *
+ * @author Moritz Halbritter
+ */
+class TestChecksumCreator implements ChecksumCreator {
+
+	private final List<String> calls = new CopyOnWriteArrayList<>();
+
+	@Override
+	public FileSet createChecksums(FileSet files) {
+		this.calls.add("createChecksums");
+		return FileSet.empty();
+	}
+
+	@Override
+	public Checksums calculateChecksums(FileSet files) {
+		this.calls.add("calculateChecksums");
+		return Checksums.empty();
+	}
+
+	@Override
+	public ChecksumCollector createCollector(FileSet files) {
+		this.calls.add("createCollector");
+		return ChecksumCollector.none();
+	}
+
+	List<String> getCalls() {
+		return this.calls;
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment;
+import io.spring.github.actions.nexussync.sonatype.StatusPrediction;
+import io.spring.github.actions.nexussync.sonatype.UploadStatistics;
+
+/**
+ * {@link Deployment} for tests. Reaches its final status as soon as it's awaited.
+ *
+ * @author Moritz Halbritter
+ */
+class TestDeployment implements Deployment {
+
+	private final String id;
+
+	private final String content;
+
+	private final boolean streamed;
+
+	private final Status finalStatus;
+
+	private volatile Status status = Status.PENDING;
+
+	private volatile boolean awaited;
+
+	private volatile boolean dropped;
+
+	TestDeployment(String id, String content, boolean streamed, Status finalStatus) {
+		this.id = id;
+		this.content = content;
+		this.streamed = streamed;
+		this.finalStatus = finalStatus;
+	}
+
+	@Override
+	public String getId() {
+		return this.id;
+	}
+
+	@Override
+	public UploadStatistics getUploadStatistics() {
+		return new UploadStatistics(this.content.length(), Duration.ZERO);
+	}
+
+	@Override
+	public Status getStatus() {
+		return this.status;
+	}
+
+	@Override
+	public String getErrors() {
+		return (this.status == Status.FAILED) ? "Validation failed" : null;
+	}
+
+	@Override
+	public void awaitFinalStatus(StatusPrediction prediction) {
+		this.status = this.finalStatus;
+		this.awaited = true;
+	}
+
+	@Override
+	public Map<Status, Duration> getStatusDurations() {
+		return Map.of();
+	}
+
+	@Override
+	public void drop() {
+		this.dropped = true;
+	}
+
+	/**
+	 * Returns the content of the bundle which created this deployment.
+	 * @return the content of the bundle
+	 */
+	String getContent() {
+		return this.content;
+	}
+
+	boolean isStreamed() {
+		return this.streamed;
+	}
+
+	boolean isAwaited() {
+		return this.awaited;
+	}
+
+	boolean isDropped() {
+		return this.dropped;
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.deploy;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import io.spring.github.actions.nexussync.sonatype.PublishingType;
+
+/**
+ * {@link DeploymentCheckpoints} for tests, which are kept in memory. The content hash is
+ * the sorted list of the relative paths of the files.
+ *
+ * @author Moritz Halbritter
+ */
+class TestDeploymentCheckpoints implements DeploymentCheckpoints {
+
+	private final Map<String, String> checkpoints = new ConcurrentHashMap<>();
+
+	@Override
+	public String getContentHash(Path root, FileSet files) {
+		return StreamSupport.stream(files.spliterator(), false)
+			.map((file) -> root.relativize(file).toString())
+			.sorted()
+			.collect(Collectors.joining(","));
+	}
+
+	@Override
+	public String find(String contentHash, PublishingType publishingType) {
+		return this.checkpoints.get(key(contentHash, publishingType));
+	}
+
+	@Override
+	public void save(String contentHash, PublishingType publishingType, String deploymentId) {
+		this.checkpoints.put(key(contentHash, publishingType), deploymentId);
+	}
+
+	@Override
+	public void remove(String deploymentId) {
+		this.checkpoints.values().removeIf(deploymentId::equals);
+	}
+
+	private String key(String contentHash, PublishingType publishingType) {
+		return publishingType + ":" + contentHash;
+	}
+
+	/**
+	 * Returns the deployment ids by content hash.
+	 * @param publishingType the publishing type
+	 * @return the deployment ids by content hash
+	 */
+	Map<String, String> getCheckpoints(PublishingType publishingType) {
+		String prefix = publishingType + ":";
+		return this.checkpoints.entrySet()
+			.stream()
+			.filter((entry) -> entry.getKey().startsWith(prefix))
+			.collect(Collectors.toMap((entry) -> entry.getKey().substring(prefix.length()), Map.Entry::getValue));
+	}
+
+}
@@ -17,13 +17,21 @@
 package io.spring.github.actions.nexussync.file;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link FileScannerImpl}.
@@ -41,6 +49,102 @@ class FileScannerImplTests {
 				tempDir.resolve("a/a2/aa1.txt"), tempDir.resolve("b/b1.txt"));
 	}
 
+	@Test
+	void shouldCaptureSizeAndLastModifiedTime(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("file.txt");
+		Files.writeString(file, "hello");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+		FileSet files = new FileScannerImpl().scan(tempDir);
+		Files.delete(file);
+		assertThat(files.getSize(file)).isEqualTo(5);
+		assertThat(files.getLastModified(file)).isEqualTo(1_000_000);
+	}
+
+	@Test
+	void shouldFindFilesInParallel(@TempDir Path tempDir) throws IOException {
+		List<Path> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 10; j++) {
+				Path file = tempDir.resolve("d" + i + "/e" + j + "/file.txt");
+				createFile(file);
+				expected.add(file);
+			}
+		}
+		FileScannerImpl fileScanner = new FileScannerImpl(4, ScanFilter.all());
+		FileSet files = fileScanner.scan(tempDir);
+		assertThat(files).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	void shouldNotEnterFilteredDirectories(@TempDir Path tempDir) throws IOException {
+		createTestFiles(tempDir);
+		List<Path> visited = Collections.synchronizedList(new ArrayList<>());
+		FileScannerImpl fileScanner = new FileScannerImpl(2, new ScanFilter() {
+
+			@Override
+			public boolean shouldEnter(Path directory) {
+				visited.add(directory);
+				return !directory.toString().equals("a");
+			}
+
+			@Override
+			public boolean shouldInclude(Path file) {
+				return true;
+			}
+
+		});
+		FileSet files = fileScanner.scan(tempDir);
+		assertThat(files).containsExactlyInAnyOrder(tempDir.resolve("b/b1.txt"));
+		assertThat(visited).containsExactlyInAnyOrder(Path.of("a"), Path.of("b"));
+	}
+
+	@Test
+	void shouldApplyGlobPatterns(@TempDir Path tempDir) throws IOException {
+		createTestFiles(tempDir);
+		createFile(tempDir.resolve("b/maven-metadata.xml"));
+		FileScannerImpl fileScanner = new FileScannerImpl(2,
+				GlobScanFilter.of(List.of("**/*.txt", "**/*.xml"), List.of("a/a1/**", "**/maven-metadata.xml")));
+		FileSet files = fileScanner.scan(tempDir);
+		assertThat(files).containsExactlyInAnyOrder(tempDir.resolve("a/a2/aa1.txt"), tempDir.resolve("b/b1.txt"));
+	}
+
+	@Test
+	void shouldStreamFilesPerDirectory(@TempDir Path tempDir) throws IOException {
+		createTestFiles(tempDir);
+		FileScannerImpl fileScanner = new FileScannerImpl();
+		List<List<Path>> directories = new ArrayList<>();
+		try (Stream<FileSet> stream = fileScanner.stream(tempDir)) {
+			stream.forEach((files) -> {
+				List<Path> paths = new ArrayList<>();
+				files.forEach(paths::add);
+				directories.add(paths);
+			});
+		}
+		assertThat(directories).containsExactlyInAnyOrder(
+				List.of(tempDir.resolve("a/a1/aa1.txt"), tempDir.resolve("a/a1/aa2.txt")),
+				List.of(tempDir.resolve("a/a2/aa1.txt")), List.of(tempDir.resolve("b/b1.txt")));
+	}
+
+	@Test
+	void shouldStopScanningWhenStreamIsClosed(@TempDir Path tempDir) throws IOException {
+		for (int i = 0; i < 50; i++) {
+			createFile(tempDir.resolve("d" + i + "/file.txt"));
+		}
+		FileScannerImpl fileScanner = new FileScannerImpl(2, ScanFilter.all(), 1);
+		try (Stream<FileSet> stream = fileScanner.stream(tempDir)) {
+			Iterator<FileSet> iterator = stream.iterator();
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().size()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void shouldFailIfRootDoesNotExist(@TempDir Path tempDir) {
+		FileScannerImpl fileScanner = new FileScannerImpl();
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> fileScanner.scan(tempDir.resolve("missing")));
+	}
+
 	private void createTestFiles(Path tempDir) throws IOException {
 		createFile(tempDir.resolve("a/a1/aa1.txt"));
 		createFile(tempDir.resolve("a/a1/aa2.txt"));
@@ -16,12 +16,20 @@
 
 package io.spring.github.actions.nexussync.file;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * Tests for {@link FileSet}.
@@ -38,7 +46,79 @@ class FileSetTests {
 		FileSet files1 = FileSet.of(List.of(file1, file2));
 		FileSet files2 = FileSet.of(List.of(file2, file3));
 		FileSet plussed = files1.plus(files2);
-		assertThat(plussed).containsExactlyInAnyOrder(file1, file2, file3);
+		assertThat(plussed).containsExactly(file1, file2, file3);
+	}
+
+	@Test
+	void shouldSortFilesByDirectoryAndName() {
+		Path a = Path.of("a").toAbsolutePath();
+		Path b = Path.of("b").toAbsolutePath();
+		FileSet files = FileSet.of(List.of(b.resolve("2"), a.resolve("2"), b.resolve("1"), a.resolve("1")));
+		assertThat(files).containsExactly(a.resolve("1"), a.resolve("2"), b.resolve("1"), b.resolve("2"));
+	}
+
+	@Test
+	void shouldSortManyFiles() {
+		List<Path> expected = new ArrayList<>();
+		for (int directory = 0; directory < 20; directory++) {
+			for (int name = 0; name < 50; name++) {
+				expected.add(Path.of("dir-" + directory, "file-" + name).toAbsolutePath());
+			}
+		}
+		expected.sort(Comparator.comparing(Path::getParent).thenComparing(Path::getFileName));
+		List<Path> shuffled = new ArrayList<>(expected);
+		shuffled.addAll(expected.subList(0, 100));
+		Collections.shuffle(shuffled, new Random(42));
+		assertThat(FileSet.of(shuffled)).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void shouldRemoveDuplicates() {
+		Path file = Path.of("file").toAbsolutePath();
+		FileSet files = FileSet.of(List.of(file, Path.of("file"), file));
+		assertThat(files).containsExactly(file);
+		assertThat(files.size()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldKeepMetadata() {
+		Path file1 = Path.of("file1").toAbsolutePath();
+		Path file2 = Path.of("dir", "file2").toAbsolutePath();
+		FileSet files = FileSet.builder().add(file1, 10, 100).add(file2, 20, 200).build();
+		assertThat(files.getSize(file1)).isEqualTo(10);
+		assertThat(files.getLastModified(file1)).isEqualTo(100);
+		assertThat(files.getSize(file2)).isEqualTo(20);
+		assertThat(files.getLastModified(file2)).isEqualTo(200);
+	}
+
+	@Test
+	void shouldKeepMetadataWhenPlussing() {
+		Path file1 = Path.of("file1").toAbsolutePath();
+		Path file2 = Path.of("file2").toAbsolutePath();
+		FileSet files1 = FileSet.builder().add(file1, 10, 100).add(file2).build();
+		FileSet files2 = FileSet.builder().add(file2, 20, 200).build();
+		FileSet plussed = files1.plus(files2);
+		assertThat(plussed.getSize(file1)).isEqualTo(10);
+		assertThat(plussed.getSize(file2)).isEqualTo(20);
+		assertThat(plussed.getLastModified(file2)).isEqualTo(200);
+	}
+
+	@Test
+	void shouldReadMetadataIfUnknown(@TempDir Path tempDir) throws IOException {
+		Path file = Files.writeString(tempDir.resolve("file"), "hello");
+		FileSet files = FileSet.of(List.of(file));
+		assertThat(files.getSize(file)).isEqualTo(5);
+		assertThat(files.getLastModified(file)).isEqualTo(Files.getLastModifiedTime(file).toMillis());
+	}
+
+	@Test
+	void shouldContainFiles() {
+		Path file = Path.of("file").toAbsolutePath();
+		FileSet files = FileSet.of(List.of(file));
+		assertThat(files.contains(file)).isTrue();
+		assertThat(files.contains(Path.of("other"))).isFalse();
+		assertThatIllegalArgumentException().isThrownBy(() -> files.getSize(Path.of("other")))
+			.withMessageContaining("is not contained");
 	}
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.file;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GlobScanFilter}.
+ *
+ * @author Moritz Halbritter
+ */
+class GlobScanFilterTests {
+
+	@Test
+	void shouldIncludeEverythingWithoutPatterns() {
+		ScanFilter filter = GlobScanFilter.of(List.of(), List.of());
+		assertThat(filter.shouldEnter(Path.of("a"))).isTrue();
+		assertThat(filter.shouldInclude(Path.of("a/b.jar"))).isTrue();
+	}
+
+	@Test
+	void shouldOnlyIncludeMatchingFiles() {
+		ScanFilter filter = GlobScanFilter.of(List.of("**/*.jar"), List.of());
+		assertThat(filter.shouldInclude(Path.of("a/b.jar"))).isTrue();
+		assertThat(filter.shouldInclude(Path.of("a/b.pom"))).isFalse();
+		assertThat(filter.shouldEnter(Path.of("a"))).isTrue();
+	}
+
+	@Test
+	void shouldExcludeMatchingFiles() {
+		ScanFilter filter = GlobScanFilter.of(List.of(), List.of("**/maven-metadata.xml*"));
+		assertThat(filter.shouldInclude(Path.of("a/maven-metadata.xml"))).isFalse();
+		assertThat(filter.shouldInclude(Path.of("a/maven-metadata.xml.sha1"))).isFalse();
+		assertThat(filter.shouldInclude(Path.of("a/b.pom"))).isTrue();
+	}
+
+	@Test
+	void shouldNotEnterExcludedDirectories() {
+		ScanFilter filter = GlobScanFilter.of(List.of(), List.of("build-scans/**", "**/tmp"));
+		assertThat(filter.shouldEnter(Path.of("build-scans"))).isFalse();
+		assertThat(filter.shouldEnter(Path.of("a/tmp"))).isFalse();
+		assertThat(filter.shouldEnter(Path.of("a"))).isTrue();
+		assertThat(filter.shouldInclude(Path.of("build-scans/scan.json"))).isFalse();
+	}
+
+}
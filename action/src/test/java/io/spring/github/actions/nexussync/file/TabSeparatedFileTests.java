@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TabSeparatedFile}.
+ *
+ * @author Moritz Halbritter
+ */
+class TabSeparatedFileTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldWriteAndReadLines() {
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), this.tempDir.resolve("nested/file.tsv"), "test");
+		assertThat(file.write(List.of("a", "b"), (value) -> List.of(value, 1))).isTrue();
+		assertThat(file.read(2, (columns) -> columns[0] + columns[1])).containsExactly("a1", "b1");
+	}
+
+	@Test
+	void shouldWriteHeader() throws IOException {
+		Path path = this.tempDir.resolve("file.tsv");
+		new TabSeparatedFile(Logger.noop(), path, "test").write(List.of("a"), List::of);
+		assertThat(Files.readAllLines(path)).containsExactly("# nexus-sync-action test v1", "a");
+	}
+
+	@Test
+	void shouldKeepTabsInLastColumn() throws IOException {
+		Path path = Files.writeString(this.tempDir.resolve("file.tsv"), "a\tb\tc\n");
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), path, "test");
+		assertThat(file.read(2, (columns) -> columns[1])).containsExactly("b\tc");
+	}
+
+	@Test
+	void shouldSkipCommentsAndInvalidLines() throws IOException {
+		Path path = Files.writeString(this.tempDir.resolve("file.tsv"), "# comment\n\n1\t2\nx\t3\n4\n");
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), path, "test");
+		assertThat(file.read(2, (columns) -> Integer.parseInt(columns[0]))).containsExactly(1);
+	}
+
+	@Test
+	void shouldReadNothingIfFileDoesNotExist() {
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), this.tempDir.resolve("file.tsv"), "test");
+		assertThat(file.read(1, (columns) -> columns[0])).isEmpty();
+	}
+
+	@Test
+	void shouldReadNothingIfFileCantBeRead() throws IOException {
+		Path path = Files.write(this.tempDir.resolve("file.tsv"), new byte[] { 'a', '\n', (byte) 0xC3, (byte) 0x28 });
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), path, "test");
+		assertThat(file.read(1, (columns) -> columns[0])).isEmpty();
+	}
+
+	@Test
+	void shouldNotFailIfFileCantBeWritten() throws IOException {
+		Path notADirectory = Files.writeString(this.tempDir.resolve("not-a-directory"), "content");
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), notADirectory.resolve("file.tsv"), "test");
+		assertThat(file.write(List.of("a"), List::of)).isFalse();
+	}
+
+	@Test
+	void shouldNotLeaveTemporaryFileBehind() throws IOException {
+		Path path = Files.createDirectories(this.tempDir.resolve("file.tsv"));
+		Files.writeString(path.resolve("content"), "content");
+		TabSeparatedFile file = new TabSeparatedFile(Logger.noop(), path, "test");
+		assertThat(file.write(List.of("a"), List::of)).isFalse();
+		try (Stream<Path> files = Files.list(this.tempDir)) {
+			assertThat(files.toList()).containsExactly(path);
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ComponentScannerImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class ComponentScannerImplTests {
+
+	@Test
+	void shouldCreateComponentForEveryScannedDirectory(@TempDir Path tempDir) {
+		FileSet a = FileSet.of(List.of(tempDir.resolve("com/example/a/1.0/a-1.0.jar"),
+				tempDir.resolve("com/example/a/1.0/a-1.0.pom")));
+		FileSet b = FileSet.of(List.of(tempDir.resolve("com/example/b/2.0/b-2.0.pom")));
+		FileSet metadata = FileSet.of(List.of(tempDir.resolve("com/example/b/maven-metadata.xml")));
+		ComponentScannerImpl scanner = new ComponentScannerImpl((root) -> Stream.of(a, b, metadata));
+		List<Component> components = scanner.scan(tempDir);
+		assertThat(components.stream().map(Component::getCoordinates).map(String::valueOf).toList())
+			.containsExactly("com.example:a:1.0", "com.example:b:2.0", "null");
+		assertThat(components.get(0).getFiles()).isSameAs(a);
+	}
+
+}
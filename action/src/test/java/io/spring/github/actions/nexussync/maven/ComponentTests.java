@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.maven;
+
+import java.nio.file.Path;
+
+import io.spring.github.actions.nexussync.file.FileSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Component}.
+ *
+ * @author Moritz Halbritter
+ */
+class ComponentTests {
+
+	@Test
+	void shouldParseCoordinates(@TempDir Path tempDir) {
+		Component component = createComponent(tempDir, "com/example/lib/1.0.0", "lib-1.0.0.jar");
+		assertThat(component.getCoordinates()).isEqualTo(new Coordinates("com.example", "lib", "1.0.0"));
+		assertThat(component.getCoordinates()).hasToString("com.example:lib:1.0.0");
+		assertThat(component).hasToString("com.example:lib:1.0.0");
+		assertThat(component.getDirectory()).isEqualTo(tempDir.resolve("com/example/lib/1.0.0"));
+	}
+
+	@Test
+	void shouldClassifyArtifacts(@TempDir Path tempDir) {
+		Path directory = tempDir.resolve("com/example/lib/1.0.0");
+		Component component = createComponent(tempDir, "com/example/lib/1.0.0", "lib-1.0.0.jar", "lib-1.0.0.jar.asc",
+				"lib-1.0.0.jar.md5", "lib-1.0.0.jar.asc.sha1", "lib-1.0.0-sources.jar", "lib-1.0.0.pom",
+				"lib-1.0.0.module", "lib-1.0.0-dist.tar.gz", "maven-metadata.xml");
+		assertThat(component.getArtifacts()).containsExactlyInAnyOrder(
+				new Artifact(directory.resolve("lib-1.0.0.jar"), null, "jar", Artifact.Type.FILE),
+				new Artifact(directory.resolve("lib-1.0.0.jar.asc"), null, "jar", Artifact.Type.SIGNATURE),
+				new Artifact(directory.resolve("lib-1.0.0.jar.md5"), null, "jar", Artifact.Type.CHECKSUM),
+				new Artifact(directory.resolve("lib-1.0.0.jar.asc.sha1"), null, "jar", Artifact.Type.CHECKSUM),
+				new Artifact(directory.resolve("lib-1.0.0-sources.jar"), "sources", "jar", Artifact.Type.FILE),
+				new Artifact(directory.resolve("lib-1.0.0.pom"), null, "pom", Artifact.Type.FILE),
+				new Artifact(directory.resolve("lib-1.0.0.module"), null, "module", Artifact.Type.FILE),
+				new Artifact(directory.resolve("lib-1.0.0-dist.tar.gz"), "dist", "tar.gz", Artifact.Type.FILE));
+		assertThat(component.getOtherFiles()).containsExactly(directory.resolve("maven-metadata.xml"));
+		assertThat(component.getArtifacts(Artifact.Type.SIGNATURE)).hasSize(1);
+		assertThat(component.hasPom()).isTrue();
+		assertThat(component.getArtifacts().stream().filter(Artifact::isMain).toList())
+			.containsExactly(new Artifact(directory.resolve("lib-1.0.0.jar"), null, "jar", Artifact.Type.FILE));
+	}
+
+	@Test
+	void shouldTreatFilesOfOtherArtifactsAsOtherFiles(@TempDir Path tempDir) {
+		Path directory = tempDir.resolve("com/example/lib/1.0");
+		Component component = createComponent(tempDir, "com/example/lib/1.0", "lib-1.0.jar", "other-1.0.jar",
+				"lib-1.0-.jar", "lib-1.0");
+		assertThat(component.getArtifacts()).hasSize(1);
+		assertThat(component.getOtherFiles()).containsExactlyInAnyOrder(directory.resolve("other-1.0.jar"),
+				directory.resolve("lib-1.0-.jar"), directory.resolve("lib-1.0"));
+		assertThat(component.hasPom()).isFalse();
+	}
+
+	@Test
+	void shouldNotHaveCoordinatesIfDirectoryIsTooShallow(@TempDir Path tempDir) {
+		Component component = createComponent(tempDir, "com/example", "example-1.0.jar");
+		assertThat(component.getCoordinates()).isNull();
+		assertThat(component.getArtifacts()).isEmpty();
+		assertThat(component.getOtherFiles()).containsExactly(tempDir.resolve("com/example/example-1.0.jar"));
+		assertThat(component).hasToString(tempDir.resolve("com/example").toString());
+	}
+
+	@Test
+	void shouldNotHaveCoordinatesIfDirectoryContainsOnlyMetadata(@TempDir Path tempDir) {
+		Component component = createComponent(tempDir, "com/example/lib", "maven-metadata.xml",
+				"maven-metadata.xml.sha1");
+		assertThat(component.getCoordinates()).isNull();
+		assertThat(component.getArtifacts()).isEmpty();
+		assertThat(component.getOtherFiles()).hasSize(2);
+	}
+
+	private Component createComponent(Path root, String directory, String... names) {
+		FileSet.Builder files = FileSet.builder();
+		for (String name : names) {
+			files.add(root.resolve(directory).resolve(name));
+		}
+		return Component.of(root, files.build());
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AllocationCounter}.
+ *
+ * @author Moritz Halbritter
+ */
+class AllocationCounterTests {
+
+	private static final int ALLOCATION = 16 * 1024 * 1024;
+
+	private static volatile byte[] sink;
+
+	@Test
+	void shouldCountAllocationsOfCurrentThread() {
+		AllocationCounter counter = AllocationCounter.create();
+		long before = counter.getAllocatedBytes();
+		sink = new byte[ALLOCATION];
+		assertThat(counter.getAllocatedBytes() - before).isGreaterThanOrEqualTo(ALLOCATION);
+	}
+
+	@Test
+	void shouldKeepAllocationsOfTerminatedThreads() throws InterruptedException {
+		AllocationCounter counter = AllocationCounter.create();
+		CountDownLatch allocated = new CountDownLatch(1);
+		CountDownLatch terminate = new CountDownLatch(1);
+		long before = counter.getAllocatedBytes();
+		Thread thread = new Thread(() -> {
+			sink = new byte[ALLOCATION];
+			allocated.countDown();
+			awaitUninterruptibly(terminate);
+		});
+		thread.start();
+		allocated.await();
+		assertThat(counter.getAllocatedBytes() - before).isGreaterThanOrEqualTo(ALLOCATION);
+		terminate.countDown();
+		thread.join();
+		assertThat(counter.getAllocatedBytes() - before).isGreaterThanOrEqualTo(ALLOCATION);
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
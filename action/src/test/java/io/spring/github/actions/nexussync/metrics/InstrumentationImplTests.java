@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.github.actions.nexussync.metrics.Instrumentation.Measurement;
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link InstrumentationImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class InstrumentationImplTests {
+
+	private final MutableClock clock = new MutableClock();
+
+	@Test
+	void shouldMeasurePhase() {
+		InstrumentationImpl instrumentation = createInstrumentation(null, null);
+		Measurement measurement = instrumentation.start(Phase.SCAN);
+		this.clock.advance(Duration.ofSeconds(2));
+		measurement.stop(10, 4 * 1024 * 1024);
+		List<PhaseMetrics> metrics = instrumentation.getMetrics();
+		assertThat(metrics).hasSize(1);
+		PhaseMetrics scan = metrics.get(0);
+		assertThat(scan.phase()).isEqualTo(Phase.SCAN);
+		assertThat(scan.wallTime()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(scan.filesPerSecond()).isEqualTo(5.0);
+		assertThat(scan.megabytesPerSecond()).isEqualTo(2.0);
+		assertThat(scan.allocatedBytes()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	void shouldAggregateOverlappingMeasurementsOfSamePhase() {
+		InstrumentationImpl instrumentation = createInstrumentation(null, null);
+		Measurement first = instrumentation.start(Phase.UPLOAD);
+		this.clock.advance(Duration.ofSeconds(1));
+		Measurement second = instrumentation.start(Phase.UPLOAD);
+		this.clock.advance(Duration.ofSeconds(1));
+		first.stop(1, 100);
+		this.clock.advance(Duration.ofSeconds(1));
+		second.stop(2, 200);
+		PhaseMetrics upload = instrumentation.getMetrics().get(0);
+		assertThat(upload.wallTime()).isEqualTo(Duration.ofSeconds(3));
+		assertThat(upload.files()).isEqualTo(3);
+		assertThat(upload.bytes()).isEqualTo(300);
+	}
+
+	@Test
+	void shouldOrderMetricsByPhase() {
+		InstrumentationImpl instrumentation = createInstrumentation(null, null);
+		instrumentation.start(Phase.AWAIT).stop(0, 0);
+		instrumentation.start(Phase.SCAN).stop(0, 0);
+		assertThat(instrumentation.getMetrics().stream().map(PhaseMetrics::phase).toList()).containsExactly(Phase.SCAN,
+				Phase.AWAIT);
+	}
+
+	@Test
+	void shouldWriteReportAndStepSummary(@TempDir Path tempDir) throws IOException {
+		Path reportFile = tempDir.resolve("reports/metrics.json");
+		Path stepSummaryFile = tempDir.resolve("summary.md");
+		Files.writeString(stepSummaryFile, "Existing\n");
+		InstrumentationImpl instrumentation = createInstrumentation(reportFile, stepSummaryFile);
+		Measurement measurement = instrumentation.start(Phase.CHECKSUM);
+		this.clock.advance(Duration.ofSeconds(1));
+		measurement.stop(3, 1024);
+		instrumentation.report();
+		assertThat(reportFile).content().contains("\"checksum\"", "\"wallTimeMillis\" : 1000", "\"files\" : 3");
+		assertThat(stepSummaryFile).content()
+			.startsWith("Existing\n")
+			.contains("### Deployment metrics", "| CHECKSUM | 1.00 | 3 | 0.00 | 3.00 | 0.00 |");
+	}
+
+	@Test
+	void shouldWriteStepSummaryIfReportCantBeWritten(@TempDir Path tempDir) throws IOException {
+		Path reportFile = Files.createDirectories(tempDir.resolve("metrics.json"));
+		Path stepSummaryFile = tempDir.resolve("summary.md");
+		InstrumentationImpl instrumentation = createInstrumentation(reportFile, stepSummaryFile);
+		instrumentation.start(Phase.SCAN).stop(1, 1);
+		instrumentation.report();
+		assertThat(stepSummaryFile).content().contains("| SCAN |");
+	}
+
+	@Test
+	void shouldNotReportWithoutMeasurements(@TempDir Path tempDir) {
+		Path reportFile = tempDir.resolve("metrics.json");
+		createInstrumentation(reportFile, null).report();
+		assertThat(reportFile).doesNotExist();
+	}
+
+	private InstrumentationImpl createInstrumentation(Path reportFile, Path stepSummaryFile) {
+		return new InstrumentationImpl(Logger.noop(), this.clock, AllocationCounter.create(), new ObjectMapper(),
+				reportFile, stepSummaryFile);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+import java.util.Random;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AdaptivePollingStrategy}.
+ *
+ * @author Moritz Halbritter
+ */
+class AdaptivePollingStrategyTests {
+
+	private final AdaptivePollingStrategy strategy = new AdaptivePollingStrategy(Duration.ofSeconds(2),
+			Duration.ofSeconds(4), Duration.ofSeconds(30), new Random(42));
+
+	@Test
+	void shouldPollFastWhilePending() {
+		assertThat(this.strategy.getDelay(Status.PENDING, 1, Duration.ZERO)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(this.strategy.getDelay(Status.PENDING, 10, Duration.ZERO)).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void shouldPollFastIfDeploymentHasNotBeenFound() {
+		assertThat(this.strategy.getDelay(null, 5, Duration.ZERO)).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void shouldBackOffExponentiallyWithJitter() {
+		assertThat(this.strategy.getDelay(Status.VALIDATING, 1, Duration.ZERO)).isBetween(Duration.ofSeconds(2),
+				Duration.ofSeconds(4));
+		assertThat(this.strategy.getDelay(Status.VALIDATING, 2, Duration.ZERO)).isBetween(Duration.ofSeconds(4),
+				Duration.ofSeconds(8));
+		assertThat(this.strategy.getDelay(Status.PUBLISHING, 3, Duration.ZERO)).isBetween(Duration.ofSeconds(8),
+				Duration.ofSeconds(16));
+	}
+
+	@Test
+	void shouldCapBackoff() {
+		for (int attempt = 4; attempt < 100; attempt++) {
+			assertThat(this.strategy.getDelay(Status.VALIDATING, attempt, Duration.ZERO)).isBetween(Duration.ofSeconds(15),
+					Duration.ofSeconds(30));
+		}
+	}
+
+	@Test
+	void shouldCapPendingDelay() {
+		AdaptivePollingStrategy strategy = new AdaptivePollingStrategy(Duration.ofSeconds(2), Duration.ofSeconds(4),
+				Duration.ofMillis(250), new Random(42));
+		assertThat(strategy.getDelay(Status.PENDING, 1, Duration.ZERO)).isEqualTo(Duration.ofMillis(250));
+		assertThat(strategy.getDelay(Status.VALIDATING, 1, Duration.ZERO)).isBetween(Duration.ofMillis(125),
+				Duration.ofMillis(250));
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.test.web.client.ExpectedCount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link AsyncCentralPortalApiImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class AsyncCentralPortalApiImplTests {
+
+	private final MockCentralPortal portal = new MockCentralPortal();
+
+	@AfterEach
+	void tearDown() {
+		this.portal.close();
+	}
+
+	@Test
+	void shouldPollUntilFinalStatus() {
+		this.portal.expectStatus("PENDING");
+		this.portal.expectStatus("PENDING");
+		this.portal.expectStatus("VALIDATING");
+		this.portal.expectStatus("VALIDATING");
+		this.portal.expectStatus("PUBLISHED");
+		AsyncDeployment deployment = findDeployment(this.portal.createApi(Duration.ofSeconds(5)));
+		assertThat(deployment.awaitFinalStatus().join()).isEqualTo(Status.PUBLISHED);
+		assertThat(deployment.getStatus()).isEqualTo(Status.PUBLISHED);
+		assertThat(deployment.getStatusDurations()).containsOnlyKeys(Status.PENDING, Status.VALIDATING);
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldKeepPollingWhileUploadedDeploymentIsNotFound(@TempDir Path tempDir) throws IOException {
+		this.portal.expectUpload();
+		this.portal.expectStatusNotFound();
+		this.portal.expectStatusNotFound();
+		this.portal.expectStatus("VALIDATING");
+		this.portal.expectStatus("VALIDATED");
+		AsyncCentralPortalApiImpl api = this.portal.createApi(Duration.ofSeconds(5));
+		AsyncDeployment deployment = api.upload(createBundle(tempDir), PublishingType.USER_MANAGED).join();
+		assertThat(deployment.getId()).isEqualTo(MockCentralPortal.DEPLOYMENT_ID);
+		assertThat(deployment.awaitFinalStatus().join()).isEqualTo(Status.VALIDATED);
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldRetryStatusRequestsThroughFaults() {
+		this.portal.expectStatusFault("503");
+		this.portal.expectStatusFault("reset");
+		this.portal.expectStatus("PENDING");
+		this.portal.expectStatusFault("reset");
+		this.portal.expectStatusFault("503");
+		this.portal.expectStatus("PUBLISHED");
+		AsyncDeployment deployment = findDeployment(this.portal.createApi(Duration.ofSeconds(5)));
+		assertThat(deployment.awaitFinalStatus().join()).isEqualTo(Status.PUBLISHED);
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldReturnNullIfDeploymentDoesNotExist() {
+		this.portal.expectStatusNotFound();
+		AsyncCentralPortalApiImpl api = this.portal.createApi(Duration.ofSeconds(5));
+		assertThat(api.findDeployment(MockCentralPortal.DEPLOYMENT_ID, PublishingType.AUTOMATIC).join()).isNull();
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldFailIfTimeoutIsReached() {
+		this.portal.expectStatus(ExpectedCount.manyTimes(), "PENDING");
+		AsyncDeployment deployment = findDeployment(this.portal.createApi(Duration.ofMillis(100)));
+		CompletableFuture<Status> status = deployment.awaitFinalStatus();
+		assertThatExceptionOfType(CompletionException.class).isThrownBy(status::join)
+			.withCauseInstanceOf(IllegalStateException.class)
+			.withMessageContaining("Timeout of 'PT0.1S' reached");
+	}
+
+	@Test
+	void shouldStopPollingWhenCancelled() throws InterruptedException {
+		this.portal.expectStatus(ExpectedCount.manyTimes(), "PENDING");
+		AsyncDeployment deployment = findDeployment(this.portal.createApi(Duration.ofSeconds(5)));
+		CompletableFuture<Status> status = deployment.awaitFinalStatus();
+		Thread.sleep(50);
+		status.cancel(false);
+		int cancelledAfter = this.portal.getRequestThreads().size();
+		Thread.sleep(100);
+		assertThat(this.portal.getRequestThreads().size()).isLessThanOrEqualTo(cancelledAfter + 1);
+	}
+
+	@Test
+	void shouldDropDeployment() {
+		this.portal.expectStatus("FAILED");
+		this.portal.expectStatus("FAILED");
+		this.portal.expectDrop();
+		AsyncDeployment deployment = findDeployment(this.portal.createApi(Duration.ofSeconds(5)));
+		assertThat(deployment.awaitFinalStatus().join()).isEqualTo(Status.FAILED);
+		deployment.drop().join();
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldNotSendRequestsFromScheduler(@TempDir Path tempDir) throws IOException {
+		this.portal.expectUpload();
+		this.portal.expectStatus("PENDING");
+		this.portal.expectStatus("FAILED");
+		this.portal.expectDrop();
+		AsyncCentralPortalApiImpl api = this.portal.createApi(Duration.ofSeconds(5));
+		AsyncDeployment deployment = api.upload(createBundle(tempDir), PublishingType.AUTOMATIC).join();
+		deployment.awaitFinalStatus().join();
+		deployment.drop().join();
+		assertThat(this.portal.getRequestThreads()).hasSize(4)
+			.allSatisfy((thread) -> assertThat(thread).startsWith("io-"));
+	}
+
+	private AsyncDeployment findDeployment(AsyncCentralPortalApiImpl api) {
+		AsyncDeployment deployment = api.findDeployment(MockCentralPortal.DEPLOYMENT_ID, PublishingType.AUTOMATIC)
+			.join();
+		assertThat(deployment).isNotNull();
+		return deployment;
+	}
+
+	private Bundle createBundle(Path tempDir) throws IOException {
+		return Bundle.of(Files.writeString(tempDir.resolve("bundle.zip"), "bundle"));
+	}
+
+}
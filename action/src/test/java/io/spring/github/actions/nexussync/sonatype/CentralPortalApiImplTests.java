@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.spring.github.actions.nexussync.bundle.Bundle;
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.test.web.client.ExpectedCount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link CentralPortalApiImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class CentralPortalApiImplTests {
+
+	private final MockCentralPortal portal = new MockCentralPortal();
+
+	@AfterEach
+	void tearDown() {
+		this.portal.close();
+	}
+
+	@Test
+	void shouldUploadAndAwaitFinalStatus(@TempDir Path tempDir) throws IOException {
+		this.portal.expectUpload();
+		this.portal.expectStatusNotFound();
+		this.portal.expectStatus("PENDING");
+		this.portal.expectStatus("VALIDATING");
+		this.portal.expectStatus("VALIDATED");
+		CentralPortalApiImpl api = createApi(Duration.ofSeconds(5));
+		Bundle bundle = Bundle.of(Files.writeString(tempDir.resolve("bundle.zip"), "bundle"));
+		Deployment deployment = api.upload(bundle, PublishingType.USER_MANAGED);
+		assertThat(deployment.getId()).isEqualTo(MockCentralPortal.DEPLOYMENT_ID);
+		deployment.awaitFinalStatus();
+		assertThat(deployment.getStatus()).isEqualTo(Status.VALIDATED);
+		assertThat(deployment.getStatusDurations()).containsOnlyKeys(Status.PENDING, Status.VALIDATING);
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldReturnNullIfDeploymentDoesNotExist() {
+		this.portal.expectStatusNotFound();
+		CentralPortalApiImpl api = createApi(Duration.ofSeconds(5));
+		assertThat(api.findDeployment(MockCentralPortal.DEPLOYMENT_ID, PublishingType.AUTOMATIC)).isNull();
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldDropDeployment() {
+		this.portal.expectStatus("VALIDATED");
+		this.portal.expectStatus("VALIDATED");
+		this.portal.expectDrop();
+		Deployment deployment = findDeployment(createApi(Duration.ofSeconds(5)), PublishingType.USER_MANAGED);
+		deployment.awaitFinalStatus();
+		deployment.drop();
+		this.portal.verify();
+	}
+
+	@Test
+	void shouldThrowIfTimeoutIsReached() {
+		this.portal.expectStatus(ExpectedCount.manyTimes(), "PENDING");
+		Deployment deployment = findDeployment(createApi(Duration.ofMillis(100)), PublishingType.AUTOMATIC);
+		assertThatIllegalStateException().isThrownBy(deployment::awaitFinalStatus)
+			.withMessageContaining("Timeout of 'PT0.1S' reached");
+	}
+
+	@Test
+	void shouldStopPollingWhenInterrupted() throws InterruptedException {
+		this.portal.expectStatus(ExpectedCount.manyTimes(), "PENDING");
+		Deployment deployment = findDeployment(createApi(Duration.ofSeconds(5)), PublishingType.AUTOMATIC);
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			try {
+				deployment.awaitFinalStatus();
+			}
+			catch (RuntimeException ex) {
+				failure.set(ex);
+			}
+		});
+		thread.start();
+		Thread.sleep(50);
+		thread.interrupt();
+		thread.join();
+		assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+		int interruptedAfter = this.portal.getRequestThreads().size();
+		Thread.sleep(100);
+		assertThat(this.portal.getRequestThreads().size()).isLessThanOrEqualTo(interruptedAfter + 1);
+	}
+
+	private CentralPortalApiImpl createApi(Duration timeout) {
+		return new CentralPortalApiImpl(this.portal.createApi(timeout));
+	}
+
+	private Deployment findDeployment(CentralPortalApiImpl api, PublishingType publishingType) {
+		Deployment deployment = api.findDeployment(MockCentralPortal.DEPLOYMENT_ID, publishingType);
+		assertThat(deployment).isNotNull();
+		return deployment;
+	}
+
+}
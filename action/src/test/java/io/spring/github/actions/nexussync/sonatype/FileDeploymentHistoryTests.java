@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileDeploymentHistory}.
+ *
+ * @author Moritz Halbritter
+ */
+class FileDeploymentHistoryTests {
+
+	private static final long MEGABYTE = 1024 * 1024;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldPredictNothingIfHistoryIsEmpty() {
+		FileDeploymentHistory history = load();
+		assertThat(history.predict(MEGABYTE, 10).isEmpty()).isTrue();
+	}
+
+	@Test
+	void shouldPredictMedianOfSimilarDeployments() {
+		FileDeploymentHistory history = load();
+		history.record(MEGABYTE, 10, durations(5, 30));
+		history.record(2 * MEGABYTE, 12, durations(5, 40));
+		history.record(MEGABYTE, 11, durations(10, 50));
+		for (int i = 0; i < 10; i++) {
+			history.record(800 * MEGABYTE, 20000, durations(60, 900));
+		}
+		StatusPrediction prediction = history.predict(MEGABYTE, 10);
+		assertThat(prediction.getSamples()).isEqualTo(5);
+		assertThat(prediction.getDuration(Status.PENDING)).isEqualTo(Duration.ofSeconds(10));
+		assertThat(prediction.getDuration(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(50));
+		assertThat(prediction.getDuration(Status.PUBLISHING)).isNull();
+	}
+
+	@Test
+	void shouldPersistHistory() {
+		load().record(800 * MEGABYTE, 20000, durations(60, 900));
+		StatusPrediction prediction = load().predict(700 * MEGABYTE, 18000);
+		assertThat(prediction.getSamples()).isEqualTo(1);
+		assertThat(prediction.getDuration(Status.PENDING)).isEqualTo(Duration.ofSeconds(60));
+		assertThat(prediction.getDuration(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(900));
+	}
+
+	@Test
+	void shouldKeepOnlyRecentDeployments() {
+		FileDeploymentHistory history = load();
+		history.record(MEGABYTE, 10, durations(1, 1));
+		for (int i = 0; i < 100; i++) {
+			history.record(800 * MEGABYTE, 20000, durations(60, 900));
+		}
+		StatusPrediction prediction = load().predict(MEGABYTE, 10);
+		assertThat(prediction.getDuration(Status.PENDING)).isEqualTo(Duration.ofSeconds(60));
+	}
+
+	@Test
+	void shouldSkipInvalidLines() throws IOException {
+		Files.writeString(this.tempDir.resolve("history.tsv"),
+				"x\t20000\tPENDING=1000\n1024\t10\tUNKNOWN=1000\n1024\t10\tPENDING=x\n"
+						+ (800 * MEGABYTE) + "\t20000\tPENDING=60000\n");
+		StatusPrediction prediction = load().predict(800 * MEGABYTE, 20000);
+		assertThat(prediction.getSamples()).isEqualTo(1);
+		assertThat(prediction.getDuration(Status.PENDING)).isEqualTo(Duration.ofSeconds(60));
+	}
+
+	@Test
+	void shouldNotFailIfHistoryCantBeSaved() throws IOException {
+		Path file = Files.createDirectories(this.tempDir.resolve("history.tsv"));
+		FileDeploymentHistory history = FileDeploymentHistory.load(Logger.noop(), file.resolve("nested.tsv"));
+		Files.delete(file);
+		Files.writeString(file, "not a directory");
+		history.record(MEGABYTE, 10, durations(1, 1));
+		assertThat(history.predict(MEGABYTE, 10).getSamples()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldPredictRemainingTime() {
+		StatusPrediction prediction = new StatusPrediction(Map.of(Status.PENDING, Duration.ofSeconds(10),
+				Status.VALIDATING, Duration.ofSeconds(60), Status.VALIDATED, Duration.ofSeconds(1), Status.PUBLISHING,
+				Duration.ofSeconds(120)), 1);
+		assertThat(prediction.getRemaining(null, Duration.ZERO, PublishingType.AUTOMATIC))
+			.isEqualTo(Duration.ofSeconds(191));
+		assertThat(prediction.getRemaining(Status.VALIDATING, Duration.ofSeconds(20), PublishingType.AUTOMATIC))
+			.isEqualTo(Duration.ofSeconds(161));
+		assertThat(prediction.getRemaining(Status.PENDING, Duration.ZERO, PublishingType.USER_MANAGED))
+			.isEqualTo(Duration.ofSeconds(70));
+		assertThat(prediction.getRemaining(Status.PENDING, Duration.ofMinutes(5), PublishingType.USER_MANAGED))
+			.isEqualTo(Duration.ZERO);
+	}
+
+	private FileDeploymentHistory load() {
+		return FileDeploymentHistory.load(Logger.noop(), this.tempDir.resolve("history.tsv"));
+	}
+
+	private static Map<Status, Duration> durations(long pendingSeconds, long validatingSeconds) {
+		return Map.of(Status.PENDING, Duration.ofSeconds(pendingSeconds), Status.VALIDATING,
+				Duration.ofSeconds(validatingSeconds));
+	}
+
+}
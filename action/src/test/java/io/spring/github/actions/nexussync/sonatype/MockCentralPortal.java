@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.net.SocketException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.spring.github.actions.nexussync.system.Logger;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withNoContent;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withResourceNotFound;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Central Portal backed by a {@link MockRestServiceServer}, for tests. Records the
+ * threads which sent the requests.
+ *
+ * @author Moritz Halbritter
+ */
+class MockCentralPortal {
+
+	static final String DEPLOYMENT_ID = "deployment-1";
+
+	static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+	private static final String BASE_URI = "https://central.example.com";
+
+	private final RestClient.Builder restClientBuilder = RestClient.builder();
+
+	private final MockRestServiceServer server = MockRestServiceServer.bindTo(this.restClientBuilder).build();
+
+	private final ScheduledExecutorService scheduler = Executors
+		.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("scheduler-"));
+
+	private final ExecutorService ioExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("io-"));
+
+	private final List<String> requestThreads = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates an API which sends its requests to this portal. Must only be called once.
+	 * @param timeout the timeout for awaiting the final status
+	 * @return the API
+	 */
+	AsyncCentralPortalApiImpl createApi(Duration timeout) {
+		Retrier retrier = new Retrier(Logger.noop(), Clock.systemUTC(), Duration.ofMillis(1), Duration.ofMillis(10),
+				Duration.ofSeconds(5), new Random(42), this.scheduler);
+		return new AsyncCentralPortalApiImpl(Logger.noop(), URI.create(BASE_URI), "token-name", "token",
+				this.restClientBuilder, Clock.systemUTC(), timeout, PollingStrategy.fixed(POLL_INTERVAL), POLL_INTERVAL,
+				Duration.ofSeconds(10), DataSize.ofGigabytes(1), retrier, this.scheduler, this.ioExecutor);
+	}
+
+	void expectUpload() {
+		this.server.expect((request) -> assertThat(request.getURI().getPath()).isEqualTo("/api/v1/publisher/upload"))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(recording(withSuccess(DEPLOYMENT_ID, MediaType.TEXT_PLAIN)));
+	}
+
+	void expectStatus(String state) {
+		expectStatus(ExpectedCount.once(), state);
+	}
+
+	void expectStatus(ExpectedCount count, String state) {
+		String body = "{\"deploymentId\":\"%s\",\"deploymentState\":\"%s\"}".formatted(DEPLOYMENT_ID, state);
+		this.server.expect(count, requestTo(BASE_URI + "/api/v1/publisher/status?id=" + DEPLOYMENT_ID))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(recording(withSuccess(body, MediaType.APPLICATION_JSON)));
+	}
+
+	/**
+	 * Expects a status request which fails with the given fault. Like the faults of the
+	 * portal mock, a fault is either an HTTP status code, sent with a {@code Retry-After}
+	 * of zero seconds, or {@code reset} for a connection reset.
+	 * @param fault the fault
+	 */
+	void expectStatusFault(String fault) {
+		ResponseCreator response = ("reset".equals(fault))
+				? withException(new SocketException("Connection reset"))
+				: withStatus(HttpStatusCode.valueOf(Integer.parseInt(fault))).header(HttpHeaders.RETRY_AFTER, "0");
+		this.server.expect(requestTo(BASE_URI + "/api/v1/publisher/status?id=" + DEPLOYMENT_ID))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(recording(response));
+	}
+
+	void expectStatusNotFound() {
+		this.server.expect(requestTo(BASE_URI + "/api/v1/publisher/status?id=" + DEPLOYMENT_ID))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(recording(withResourceNotFound()));
+	}
+
+	void expectDrop() {
+		this.server.expect(requestTo(BASE_URI + "/api/v1/publisher/deployment/" + DEPLOYMENT_ID))
+			.andExpect(method(HttpMethod.DELETE))
+			.andRespond(recording(withNoContent()));
+	}
+
+	private ResponseCreator recording(ResponseCreator delegate) {
+		return (request) -> {
+			this.requestThreads.add(Thread.currentThread().getName());
+			return delegate.createResponse(request);
+		};
+	}
+
+	/**
+	 * Returns the names of the threads which sent the requests so far.
+	 * @return the thread names
+	 */
+	List<String> getRequestThreads() {
+		return List.copyOf(this.requestThreads);
+	}
+
+	void verify() {
+		this.server.verify();
+	}
+
+	void close() {
+		this.scheduler.shutdownNow();
+		this.ioExecutor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.bundle.StreamingBundle;
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link MultipartBody}.
+ *
+ * @author Moritz Halbritter
+ */
+class MultipartBodyTests {
+
+	private static final String BOUNDARY = "6RzYMcTAp4fxlbpk0-BXwhT1cl7A4PRR";
+
+	private static final DataSize MAX_BUNDLE_SIZE = DataSize.ofMegabytes(4);
+
+	@Test
+	void shouldWriteWellFormedMultipartBody() throws IOException {
+		byte[] bundle = "PK\r\n--not-a-boundary\r\nbundle content".getBytes(StandardCharsets.UTF_8);
+		MultipartBody body = createBody((outputStream) -> outputStream.write(bundle), bundle.length);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		body.writeTo(outputStream);
+		byte[] written = outputStream.toByteArray();
+		assertThat((long) written.length).isEqualTo(body.getContentLength());
+		Part part = parse(written);
+		assertThat(part.headers()).containsEntry("Content-Disposition",
+				"form-data; name=\"bundle\"; filename=\"bundle.zip\"");
+		assertThat(part.headers()).containsEntry("Content-Type", "application/octet-stream");
+		assertThat(part.content()).isEqualTo(bundle);
+		assertThat(body.getStatistics().bytes()).isEqualTo(bundle.length);
+	}
+
+	@Test
+	void shouldFailIfStreamedBundleExceedsMaximumSize() {
+		byte[] chunk = new byte[1024 * 1024];
+		MultipartBody body = createBody((outputStream) -> {
+			for (long written = 0; written <= MAX_BUNDLE_SIZE.toBytes(); written += chunk.length) {
+				outputStream.write(chunk);
+			}
+		}, UploadProgressOutputStream.UNKNOWN_SIZE);
+		assertThatIllegalStateException().isThrownBy(() -> body.writeTo(OutputStream.nullOutputStream()))
+			.withMessageContaining("Maximum bundle size is 4194304B");
+	}
+
+	@Test
+	void shouldAcceptStreamedBundleOfMaximumSize() throws IOException {
+		byte[] chunk = new byte[1024 * 1024];
+		MultipartBody body = createBody((outputStream) -> {
+			for (long written = 0; written < MAX_BUNDLE_SIZE.toBytes(); written += chunk.length) {
+				outputStream.write(chunk);
+			}
+		}, UploadProgressOutputStream.UNKNOWN_SIZE);
+		body.writeTo(OutputStream.nullOutputStream());
+		assertThat(body.getStatistics().bytes()).isEqualTo(MAX_BUNDLE_SIZE.toBytes());
+	}
+
+	private MultipartBody createBody(StreamingBundle bundle, long size) {
+		return new MultipartBody(bundle, size, MAX_BUNDLE_SIZE, BOUNDARY, Logger.noop(), Clock.systemUTC(),
+				Duration.ofSeconds(10));
+	}
+
+	private Part parse(byte[] body) {
+		String text = new String(body, StandardCharsets.ISO_8859_1);
+		String delimiter = "--" + BOUNDARY + "\r\n";
+		String closeDelimiter = "\r\n--" + BOUNDARY + "--\r\n";
+		assertThat(text).startsWith(delimiter).endsWith(closeDelimiter);
+		int headersEnd = text.indexOf("\r\n\r\n");
+		Map<String, String> headers = new LinkedHashMap<>();
+		for (String line : text.substring(delimiter.length(), headersEnd).split("\r\n")) {
+			int separator = line.indexOf(':');
+			headers.put(line.substring(0, separator), line.substring(separator + 1).trim());
+		}
+		byte[] content = Arrays.copyOfRange(body, headersEnd + 4, body.length - closeDelimiter.length());
+		// The body has exactly one part
+		int nextDelimiter = text.indexOf("--" + BOUNDARY, delimiter.length());
+		assertThat(nextDelimiter).isEqualTo(text.length() - closeDelimiter.length() + 2);
+		return new Part(headers, content);
+	}
+
+	private record Part(Map<String, String> headers, byte[] content) {
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.github.actions.nexussync.sonatype.Deployment.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PredictivePollingStrategy}.
+ *
+ * @author Moritz Halbritter
+ */
+class PredictivePollingStrategyTests {
+
+	private final PredictivePollingStrategy strategy = new PredictivePollingStrategy(
+			PollingStrategy.fixed(Duration.ofSeconds(5)),
+			new StatusPrediction(Map.of(Status.VALIDATING, Duration.ofSeconds(120)), 3), Duration.ofMinutes(1));
+
+	@Test
+	void shouldWaitHalfOfTheRemainingTimeIfPredictionIsFarAway() {
+		assertThat(this.strategy.getDelay(Status.VALIDATING, 1, Duration.ZERO)).isEqualTo(Duration.ofSeconds(60));
+		assertThat(this.strategy.getDelay(Status.VALIDATING, 2, Duration.ofSeconds(60)))
+			.isEqualTo(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void shouldNotWaitLongerThanMaxDelay() {
+		PredictivePollingStrategy strategy = new PredictivePollingStrategy(PollingStrategy.fixed(Duration.ofSeconds(5)),
+				new StatusPrediction(Map.of(Status.VALIDATING, Duration.ofHours(1)), 3), Duration.ofMinutes(1));
+		assertThat(strategy.getDelay(Status.VALIDATING, 1, Duration.ZERO)).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void shouldDelegateIfPredictionIsClose() {
+		assertThat(this.strategy.getDelay(Status.VALIDATING, 5, Duration.ofSeconds(115)))
+			.isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void shouldDelegateIfPredictionHasPassed() {
+		assertThat(this.strategy.getDelay(Status.VALIDATING, 5, Duration.ofSeconds(300)))
+			.isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void shouldDelegateIfThereIsNoPrediction() {
+		assertThat(this.strategy.getDelay(Status.PENDING, 1, Duration.ZERO)).isEqualTo(Duration.ofSeconds(5));
+		assertThat(this.strategy.getDelay(null, 1, Duration.ZERO)).isEqualTo(Duration.ofSeconds(5));
+	}
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link Retrier}.
+ *
+ * @author Moritz Halbritter
+ */
+class RetrierTests {
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	private final Retrier retrier = new Retrier(Logger.noop(), Clock.systemUTC(), Duration.ofMillis(1),
+			Duration.ofMillis(10), Duration.ofSeconds(5), new Random(42), this.scheduler);
+
+	@AfterEach
+	void tearDown() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	void shouldReturnResultWithoutRetrying() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = execute(this.retrier, "Test", () -> {
+			attempts.incrementAndGet();
+			return "result";
+		});
+		assertThat(result).isEqualTo("result");
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRetryRetryableStatuses() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = execute(this.retrier, "Test", () -> {
+			switch (attempts.incrementAndGet()) {
+				case 1 -> throw responseException(HttpStatus.TOO_MANY_REQUESTS, null);
+				case 2 -> throw responseException(HttpStatus.BAD_GATEWAY, null);
+				case 3 -> throw responseException(HttpStatus.SERVICE_UNAVAILABLE, null);
+				case 4 -> throw responseException(HttpStatus.GATEWAY_TIMEOUT, null);
+				default -> {
+					return "result";
+				}
+			}
+		});
+		assertThat(result).isEqualTo("result");
+		assertThat(attempts.get()).isEqualTo(5);
+	}
+
+	@Test
+	void shouldRetryConnectionResets() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = execute(this.retrier, "Test", () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new ResourceAccessException("I/O error", new SocketException("Connection reset"));
+			}
+			return "result";
+		});
+		assertThat(result).isEqualTo("result");
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldNotRetryOtherStatuses() {
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(RestClientResponseException.class)
+			.isThrownBy(() -> execute(this.retrier, "Test", () -> {
+				attempts.incrementAndGet();
+				throw responseException(HttpStatus.BAD_REQUEST, null);
+			}));
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldHonourRetryAfter() {
+		AtomicInteger attempts = new AtomicInteger();
+		long start = System.nanoTime();
+		execute(this.retrier, "Test", () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw responseException(HttpStatus.SERVICE_UNAVAILABLE, "1");
+			}
+			return "result";
+		});
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void shouldGiveUpIfRetryAfterExceedsBudget() {
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(RestClientResponseException.class)
+			.isThrownBy(() -> execute(this.retrier, "Test", () -> {
+				attempts.incrementAndGet();
+				throw responseException(HttpStatus.TOO_MANY_REQUESTS, "60");
+			}));
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldGiveUpIfBudgetIsUsedUp() {
+		Retrier retrier = new Retrier(Logger.noop(), Clock.systemUTC(), Duration.ofMillis(10), Duration.ofMillis(20),
+				Duration.ofMillis(100), new Random(42), this.scheduler);
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(ResourceAccessException.class).isThrownBy(() -> execute(retrier, "Test", () -> {
+			attempts.incrementAndGet();
+			throw new ResourceAccessException("I/O error", new IOException("Unexpected end of file"));
+		}));
+		assertThat(attempts.get()).isBetween(3, 20);
+	}
+
+	@Test
+	void shouldOnlyRetryRejectedNonIdempotentRequests() {
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(RestClientResponseException.class)
+			.isThrownBy(() -> executeNonIdempotent("Test", () -> {
+				switch (attempts.incrementAndGet()) {
+					case 1 -> throw responseException(HttpStatus.TOO_MANY_REQUESTS, null);
+					case 2 -> throw responseException(HttpStatus.SERVICE_UNAVAILABLE, null);
+					default -> throw responseException(HttpStatus.BAD_GATEWAY, null);
+				}
+			}));
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldRetryNonIdempotentRequestsWhichCouldNotConnect() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = executeNonIdempotent("Test", () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new ResourceAccessException("I/O error", new ConnectException("Connection refused"));
+			}
+			return "result";
+		});
+		assertThat(result).isEqualTo("result");
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldNotRetryNonIdempotentRequestsWhichFailedWhileSending() {
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatExceptionOfType(ResourceAccessException.class).isThrownBy(() -> executeNonIdempotent("Test", () -> {
+			attempts.incrementAndGet();
+			throw new ResourceAccessException("I/O error", new SocketException("Connection reset"));
+		}));
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotBlockWhileWaitingToRetry() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = this.retrier.execute("Test", () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw responseException(HttpStatus.SERVICE_UNAVAILABLE, "1");
+			}
+			return "result";
+		}, this.scheduler);
+		Thread.sleep(100);
+		assertThat(result.isDone()).isFalse();
+		assertThat(attempts.get()).isEqualTo(1);
+		assertThat(result.join()).isEqualTo("result");
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldStopRetryingWhenCancelled() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = this.retrier.execute("Test", () -> {
+			attempts.incrementAndGet();
+			throw responseException(HttpStatus.SERVICE_UNAVAILABLE, null);
+		}, this.scheduler);
+		Thread.sleep(20);
+		result.cancel(false);
+		int cancelledAfter = attempts.get();
+		Thread.sleep(100);
+		assertThat(attempts.get()).isLessThanOrEqualTo(cancelledAfter + 1);
+	}
+
+	private <T> T execute(Retrier retrier, String description, Supplier<T> request) {
+		try {
+			return retrier.execute(description, request, this.scheduler).join();
+		}
+		catch (CompletionException ex) {
+			throw (RuntimeException) ex.getCause();
+		}
+	}
+
+	private <T> T executeNonIdempotent(String description, Supplier<T> request) {
+		try {
+			return this.retrier.executeNonIdempotent(description, request, this.scheduler).join();
+		}
+		catch (CompletionException ex) {
+			throw (RuntimeException) ex.getCause();
+		}
+	}
+
+	private static RestClientResponseException responseException(HttpStatus status, String retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null) {
+			headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+		}
+		return new RestClientResponseException(status.name(), status, status.name(), headers,
+				status.name().getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.sonatype;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.github.actions.nexussync.system.Logger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link UploadProgressOutputStream}.
+ *
+ * @author Moritz Halbritter
+ */
+class UploadProgressOutputStreamTests {
+
+	private static final int MEGABYTE = 1024 * 1024;
+
+	private final MutableClock clock = new MutableClock();
+
+	private final CapturingLogger logger = new CapturingLogger();
+
+	@Test
+	void shouldReportProgressInInterval() throws IOException {
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		UploadProgressOutputStream stream = new UploadProgressOutputStream(target, this.logger, this.clock,
+				Duration.ofSeconds(10), 4 * MEGABYTE);
+		stream.write(new byte[MEGABYTE]);
+		assertThat(this.logger.messages).isEmpty();
+		this.clock.advance(Duration.ofSeconds(10));
+		stream.write(new byte[MEGABYTE]);
+		assertThat(this.logger.messages).containsExactly(
+				"Uploaded 2.00 of 4.00 MB (50%), current 0.20 MB/s, average 0.20 MB/s, ETA PT10S");
+		this.clock.advance(Duration.ofSeconds(5));
+		stream.write(new byte[MEGABYTE]);
+		assertThat(this.logger.messages).hasSize(1);
+		this.clock.advance(Duration.ofSeconds(5));
+		stream.write(new byte[MEGABYTE]);
+		assertThat(this.logger.messages).hasSize(2);
+		assertThat(this.logger.messages.get(1)).isEqualTo(
+				"Uploaded 4.00 of 4.00 MB (100%), current 0.20 MB/s, average 0.20 MB/s, ETA PT0S");
+		assertThat(target.size()).isEqualTo(4 * MEGABYTE);
+	}
+
+	@Test
+	void shouldReportProgressWithoutEtaIfSizeIsUnknown() throws IOException {
+		UploadProgressOutputStream stream = new UploadProgressOutputStream(new ByteArrayOutputStream(), this.logger,
+				this.clock, Duration.ofSeconds(10), UploadProgressOutputStream.UNKNOWN_SIZE);
+		this.clock.advance(Duration.ofSeconds(10));
+		stream.write(new byte[MEGABYTE]);
+		assertThat(this.logger.messages).containsExactly("Uploaded 1.00 MB, current 0.10 MB/s, average 0.10 MB/s");
+	}
+
+	@Test
+	void finishShouldReturnStatistics() throws IOException {
+		UploadProgressOutputStream stream = new UploadProgressOutputStream(new ByteArrayOutputStream(), this.logger,
+				this.clock, Duration.ofSeconds(10), UploadProgressOutputStream.UNKNOWN_SIZE);
+		stream.write(new byte[2 * MEGABYTE]);
+		this.clock.advance(Duration.ofSeconds(4));
+		UploadStatistics statistics = stream.finish();
+		assertThat(statistics.bytes()).isEqualTo(2 * MEGABYTE);
+		assertThat(statistics.duration()).isEqualTo(Duration.ofSeconds(4));
+		assertThat(statistics.megabytesPerSecond()).isEqualTo(0.5);
+		assertThat(this.logger.messages).containsExactly("Uploaded 2.00 MB in PT4S, average 0.50 MB/s");
+	}
+
+	private static final class CapturingLogger implements Logger {
+
+		private final List<String> messages = new ArrayList<>();
+
+		@Override
+		public void log(String message, Object... args) {
+			for (Object arg : args) {
+				message = message.replaceFirst("\\{}", String.valueOf(arg));
+			}
+			this.messages.add(message);
+		}
+
+		@Override
+		public void error(String message, Object... args) {
+		}
+
+		@Override
+		public void debug(String message, Object... args) {
+		}
+
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
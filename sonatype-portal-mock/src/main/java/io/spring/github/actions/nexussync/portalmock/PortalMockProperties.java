@@ -17,8 +17,12 @@
 package io.spring.github.actions.nexussync.portalmock;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -40,6 +44,9 @@ public class PortalMockProperties {
 	@Valid
 	private final Deployment deployment = new Deployment();
 
+	@Valid
+	private final Faults faults = new Faults();
+
 	public Token getToken() {
 		return this.token;
 	}
@@ -48,6 +55,10 @@ public class PortalMockProperties {
 		return this.deployment;
 	}
 
+	public Faults getFaults() {
+		return this.faults;
+	}
+
 	@Validated
 	public static class Deployment {
 
@@ -64,6 +75,44 @@ public class PortalMockProperties {
 
 	}
 
+	@Validated
+	public static class Faults {
+
+		@NotNull
+		private List<String> sequence = new ArrayList<>();
+
+		@DecimalMin("0.0")
+		@DecimalMax("1.0")
+		private double rate;
+
+		private Duration retryAfter;
+
+		public List<String> getSequence() {
+			return this.sequence;
+		}
+
+		public void setSequence(List<String> sequence) {
+			this.sequence = sequence;
+		}
+
+		public double getRate() {
+			return this.rate;
+		}
+
+		public void setRate(double rate) {
+			this.rate = rate;
+		}
+
+		public Duration getRetryAfter() {
+			return this.retryAfter;
+		}
+
+		public void setRetryAfter(Duration retryAfter) {
+			this.retryAfter = retryAfter;
+		}
+
+	}
+
 	@Validated
 	public static class Token {
 
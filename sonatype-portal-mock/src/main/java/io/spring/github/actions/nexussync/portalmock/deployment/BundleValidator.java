@@ -33,14 +33,20 @@ import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 /**
- * Validates bundles.
+ * Validates bundles. Public, so that the tests of the action can check the bundles it
+ * creates.
  *
  * @author Moritz Halbritter
  */
 @Component
-class BundleValidator {
+public class BundleValidator {
 
-	void validate(Path bundle) {
+	/**
+	 * Validates the given bundle.
+	 * @param bundle the bundle
+	 * @throws RuntimeException if the bundle is invalid
+	 */
+	public void validate(Path bundle) {
 		if (!Files.exists(bundle)) {
 			throw new DeploymentFailedException("Bundle at '%s' doesn't exist".formatted(bundle.toAbsolutePath()));
 		}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.portalmock.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * {@link jakarta.servlet.Filter} which injects faults into requests. The faults of the
+ * sequence are injected, in order, into the first requests. Afterwards a random fault is
+ * injected with the configured rate. A fault is either an HTTP status code or a
+ * connection reset, which aborts the response after a part of it has been sent.
+ *
+ * @author Moritz Halbritter
+ */
+class FaultInjectionFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FaultInjectionFilter.class);
+
+	private static final int RESET = -1;
+
+	private static final List<Integer> RANDOM_FAULTS = List.of(429, 502, 503, 504, RESET);
+
+	private final Queue<Integer> sequence;
+
+	private final double rate;
+
+	@Nullable
+	private final Duration retryAfter;
+
+	FaultInjectionFilter(List<String> sequence, double rate, @Nullable Duration retryAfter) {
+		this.sequence = new ConcurrentLinkedQueue<>(sequence.stream().map(FaultInjectionFilter::parse).toList());
+		this.rate = rate;
+		this.retryAfter = retryAfter;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Integer fault = nextFault();
+		if (fault == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (fault == RESET) {
+			LOGGER.info("Injecting connection reset into {} {}", request.getMethod(), request.getRequestURI());
+			resetConnection(response);
+			return;
+		}
+		LOGGER.info("Injecting HTTP {} into {} {}", fault, request.getMethod(), request.getRequestURI());
+		if (this.retryAfter != null && (fault == 429 || fault == 503)) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(this.retryAfter.toSeconds()));
+		}
+		response.sendError(fault);
+	}
+
+	@Nullable
+	private Integer nextFault() {
+		Integer fault = this.sequence.poll();
+		if (fault != null) {
+			return fault;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (this.rate > 0 && random.nextDouble() < this.rate) {
+			return RANDOM_FAULTS.get(random.nextInt(RANDOM_FAULTS.size()));
+		}
+		return null;
+	}
+
+	private void resetConnection(HttpServletResponse response) throws IOException {
+		// Announce more bytes than are sent, the container closes the connection when
+		// the request fails after the response has been committed
+		byte[] partial = "Connection reset".getBytes(StandardCharsets.UTF_8);
+		response.setContentLength(partial.length * 2);
+		response.getOutputStream().write(partial);
+		response.flushBuffer();
+		throw new IOException("Injected connection reset");
+	}
+
+	private static int parse(String fault) {
+		if ("reset".equalsIgnoreCase(fault)) {
+			return RESET;
+		}
+		try {
+			return Integer.parseInt(fault.trim());
+		}
+		catch (NumberFormatException ex) {
+			throw new IllegalArgumentException(
+					"Invalid fault '%s', expected an HTTP status code or 'reset'".formatted(fault), ex);
+		}
+	}
+
+}
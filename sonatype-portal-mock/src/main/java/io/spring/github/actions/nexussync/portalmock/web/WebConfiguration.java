@@ -44,4 +44,16 @@ class WebConfiguration {
 		return registration;
 	}
 
+	@Bean
+	FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(PortalMockProperties properties) {
+		PortalMockProperties.Faults faults = properties.getFaults();
+		FilterRegistrationBean<FaultInjectionFilter> registration = new FilterRegistrationBean<>(
+				new FaultInjectionFilter(faults.getSequence(), faults.getRate(), faults.getRetryAfter()));
+		registration.setAsyncSupported(false);
+		registration.addUrlPatterns("/api/*");
+		registration.setName("faultInjection");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return registration;
+	}
+
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.github.actions.nexussync.portalmock.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link FaultInjectionFilter}.
+ *
+ * @author Moritz Halbritter
+ */
+class FaultInjectionFilterTests {
+
+	@Test
+	void shouldInjectFaultsOfSequenceInOrder() throws Exception {
+		FaultInjectionFilter filter = new FaultInjectionFilter(List.of("503", "reset"), 0, null);
+		MockHttpServletResponse unavailable = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(createRequest(), unavailable, chain);
+		assertThat(unavailable.getStatus()).isEqualTo(503);
+		assertThat(chain.getRequest()).isNull();
+		assertThatIOException().isThrownBy(() -> filter.doFilter(createRequest(), new MockHttpServletResponse(), chain))
+			.withMessage("Injected connection reset");
+		assertThat(chain.getRequest()).isNull();
+		MockHttpServletResponse passed = new MockHttpServletResponse();
+		filter.doFilter(createRequest(), passed, chain);
+		assertThat(passed.getStatus()).isEqualTo(200);
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void shouldAbortResponseOnReset() {
+		FaultInjectionFilter filter = new FaultInjectionFilter(List.of("reset"), 0, null);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		assertThatIOException().isThrownBy(() -> filter.doFilter(createRequest(), response, new MockFilterChain()))
+			.withMessage("Injected connection reset");
+		// The response is committed with fewer bytes than announced, so the container
+		// has to close the connection when the request fails
+		assertThat(response.isCommitted()).isTrue();
+		assertThat(response.getContentAsByteArray().length).isLessThan(response.getContentLength());
+	}
+
+	@Test
+	void shouldSendRetryAfterWithRateLimitAndUnavailableStatus() throws ServletException, IOException {
+		FaultInjectionFilter filter = new FaultInjectionFilter(List.of("429", "503", "502"), 0, Duration.ofSeconds(3));
+		assertThat(filter(filter).getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+		assertThat(filter(filter).getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+		MockHttpServletResponse badGateway = filter(filter);
+		assertThat(badGateway.getStatus()).isEqualTo(502);
+		assertThat(badGateway.getHeader(HttpHeaders.RETRY_AFTER)).isNull();
+	}
+
+	@Test
+	void shouldNotSendRetryAfterIfNotConfigured() throws ServletException, IOException {
+		FaultInjectionFilter filter = new FaultInjectionFilter(List.of("503"), 0, null);
+		MockHttpServletResponse response = filter(filter);
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNull();
+	}
+
+	@Test
+	void shouldPassRequestsThroughIfNoFaultIsConfigured() throws ServletException, IOException {
+		FaultInjectionFilter filter = new FaultInjectionFilter(List.of(), 0, null);
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(createRequest(), new MockHttpServletResponse(), chain);
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void shouldRejectInvalidFaults() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new FaultInjectionFilter(List.of("teapot"), 0, null))
+			.withMessage("Invalid fault 'teapot', expected an HTTP status code or 'reset'");
+	}
+
+	private MockHttpServletResponse filter(FaultInjectionFilter filter) throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(createRequest(), response, new MockFilterChain());
+		return response;
+	}
+
+	private MockHttpServletRequest createRequest() {
+		return new MockHttpServletRequest("POST", "/api/v1/publisher/status");
+	}
+
+}